@@ -3,6 +3,10 @@ package seedu.stock;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -24,9 +28,12 @@ import seedu.stock.model.SerialNumberSetsBook;
 import seedu.stock.model.StockBook;
 import seedu.stock.model.UserPrefs;
 import seedu.stock.model.util.SampleDataUtil;
+import seedu.stock.storage.BinaryStockBookStorage;
+import seedu.stock.storage.JournaledStockBookStorage;
+import seedu.stock.storage.JsonNoteStore;
 import seedu.stock.storage.JsonSerialNumberSetsBookStorage;
-import seedu.stock.storage.JsonStockBookStorage;
 import seedu.stock.storage.JsonUserPrefsStorage;
+import seedu.stock.storage.RecordStockBookStorage;
 import seedu.stock.storage.SerialNumberSetsBookStorage;
 import seedu.stock.storage.StockBookStorage;
 import seedu.stock.storage.Storage;
@@ -43,6 +50,7 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 6, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final int STARTUP_THREAD_COUNT = 3;
 
     protected Ui ui;
     protected Logic logic;
@@ -50,43 +58,88 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private StartupTimer startupTimer;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing StockBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        // the stages that do not depend on each other run in parallel:
+        // fxml files || config -> prefs -> (stock book || serial number sets book) -> model -> logic -> ui
+        StartupTimer timer = new StartupTimer();
+        ExecutorService startupExecutor = Executors.newFixedThreadPool(STARTUP_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "StockBook-startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<Void> fxmlFilesPreload = timer.timeAsync("fxml files", () -> {
+                UiManager.preloadFxmlFiles();
+                return null;
+            }, startupExecutor);
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        StockBookStorage stockBookStorage = new JsonStockBookStorage(userPrefs.getStockBookFilePath());
-        SerialNumberSetsBookStorage serialNumberSetsBookStorage =
-                                new JsonSerialNumberSetsBookStorage(userPrefs.getSerialNumberSetsBookFilePath());
-        storage = new StorageManager(stockBookStorage, userPrefsStorage, serialNumberSetsBookStorage);
+            AppParameters appParameters = AppParameters.parse(getParameters());
+            config = timer.time("config", () -> initConfig(appParameters.getConfigPath()));
+            initLogging(config);
 
-        initLogging(config);
+            UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+            UserPrefs userPrefs = timer.time("prefs", () -> initPrefs(userPrefsStorage));
+            storage = initStorage(userPrefsStorage, userPrefs);
 
-        model = initModelManager(storage, userPrefs);
+            CompletableFuture<Optional<ReadOnlyStockBook>> stockBookRead =
+                    timer.timeAsync("stock book", storage::readStockBook, startupExecutor);
+            CompletableFuture<Optional<ReadOnlySerialNumberSetsBook>> serialNumberSetsBookRead =
+                    timer.timeAsync("serial number sets book", storage::readSerialNumberSetsBook, startupExecutor);
+            model = timer.time("model", () -> initModelManager(stockBookRead, serialNumberSetsBookRead, userPrefs));
 
-        logic = new LogicManager(model, storage);
+            logic = timer.time("logic", () -> new LogicManager(model, storage));
+
+            fxmlFilesPreload.join();
+            ui = new UiManager(logic);
+        } finally {
+            startupExecutor.shutdown();
+        }
+        startupTimer = timer;
+        logger.info("Startup timing: " + timer.getBreakdown());
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns a {@code Storage} that keeps the data at the file paths in {@code userPrefs}. <br>
+     * Both the stock book and the serial number sets book are kept in the stock book file if it is a record file.
+     */
+    private Storage initStorage(UserPrefsStorage userPrefsStorage, ReadOnlyUserPrefs userPrefs) {
+        Path stockBookFilePath = userPrefs.getStockBookFilePath();
+        if (RecordStockBookStorage.isRecordFilePath(stockBookFilePath)) {
+            // both books are kept in the record file, so that they are saved in the same transaction
+            return new StorageManager(new RecordStockBookStorage(stockBookFilePath), userPrefsStorage);
+        }
+
+        StockBookStorage stockBookStorage = BinaryStockBookStorage.isBinaryFilePath(stockBookFilePath)
+                ? new BinaryStockBookStorage(stockBookFilePath)
+                : new JournaledStockBookStorage(stockBookFilePath,
+                        new JsonNoteStore(JsonNoteStore.getNoteFilePath(stockBookFilePath)));
+        SerialNumberSetsBookStorage serialNumberSetsBookStorage =
+                new JsonSerialNumberSetsBookStorage(userPrefs.getSerialNumberSetsBookFilePath());
+        return new StorageManager(stockBookStorage, userPrefsStorage, serialNumberSetsBookStorage);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s stock book and {@code userPrefs}. <br>
+     * Returns a {@code ModelManager} with the data read from the storage's stock book and {@code userPrefs}. <br>
      * The data from the sample stock book will be used instead if {@code storage}'s stock book is not found,
      * or an empty stock book will be used instead if errors occur when reading {@code storage}'s stock book.
+     * The books read are handed to the model as they are, without being copied.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(CompletableFuture<Optional<ReadOnlyStockBook>> stockBookRead,
+                                   CompletableFuture<Optional<ReadOnlySerialNumberSetsBook>> serialNumberSetsBookRead,
+                                   ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyStockBook> stockBookOptional;
         Optional<ReadOnlySerialNumberSetsBook> serialNumberSetsBookOptional;
         ReadOnlyStockBook initialData;
         ReadOnlySerialNumberSetsBook initialSerialNumberSetsBookData;
         try {
-            stockBookOptional = storage.readStockBook();
-            serialNumberSetsBookOptional = storage.readSerialNumberSetsBook();
+            stockBookOptional = getReadResult(stockBookRead);
+            serialNumberSetsBookOptional = getReadResult(serialNumberSetsBookRead);
             if (!stockBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample StockBook");
             }
@@ -106,7 +159,30 @@ public class MainApp extends Application {
             initialSerialNumberSetsBookData = new SerialNumberSetsBook();
         }
 
-        return new ModelManager(initialData, userPrefs, initialSerialNumberSetsBookData);
+        StockBook stockBook = initialData instanceof StockBook
+                ? (StockBook) initialData
+                : new StockBook(initialData);
+        SerialNumberSetsBook serialNumberSetsBook = initialSerialNumberSetsBookData instanceof SerialNumberSetsBook
+                ? (SerialNumberSetsBook) initialSerialNumberSetsBookData
+                : new SerialNumberSetsBook(initialSerialNumberSetsBookData);
+        return ModelManager.ofOwnedBooks(stockBook, userPrefs, serialNumberSetsBook);
+    }
+
+    /**
+     * Waits for {@code read} to complete and returns the data read, or throws the exception the read threw.
+     */
+    private static <T> T getReadResult(CompletableFuture<T> read) throws DataConversionException, IOException {
+        try {
+            return read.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw e;
+        }
     }
 
     private void initLogging(Config config) {
@@ -185,11 +261,20 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting StockBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (startupTimer != null) {
+            logger.info("First window shown " + StartupTimer.getMillisSinceLaunch() + " ms after launch, "
+                    + startupTimer.getElapsedMillis() + " ms after initializing started");
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Stock Book ] =============================");
+        try {
+            logic.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,86 @@
+package seedu.stock;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the stages of the application startup and records how long each stage takes, so that a breakdown of the
+ * startup time can be written to the log.
+ */
+class StartupTimer {
+
+    private final long startTime = System.nanoTime();
+
+    // guarded by this
+    private final Map<String, Long> stageDurations = new LinkedHashMap<>();
+
+    /**
+     * Runs {@code stage} on the current thread and returns its result.
+     */
+    <T> T time(String stageName, Supplier<T> stage) {
+        long stageStartTime = System.nanoTime();
+        try {
+            return stage.get();
+        } finally {
+            record(stageName, stageStartTime);
+        }
+    }
+
+    /**
+     * Runs {@code stage} on {@code executor}.
+     * The returned future completes with the result of the stage, or with the exception thrown by the stage.
+     */
+    <T> CompletableFuture<T> timeAsync(String stageName, Callable<T> stage, Executor executor) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            long stageStartTime = System.nanoTime();
+            T value;
+            try {
+                value = stage.call();
+            } catch (Throwable e) {
+                // the stage is recorded before it completes, so that it is in the breakdown once it is waited for
+                record(stageName, stageStartTime);
+                result.completeExceptionally(e);
+                return;
+            }
+            record(stageName, stageStartTime);
+            result.complete(value);
+        });
+        return result;
+    }
+
+    private synchronized void record(String stageName, long stageStartTime) {
+        stageDurations.put(stageName, System.nanoTime() - stageStartTime);
+    }
+
+    /**
+     * Returns the time in milliseconds since the timer was created.
+     */
+    long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Returns the time in milliseconds since the Java virtual machine was started.
+     */
+    static long getMillisSinceLaunch() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    /**
+     * Returns the time each stage took, in the order the stages finished, followed by the total time.
+     * Stages run in parallel, so the total time may be less than the sum of the times of the stages.
+     */
+    synchronized String getBreakdown() {
+        StringBuilder breakdown = new StringBuilder();
+        stageDurations.forEach((stageName, duration) -> breakdown.append(stageName).append(' ')
+                .append(TimeUnit.NANOSECONDS.toMillis(duration)).append(" ms, "));
+        return breakdown.append("total ").append(getElapsedMillis()).append(" ms").toString();
+    }
+}
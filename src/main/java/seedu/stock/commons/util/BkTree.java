@@ -0,0 +1,136 @@
+package seedu.stock.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A Burkhard-Keller tree of strings, which finds the strings closest to a query without measuring the distance to
+ * every string.
+ * Every child of a node is kept under its distance to the node. As the distance is a metric, a string within
+ * {@code d} of the query can only be under a child whose distance to the node differs from the distance between the
+ * query and the node by at most {@code d}, so most of the tree is skipped.
+ */
+public class BkTree {
+
+    private final ToIntBiFunction<String, String> distance;
+    private Node root;
+    private int size;
+
+    /**
+     * Creates an empty tree of strings that are compared with {@code distance}, which must be a metric.
+     */
+    public BkTree(ToIntBiFunction<String, String> distance) {
+        requireNonNull(distance);
+        this.distance = distance;
+    }
+
+    /**
+     * Adds {@code value} to the tree.
+     *
+     * @return True if the tree did not already contain {@code value}.
+     */
+    public boolean add(String value) {
+        requireNonNull(value);
+        if (root == null) {
+            root = new Node(value, size++);
+            return true;
+        }
+
+        Node node = root;
+        while (true) {
+            int distanceToNode = distance.applyAsInt(value, node.value);
+            if (distanceToNode == 0 && node.value.equals(value)) {
+                return false;
+            }
+            Node child = node.children.get(distanceToNode);
+            if (child == null) {
+                node.children.put(distanceToNode, new Node(value, size++));
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the number of strings in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the string in the tree closest to {@code query} that is within {@code maxDistance} of it and satisfies
+     * {@code isIncluded}, if there is one. Of strings that are equally close, the one added first is returned.
+     */
+    public Optional<String> findClosest(String query, int maxDistance, Predicate<String> isIncluded) {
+        requireNonNull(query);
+        requireNonNull(isIncluded);
+        if (root == null) {
+            return Optional.empty();
+        }
+
+        Node closest = null;
+        int closestDistance = maxDistance;
+        // subtrees are searched from the one that may hold the closest strings, so the search radius shrinks early
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>();
+        candidates.add(new Candidate(root, 0));
+        while (!candidates.isEmpty()) {
+            Candidate candidate = candidates.poll();
+            if (candidate.minimumDistance > closestDistance) {
+                break;
+            }
+
+            Node node = candidate.node;
+            int distanceToNode = distance.applyAsInt(query, node.value);
+            boolean isCloser = distanceToNode < closestDistance
+                    || distanceToNode == closestDistance && (closest == null || node.order < closest.order);
+            if (isCloser && isIncluded.test(node.value)) {
+                closest = node;
+                closestDistance = distanceToNode;
+            }
+
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                int minimumDistance = Math.abs(child.getKey() - distanceToNode);
+                if (minimumDistance <= closestDistance) {
+                    candidates.add(new Candidate(child.getValue(), minimumDistance));
+                }
+            }
+        }
+        return Optional.ofNullable(closest).map(node -> node.value);
+    }
+
+    /**
+     * A subtree to be searched, with a lower bound of the distance between the query and the strings in it.
+     */
+    private static class Candidate implements Comparable<Candidate> {
+        private final Node node;
+        private final int minimumDistance;
+
+        Candidate(Node node, int minimumDistance) {
+            this.node = node;
+            this.minimumDistance = minimumDistance;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return Integer.compare(minimumDistance, other.minimumDistance);
+        }
+    }
+
+    private static class Node {
+        private final String value;
+        private final int order;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String value, int order) {
+            this.value = value;
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.stock.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes rows of comma separated values one at a time, so that the rows never have to be held in memory together.
+ * Fields are quoted only when they contain a separator, a quote, a line break, or leading or trailing spaces, and
+ * quotes within quoted fields are doubled, as described by RFC 4180.
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    public static final char SEPARATOR = ',';
+    public static final String LINE_SEPARATOR = "\r\n";
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final char QUOTE = '"';
+
+    private final Writer writer;
+    private boolean isRowStarted;
+
+    /**
+     * Creates a {@code CsvWriter} that writes to {@code writer}.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    /**
+     * Opens a {@code CsvWriter} that writes UTF-8 text through a buffer to the file at {@code filePath},
+     * replacing its content, and compresses the text with gzip if {@code isCompressed} is true.
+     * Missing parent directories of the file are created.
+     */
+    public static CsvWriter open(Path filePath, boolean isCompressed) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            OutputStream output = Channels.newOutputStream(channel);
+            if (isCompressed) {
+                output = new GZIPOutputStream(output, BUFFER_SIZE);
+            }
+            return new CsvWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8),
+                    BUFFER_SIZE));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes {@code field} as the next field of the current row.
+     */
+    public CsvWriter writeField(String field) throws IOException {
+        requireNonNull(field);
+        if (isRowStarted) {
+            writer.write(SEPARATOR);
+        }
+        isRowStarted = true;
+
+        if (!isQuotingNeeded(field)) {
+            writer.write(field);
+            return this;
+        }
+        writer.write(QUOTE);
+        int start = 0;
+        int quoteIndex = field.indexOf(QUOTE);
+        while (quoteIndex >= 0) {
+            writer.write(field, start, quoteIndex + 1 - start);
+            writer.write(QUOTE);
+            start = quoteIndex + 1;
+            quoteIndex = field.indexOf(QUOTE, start);
+        }
+        writer.write(field, start, field.length() - start);
+        writer.write(QUOTE);
+        return this;
+    }
+
+    /**
+     * Writes {@code fields} as the fields of a complete row.
+     */
+    public void writeRow(String... fields) throws IOException {
+        for (String field : fields) {
+            writeField(field);
+        }
+        endRow();
+    }
+
+    /**
+     * Ends the current row.
+     */
+    public void endRow() throws IOException {
+        writer.write(LINE_SEPARATOR);
+        isRowStarted = false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Returns true if {@code field} has to be quoted to be read back as the same value.
+     */
+    public static boolean isQuotingNeeded(String field) {
+        if (field.isEmpty()) {
+            return false;
+        }
+        if (Character.isWhitespace(field.charAt(0)) || Character.isWhitespace(field.charAt(field.length() - 1))) {
+            return true;
+        }
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,39 +1,65 @@
 package seedu.stock.commons.util;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.stock.model.Model;
+import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.Stock;
 import seedu.stock.model.stock.predicates.FieldContainsKeywordsPredicate;
 
 /**
- * Utility to combines a list of predicates to test into one predicate.
+ * Utility to combine a list of predicates into one predicate, using the search index of the model.
  */
 public class FindUtil {
 
     /**
-     * Returns a predicate where if only one of the predicate in the list of predicates provided
-     * tests true, then it tests true.
+     * Returns a predicate that tests true for the stocks in the model that match at least one of the
+     * predicates provided, by taking the union of the serial numbers matched in the search index.
+     * @param model model containing the stocks to search
      * @param predicates list of predicates to test
-     * @return combined predicate
+     * @return predicate testing membership in the union of the matches
      */
-    public static Predicate<Stock> getCombinedPredicatesWithOr(List<FieldContainsKeywordsPredicate> predicates) {
-        List<Predicate<Stock>> predicateList = new ArrayList<>();
-        predicates.forEach(predicate -> predicateList.add(predicate));
-        return predicateList.stream().reduce(x -> false, Predicate::or);
+    public static Predicate<Stock> getIndexedPredicateWithOr(Model model,
+            List<FieldContainsKeywordsPredicate> predicates) {
+        Set<SerialNumber> matches = new HashSet<>();
+        predicates.forEach(predicate -> matches.addAll(model.findMatchingSerialNumbers(predicate)));
+        return getMembershipPredicate(matches);
     }
 
     /**
-     * Returns a predicate where if all of the predicate in the list of predicates provided
-     * tests true, then it tests true.
+     * Returns a predicate that tests true for the stocks in the model that match all of the
+     * predicates provided, by taking the intersection of the serial numbers matched in the search index.
+     * @param model model containing the stocks to search
      * @param predicates list of predicates to test
-     * @return combined predicate
+     * @return predicate testing membership in the intersection of the matches
      */
-    public static Predicate<Stock> getCombinedPredicatesWithAnd(List<FieldContainsKeywordsPredicate> predicates) {
-        List<Predicate<Stock>> predicateList = new ArrayList<>();
-        predicates.forEach(predicate -> predicateList.add(predicate));
-        return predicateList.stream().reduce(x -> true, Predicate::and);
+    public static Predicate<Stock> getIndexedPredicateWithAnd(Model model,
+            List<FieldContainsKeywordsPredicate> predicates) {
+        Set<SerialNumber> matches = null;
+        for (FieldContainsKeywordsPredicate predicate : predicates) {
+            Set<SerialNumber> predicateMatches = model.findMatchingSerialNumbers(predicate);
+            if (matches == null) {
+                matches = new HashSet<>(predicateMatches);
+            } else {
+                matches.retainAll(predicateMatches);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+
+        if (matches == null) {
+            // no predicates means every stock matches, as none of them rules a stock out
+            return x -> true;
+        }
+        return getMembershipPredicate(matches);
+    }
+
+    private static Predicate<Stock> getMembershipPredicate(Set<SerialNumber> serialNumbers) {
+        return stock -> serialNumbers.contains(stock.getSerialNumber());
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.stock.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +12,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,6 +44,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // writes values to a generator without flushing the generator after every value
+    private static ObjectWriter streamingWriter =
+            objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -110,6 +119,56 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns a parser that reads the JSON data in the given file as a stream of tokens, so that the file
+     * does not have to be held in memory as a whole. The parser must be closed after use.
+     * @param filePath cannot be null.
+     */
+    public static JsonParser createFileParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a generator that writes JSON data to {@code output} as it is generated.
+     * Closing the generator closes {@code output}.
+     * @param output cannot be null.
+     * @param isCompact whether the data is written without indentation and line breaks.
+     */
+    public static JsonGenerator createGenerator(OutputStream output, boolean isCompact) throws IOException {
+        requireNonNull(output);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        return isCompact ? generator : generator.useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Reads the JSON value at the current token of {@code parser} into an instance of a class.
+     * @param <T> The generic type to create an instance of
+     * @return The instance of T with the values read, after which the parser is at the last token of the value
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
+    /**
+     * Writes a given instance of a class as the next JSON value of {@code generator}.
+     * @param instance The T object to be converted into JSON
+     * @param <T> The generic type of the instance
+     */
+    public static <T> void writeValue(JsonGenerator generator, T instance) throws IOException {
+        streamingWriter.writeValue(generator, instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,241 @@
+package seedu.stock.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.stock.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares structure between versions.
+ * The elements are kept in a height balanced binary tree ordered by position. Appending, replacing or removing
+ * an element returns a new list that copies only the O(log n) nodes on the path to that position and shares the
+ * rest with this list, so holding on to an older version (a snapshot) costs nothing and is never affected by
+ * later changes.
+ * Does not allow nulls. The mutating methods of {@code List} are not supported.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty {@code PersistentList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentList} with the elements of {@code elements} in iteration order.
+     * If {@code elements} is already a {@code PersistentList}, it is returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> of(Collection<? extends E> elements) {
+        requireAllNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+
+        List<E> elementList = new ArrayList<>(elements);
+        return elementList.isEmpty() ? empty() : new PersistentList<>(build(elementList, 0, elementList.size()));
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the elements of this list.
+     */
+    public PersistentList<E> plus(E element) {
+        requireNonNull(element);
+        return new PersistentList<>(insert(root, size(), element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index);
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index);
+        Node<E> newRoot = remove(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftSpine(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftSpine(node.right);
+                return node.value;
+            }
+
+            private void pushLeftSpine(Node<E> node) {
+                for (Node<E> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    //// tree operations, each returning a new root and leaving the given nodes untouched
+
+    private static <E> Node<E> build(List<E> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(elements.get(middle), build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+
+        // replace the removed element with the first element of the right subtree
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node with {@code value} and the given subtrees, rotated if their heights differ by more than one.
+     * The heights of the subtrees must differ by at most two.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value, new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value, new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node, which may be shared by many versions of the list.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+}
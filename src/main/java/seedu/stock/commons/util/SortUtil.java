@@ -1,6 +1,5 @@
 package seedu.stock.commons.util;
 
-import java.math.BigInteger;
 import java.util.Comparator;
 
 import seedu.stock.model.stock.Stock;
@@ -166,9 +165,9 @@ public class SortUtil {
         return new Comparator<Stock>() {
             @Override
             public int compare(Stock a, Stock b) {
-                BigInteger quantityA = new BigInteger(a.getQuantity().toString());
-                BigInteger quantityB = new BigInteger(b.getQuantity().toString());
-                return quantityA.compareTo(quantityB);
+                int quantityA = a.getQuantity().getQuantityAsInt();
+                int quantityB = b.getQuantity().getQuantityAsInt();
+                return Integer.compare(quantityA, quantityB);
             }
         };
     }
@@ -17,6 +17,7 @@ public class SuggestionUtil {
     /**
      * Returns the minimum edit needed to change {@code str1} to {@code str2}.
      * Edit consists of remove, replace, or insert.
+     * The distance is a metric, so it can be used to index strings in a {@code BkTree}.
      *
      * @param str1 The string to be edited.
      * @param str2 The target string to be achieved.
@@ -25,29 +26,34 @@ public class SuggestionUtil {
     public static int minimumEditDistance(String str1, String str2) {
         int str1Length = str1.length();
         int str2Length = str2.length();
-        int[][] dp = new int[str1Length + 1][str2Length + 1];
+
+        // only the previous row of the table is needed to fill up the current row
+        int[] previousRow = new int[str2Length + 1];
+        int[] currentRow = new int[str2Length + 1];
 
         // fill up base case
-        for (int i = 0; i <= str1Length; i++) {
-            dp[i][0] = 2 * i;
-        }
         for (int j = 0; j <= str2Length; j++) {
-            dp[0][j] = 2 * j;
+            previousRow[j] = 2 * j;
         }
 
         // fill up table
         // insertion cost: 2, remove cost: 2, replace cost: 3
         for (int i = 1; i <= str1Length; i++) {
+            currentRow[0] = 2 * i;
+            char str1Char = str1.charAt(i - 1);
             for (int j = 1; j <= str2Length; j++) {
-                if (str1.charAt(i - 1) == str2.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1];
+                if (str1Char == str2.charAt(j - 1)) {
+                    currentRow[j] = previousRow[j - 1];
                 } else {
-                    dp[i][j] = min(dp[i - 1][j - 1] + 3, dp[i - 1][j] + 2, dp[i][j - 1] + 2);
+                    currentRow[j] = min(previousRow[j - 1] + 3, previousRow[j] + 2, currentRow[j - 1] + 2);
                 }
             }
+            int[] filledRow = previousRow;
+            previousRow = currentRow;
+            currentRow = filledRow;
         }
 
-        int result = dp[str1Length][str2Length];
+        int result = previousRow[str2Length];
         assert result >= 0 : "Invalid edit distance";
         return result;
     }
@@ -0,0 +1,93 @@
+package seedu.stock.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical instances of an immutable value class, so that equal values share a single instance.
+ * The pool only holds weak references, so an instance is dropped from it once nothing else uses it.
+ *
+ * The pool is a concurrent map, so that values can be interned from several threads at once without waiting
+ * for each other. The references to dropped instances are removed from the map as they are queued by the
+ * garbage collector.
+ *
+ * @param <T> The type of the values, which must be immutable.
+ */
+public class WeakInterner<T> {
+
+    private final ConcurrentMap<ValueReference<T>, ValueReference<T>> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> droppedValues = new ReferenceQueue<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, which is {@code value} itself if the pool does not
+     * hold an equal instance yet.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        removeDroppedValues();
+        ValueReference<T> reference = new ValueReference<>(value, droppedValues);
+        while (true) {
+            ValueReference<T> canonicalReference = pool.putIfAbsent(reference, reference);
+            if (canonicalReference == null) {
+                return value;
+            }
+            T canonicalValue = canonicalReference.get();
+            if (canonicalValue != null) {
+                return canonicalValue;
+            }
+            // the canonical instance was dropped after it was found, so it is replaced
+            pool.remove(canonicalReference, canonicalReference);
+        }
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool that have not been dropped yet.
+     */
+    public int size() {
+        removeDroppedValues();
+        return pool.size();
+    }
+
+    private void removeDroppedValues() {
+        Reference<? extends T> droppedValue = droppedValues.poll();
+        while (droppedValue != null) {
+            pool.remove(droppedValue, droppedValue);
+            droppedValue = droppedValues.poll();
+        }
+    }
+
+    /**
+     * A weak reference to a value that is equal to another reference to an equal value, and keeps the hash code
+     * of the value so that it can still be removed from the pool once the value is dropped.
+     */
+    private static class ValueReference<T> extends WeakReference<T> {
+        private final int hashCode;
+
+        ValueReference(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.hashCode = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof ValueReference)) {
+                return false;
+            }
+            Object value = get();
+            return value != null && value.equals(((ValueReference<?>) other).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
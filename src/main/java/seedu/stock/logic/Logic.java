@@ -1,5 +1,6 @@
 package seedu.stock.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
@@ -53,4 +54,12 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     Model getModel();
+
+    /**
+     * Saves any unsaved changes and waits for all saves to complete.
+     * No more commands should be executed afterwards.
+     *
+     * @throws IOException If an error occurs while saving.
+     */
+    void shutdown() throws IOException;
 }
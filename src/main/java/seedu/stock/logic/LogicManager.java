@@ -1,6 +1,7 @@
 package seedu.stock.logic;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
@@ -18,25 +19,42 @@ import seedu.stock.model.Model;
 import seedu.stock.model.ReadOnlyStockBook;
 import seedu.stock.model.stock.Stock;
 import seedu.stock.storage.Storage;
+import seedu.stock.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
+ * Changes made by commands are saved to storage in the background, and only the data that has changed since
+ * it was last saved is written. Data whose save has failed is saved again after the next command and on shutdown.
+ * A {@code RunCommand} is executed like any other command, so the changes of all commands of its script are saved
+ * together once it has finished.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String FILE_READ_ERROR_MESSAGE = "Could not read data from file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindSaver saver;
     private final StockBookParser stockBookParser;
+    private long savedStockBookVersion;
+    private long savedSerialNumberSetsBookVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new WriteBehindSaver(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves its changes with {@code saver}.
+     */
+    LogicManager(Model model, WriteBehindSaver saver) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
         stockBookParser = new StockBookParser();
+        savedStockBookVersion = model.getStockBookVersion();
+        savedSerialNumberSetsBookVersion = model.getSerialNumberSetsBookVersion();
     }
 
     @Override
@@ -44,13 +62,18 @@ public class LogicManager implements Logic {
             SourceCompanyNotFoundException, SerialNumberNotFoundException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = stockBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } catch (UncheckedIOException e) {
+            // the notes of a stock, which are read when they are first used, could not be read
+            throw new CommandException(FILE_READ_ERROR_MESSAGE + e.getCause(), e);
+        }
 
         try {
-            storage.saveStockBook(model.getStockBook());
-            storage.saveSerialNumberSetsBook(model.getSerialNumberSetsBook());
+            requestSaveIfChanged();
+            saver.checkFailure();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -58,6 +81,34 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void shutdown() throws IOException {
+        requestSaveIfChanged();
+        saver.shutdown();
+    }
+
+    /**
+     * Requests snapshots of the books that have changed since they were last saved to be saved in the background,
+     * together with any data whose save has failed.
+     */
+    private void requestSaveIfChanged() {
+        long stockBookVersion = model.getStockBookVersion();
+        long serialNumberSetsBookVersion = model.getSerialNumberSetsBookVersion();
+        boolean isStockBookChanged = stockBookVersion != savedStockBookVersion;
+        boolean isSerialNumberSetsBookChanged = serialNumberSetsBookVersion != savedSerialNumberSetsBookVersion;
+        if (!isStockBookChanged && !isSerialNumberSetsBookChanged) {
+            saver.requestSave(null, null);
+            return;
+        }
+
+        // the saver keeps the snapshots until they are saved, so they count as saved here even if the save fails
+        logger.fine("Saving changed data in the background");
+        saver.requestSave(isStockBookChanged ? model.getStockBookSnapshot() : null,
+                isSerialNumberSetsBookChanged ? model.getSerialNumberSetsBookSnapshot() : null);
+        savedStockBookVersion = stockBookVersion;
+        savedSerialNumberSetsBookVersion = serialNumberSetsBookVersion;
+    }
+
     @Override
     public ReadOnlyStockBook getStockBook() {
         return model.getStockBook();
@@ -18,6 +18,7 @@ import java.util.logging.Logger;
 import seedu.stock.commons.core.LogsCenter;
 import seedu.stock.logic.commands.exceptions.CommandException;
 import seedu.stock.model.Model;
+import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.Stock;
 
 /**
@@ -64,10 +65,11 @@ public class AddCommand extends Command {
         if (model.hasStock(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_STOCK);
         } else {
-            toAdd.setSerialNumber(model.generateNextSerialNumber(toAdd.getSource()));
-            model.addStock(toAdd);
+            Stock stockToAdd = toAdd.withSerialNumber(
+                    new SerialNumber(model.generateNextSerialNumber(toAdd.getSource())));
+            model.addStock(stockToAdd);
             logger.log(Level.INFO, "Finished adding stock successfully");
-            return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+            return new CommandResult(String.format(MESSAGE_SUCCESS, stockToAdd));
         }
     }
 
@@ -0,0 +1,90 @@
+package seedu.stock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.stock.commons.core.LogsCenter;
+
+/**
+ * Work that a command started on a background thread, which reports its progress to the user as messages.
+ * The last message reported is the final message of the work, or the message of the error that stopped it.
+ */
+public class BackgroundTask {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundTask.class);
+
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+
+    // guarded by this
+    private String progress;
+    private Consumer<String> progressListener;
+
+    private BackgroundTask(String initialProgress) {
+        progress = initialProgress;
+    }
+
+    /**
+     * Starts {@code work} on {@code executor}, with {@code initialProgress} as the progress until the work
+     * reports otherwise.
+     * If the work fails, {@code failureMessage} followed by the message of the error is reported.
+     */
+    public static BackgroundTask start(Work work, Executor executor, String initialProgress, String failureMessage) {
+        requireNonNull(work);
+        requireNonNull(executor);
+        BackgroundTask task = new BackgroundTask(initialProgress);
+        executor.execute(() -> task.run(work, failureMessage));
+        return task;
+    }
+
+    private void run(Work work, String failureMessage) {
+        try {
+            String finalMessage = work.run(this::reportProgress);
+            reportProgress(finalMessage);
+            result.complete(finalMessage);
+        } catch (Exception e) {
+            logger.warning(failureMessage + e);
+            reportProgress(failureMessage + e.getMessage());
+            result.completeExceptionally(e);
+        }
+    }
+
+    private synchronized void reportProgress(String message) {
+        progress = message;
+        if (progressListener != null) {
+            progressListener.accept(message);
+        }
+    }
+
+    /**
+     * Sets the listener to be given every message reported from now on, and gives it the latest message at once.
+     * Later messages are given on the background thread, one message at a time in the order they were reported,
+     * so it should return quickly.
+     */
+    public synchronized void setProgressListener(Consumer<String> listener) {
+        requireNonNull(listener);
+        progressListener = listener;
+        listener.accept(progress);
+    }
+
+    /**
+     * Returns the result of the work, which completes with its final message, or with the error that stopped it.
+     */
+    public CompletableFuture<String> getResult() {
+        return result;
+    }
+
+    /**
+     * Work that runs on a background thread.
+     */
+    @FunctionalInterface
+    public interface Work {
+        /**
+         * Does the work, reporting its progress through {@code progressReporter}, and returns its final message.
+         */
+        String run(Consumer<String> progressReporter) throws Exception;
+    }
+}
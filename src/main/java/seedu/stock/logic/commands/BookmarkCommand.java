@@ -6,6 +6,7 @@ import static seedu.stock.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER_DESCRIPTIO
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -59,42 +60,20 @@ public class BookmarkCommand extends Command {
         logger.log(Level.INFO, "Starting to execute bookmark command");
         requireNonNull(model);
         model.updateFilteredStockList(Model.PREDICATE_SHOW_ALL_STOCKS);
-        List<Stock> lastShownStocks = model.getFilteredStockList();
 
         List<SerialNumber> serialNumbers = targetSerialNumbers.stream().collect(Collectors.toList());
-        List<String> serials = serialNumbers.stream().map((serial) -> serial.toString().trim())
-                .collect(Collectors.toCollection(ArrayList::new));
         List<Stock> stocksToBookmark = new ArrayList<>();
         List<String> stocksNotFound = new ArrayList<>();
         List<Stock> notUpdatedStocks = new ArrayList<>();
         List<Stock> updatedStocks = new ArrayList<>();
 
-        // Find serials that are not found
-        for (String currentSerialNumber : serials) {
-            boolean noMatches = true;
-            for (Stock currentStock : lastShownStocks) {
-                String currentStockSerialNumber = currentStock.getSerialNumber().getSerialNumberAsString();
-                if (currentSerialNumber.equals(currentStockSerialNumber)) {
-                    noMatches = false;
-                }
-            }
-            if (noMatches) {
-                stocksNotFound.add(currentSerialNumber);
-            }
-        }
-
-        // Find stocks to bookmark
-        for (Stock currentStock : lastShownStocks) {
-            String currentStockSerialNumber = currentStock.getSerialNumber().getSerialNumberAsString();
-            boolean anyMatches = false;
-
-            for (String currentSerialNumber : serials) {
-                if (currentSerialNumber.equals(currentStockSerialNumber)) {
-                    anyMatches = true;
-                }
-            }
-            if (anyMatches) {
-                stocksToBookmark.add(currentStock);
+        // Find stocks to bookmark and serials that are not found
+        for (SerialNumber serialNumber : serialNumbers) {
+            Optional<Stock> stock = model.findBySerialNumber(serialNumber);
+            if (stock.isPresent()) {
+                stocksToBookmark.add(stock.get());
+            } else {
+                stocksNotFound.add(serialNumber.toString().trim());
             }
         }
 
@@ -103,9 +82,9 @@ public class BookmarkCommand extends Command {
             if (stockToBookmark.getIsBookmarked()) {
                 notUpdatedStocks.add(stockToBookmark);
             } else {
-                stockToBookmark.setBookmarked();
-                model.setStock(stockToBookmark, stockToBookmark);
-                updatedStocks.add(stockToBookmark);
+                Stock bookmarkedStock = stockToBookmark.withBookmark(true);
+                model.setStock(stockToBookmark, bookmarkedStock);
+                updatedStocks.add(bookmarkedStock);
             }
 
         }
@@ -1,9 +1,12 @@
 package seedu.stock.logic.commands;
 
+import static seedu.stock.commons.core.Messages.MESSAGE_DID_YOU_MEAN;
+
 import seedu.stock.logic.commands.exceptions.CommandException;
 import seedu.stock.logic.commands.exceptions.SerialNumberNotFoundException;
 import seedu.stock.logic.commands.exceptions.SourceCompanyNotFoundException;
 import seedu.stock.model.Model;
+import seedu.stock.model.stock.StockSearchIndex;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -22,4 +25,14 @@ public abstract class Command {
     public abstract CommandResult execute(Model model) throws CommandException,
             SourceCompanyNotFoundException, SerialNumberNotFoundException;
 
+    /**
+     * Returns {@code message} followed by a suggestion of the value of {@code field} in the stock book that is
+     * closest to the mistyped {@code value}, written after {@code valuePrefix}, if one is close enough.
+     */
+    protected static String withClosestValueSuggestion(String message, Model model, StockSearchIndex.Field field,
+            String valuePrefix, String value) {
+        return model.findClosestValue(field, value)
+                .map(closestValue -> message + "\n" + String.format(MESSAGE_DID_YOU_MEAN, valuePrefix + closestValue))
+                .orElse(message);
+    }
 }
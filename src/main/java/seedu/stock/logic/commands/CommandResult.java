@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.stock.model.stock.Stock;
 
@@ -39,6 +40,8 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Work started by the command that is still running in the background, if any. */
+    private final BackgroundTask backgroundTask;
 
     /**
      * Constructs a {@code CommandResult} with the specified fields.
@@ -47,6 +50,14 @@ public class CommandResult {
                          boolean showHelp, boolean showStockView, Stock stockToView,
                          boolean showStatistics, String[] otherStatisticsDetails,
                          boolean isSwitchTab, boolean exit) {
+        this(feedbackToUser, statisticsData, showHelp, showStockView, stockToView, showStatistics,
+                otherStatisticsDetails, isSwitchTab, exit, null);
+    }
+
+    private CommandResult(String feedbackToUser, Map<String, Integer> statisticsData,
+                          boolean showHelp, boolean showStockView, Stock stockToView,
+                          boolean showStatistics, String[] otherStatisticsDetails,
+                          boolean isSwitchTab, boolean exit, BackgroundTask backgroundTask) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.showStockView = showStockView;
@@ -56,6 +67,7 @@ public class CommandResult {
         this.otherStatisticsDetails = otherStatisticsDetails;
         this.isSwitchTab = isSwitchTab;
         this.exit = exit;
+        this.backgroundTask = backgroundTask;
     }
 
     /**
@@ -66,6 +78,14 @@ public class CommandResult {
         this(feedbackToUser, null, false, false, null, false, null, false, false);
     }
 
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} for a command that started
+     * {@code backgroundTask}, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, BackgroundTask backgroundTask) {
+        this(feedbackToUser, null, false, false, null, false, null, false, false, requireNonNull(backgroundTask));
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -102,6 +122,14 @@ public class CommandResult {
         return exit;
     }
 
+    /**
+     * Returns the work started by the command in the background, if any.
+     * The work is not part of the value of the result, and is ignored by {@link #equals(Object)}.
+     */
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -23,6 +23,7 @@ public class CommandWords {
     public static final String STOCK_VIEW_COMMAND_WORD = "stockview";
     public static final String SORT_COMMAND_WORD = "sort";
     public static final String TAB_COMMAND_WORD = "tab";
+    public static final String RUN_COMMAND_WORD = "run";
 
 
     /**
@@ -50,6 +51,7 @@ public class CommandWords {
         allCommandWords.add(SORT_COMMAND_WORD);
         allCommandWords.add(PRINT_COMMAND_WORD);
         allCommandWords.add(TAB_COMMAND_WORD);
+        allCommandWords.add(RUN_COMMAND_WORD);
         return allCommandWords;
     }
 }
@@ -6,10 +6,10 @@ import static seedu.stock.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER_DESCRIPTIO
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.stock.commons.core.LogsCenter;
 import seedu.stock.commons.core.Messages;
@@ -62,49 +62,41 @@ public class DeleteCommand extends Command {
             throw new CommandException(Messages.MESSAGE_NO_SERIAL_NUMBERS_GIVEN);
         }
         model.updateFilteredStockList(Model.PREDICATE_SHOW_ALL_STOCKS);
-        List<Stock> lastShownList = model.getFilteredStockList();
         List<Stock> stocksDeleted = new ArrayList<>();
         List<SerialNumber> unknownSerialNumbers = new ArrayList<>();
-        List<SerialNumber> setToListSerialNumbers = targetSerialNumbers.stream().collect(Collectors.toList());
-        for (int j = 0; j < setToListSerialNumbers.size(); j++) {
-            SerialNumber targetSerialNumber = setToListSerialNumbers.get(j);
-            String targetSerialNumberInString = targetSerialNumber.getSerialNumberAsString();
-            boolean isStockDeleted = false;
-
-            //attempts to map serial number to stock and delete the related stock.
-            for (int i = 0; i < lastShownList.size(); i++) {
-                Stock currentStock = lastShownList.get(i);
-                String currentStockSerialNumberInString = currentStock.getSerialNumber()
-                                                                        .getSerialNumberAsString();
-                if (currentStockSerialNumberInString.equals(targetSerialNumberInString)) {
-                    isStockDeleted = true;
-                    stocksDeleted.add(currentStock);
-                    model.deleteStock(currentStock);
-                }
-            }
+        for (SerialNumber targetSerialNumber : targetSerialNumbers) {
+            //attempts to map serial number to the related stock to delete.
+            Optional<Stock> stockToDelete = model.findBySerialNumber(targetSerialNumber);
 
             //if given serial number does not map to any stock, it does not exist.
-            if (!isStockDeleted) {
+            if (stockToDelete.isEmpty()) {
                 unknownSerialNumbers.add(targetSerialNumber);
+                continue;
             }
+
+            stocksDeleted.add(stockToDelete.get());
+        }
+
+        //nothing is deleted if none of the given serial numbers are found.
+        if (stocksDeleted.isEmpty()) {
+            String serialNumbersNotFound = String.format(Messages.MESSAGE_SERIAL_NUMBER_NOT_FOUND,
+                    serialNumberListAsString(unknownSerialNumbers));
+            logger.log(Level.INFO, "All serial numbers are not found. No deletion occurs.");
+            throw new CommandException(serialNumbersNotFound);
         }
+        model.deleteStocks(stocksDeleted);
 
         //deletion of multiple stocks is only successful if the number of deleted stocks is equals
         //to number of serial numbers provided, ensuring all given serial numbers are used.
         if (stocksDeleted.size() == targetSerialNumbers.size()) {
             logger.log(Level.INFO, "All serial numbers found and are deleted successfully");
             return new CommandResult(String.format(MESSAGE_DELETE_STOCK_SUCCESS, stocksAsString(stocksDeleted)));
-        } else if (stocksDeleted.size() > 0) {
+        } else {
             String serialNumbersNotFound = String.format(Messages.MESSAGE_SOME_SERIAL_NUMBER_NOT_FOUND,
                     serialNumberListAsString(unknownSerialNumbers));
             logger.log(Level.INFO, "Some serial numbers found and are deleted successfully");
             return new CommandResult(String.format(MESSAGE_DELETE_STOCK_SOME_SUCCESS, stocksAsString(stocksDeleted))
                                             + "\n" + serialNumbersNotFound);
-        } else {
-            String serialNumbersNotFound = String.format(Messages.MESSAGE_SERIAL_NUMBER_NOT_FOUND,
-                    serialNumberListAsString(unknownSerialNumbers));
-            logger.log(Level.INFO, "All serial numbers are not found. No deletion occurs.");
-            throw new CommandException(serialNumbersNotFound);
         }
     }
 
@@ -45,7 +45,6 @@ public class FindExactCommand extends Command {
     private static final Logger logger = LogsCenter.getLogger(FindExactCommand.class);
 
     private final List<FieldContainsKeywordsPredicate> predicates; // list of predicates to filter stocks by
-    private final Predicate<Stock> combinedPredicates; // combined predicates to filter stocks by
 
     /**
      * Constructs a FindCommand object initialised with
@@ -55,7 +54,6 @@ public class FindExactCommand extends Command {
     public FindExactCommand(List<FieldContainsKeywordsPredicate> predicates) {
         requireNonNull(predicates);
         this.predicates = predicates;
-        this.combinedPredicates = FindUtil.getCombinedPredicatesWithAnd(predicates);
     }
 
     @Override
@@ -68,8 +66,9 @@ public class FindExactCommand extends Command {
                 + predicates.stream().map(Object::toString)
                 .reduce((predicate, next) -> predicate + ", " + next).get();
 
-        // updates the filtered stock list based on the combined predicates to test and filter stocks
-        // based on all of user's search fields
+        // looks up the stocks matching all of user's search fields in the search index and
+        // updates the filtered stock list to show only those stocks
+        Predicate<Stock> combinedPredicates = FindUtil.getIndexedPredicateWithAnd(model, predicates);
         model.updateFilteredStockList(combinedPredicates);
 
         logger.log(Level.INFO, "Finished finding stocks successfully");
@@ -24,6 +24,7 @@ public class ListAllCommand extends ListCommand {
     public CommandResult execute(Model model) {
         logger.log(Level.INFO, "Starting to execute list all command");
         requireNonNull(model);
+        model.updateFilteredStockList(Model.PREDICATE_SHOW_ALL_STOCKS);
         model.sortFilteredStockList(SortUtil.generateGeneralComparator());
         logger.log(Level.INFO, "Finished listing all stocks successfully");
         return new CommandResult(MESSAGE_SUCCESS);
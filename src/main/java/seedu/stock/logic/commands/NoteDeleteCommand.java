@@ -7,7 +7,6 @@ import static seedu.stock.logic.parser.CliSyntax.PREFIX_NOTE_INDEX_DESCRIPTION;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER_DESCRIPTION;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -19,6 +18,7 @@ import seedu.stock.model.Model;
 import seedu.stock.model.stock.NoteIndex;
 import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.Stock;
+import seedu.stock.model.stock.StockSearchIndex;
 
 /**
  * Adds a note to an existing stock in the stock book.
@@ -73,9 +73,8 @@ public class NoteDeleteCommand extends Command {
         logger.log(Level.INFO, "Starting to execute note delete command");
 
         model.updateFilteredStockList(Model.PREDICATE_SHOW_ALL_STOCKS);
-        List<Stock> stockList = model.getFilteredStockList();
 
-        Stock stockToDeleteNote = getStockFromSerialNumber(serialNumber, stockList);
+        Stock stockToDeleteNote = getStockFromSerialNumber(serialNumber, model);
 
         // there are no notes in the stock to delete
         if (stockToDeleteNote.getNotes().size() == 0) {
@@ -96,30 +95,22 @@ public class NoteDeleteCommand extends Command {
     }
 
     /**
-     * Returns a Stock found from the list of Stock using the given the Serial Number
+     * Returns a Stock found from the stock book using the given the Serial Number
      * @param serialNumber Serial Number of the Stock
-     * @param stockList list of Stock
+     * @param model {@code Model} containing the Stock
      * @throws SerialNumberNotFoundException if serial number is not found
      */
-    private static Stock getStockFromSerialNumber(SerialNumber serialNumber, List<Stock> stockList)
+    private static Stock getStockFromSerialNumber(SerialNumber serialNumber, Model model)
             throws SerialNumberNotFoundException {
         requireNonNull(serialNumber);
-        requireNonNull(stockList);
+        requireNonNull(model);
 
-        Optional<Stock> stockToViewNotes = Optional.empty();
-
-        // Find the stock to add note to
-        for (Stock currentStock : stockList) {
-            String currentStockSerialNumber = currentStock.getSerialNumber().getSerialNumberAsString();
-            if (currentStockSerialNumber.equals(serialNumber.getSerialNumberAsString())) {
-                stockToViewNotes = Optional.of(currentStock);
-                break;
-            }
-        }
+        Optional<Stock> stockToViewNotes = model.findBySerialNumber(serialNumber);
 
         if (stockToViewNotes.isEmpty()) {
             logger.log(Level.WARNING, "Valid serial number input but serial number not found.");
-            throw new SerialNumberNotFoundException(MESSAGE_SERIAL_NUMBER_NOT_FOUND);
+            throw new SerialNumberNotFoundException(withClosestValueSuggestion(MESSAGE_SERIAL_NUMBER_NOT_FOUND, model,
+                    StockSearchIndex.Field.SERIALNUMBER, PREFIX_SERIAL_NUMBER.getPrefix(), serialNumber.toString()));
         }
 
         return stockToViewNotes.get();
@@ -2,51 +2,93 @@ package seedu.stock.logic.commands;
 
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_FILE_NAME;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_FILE_NAME_DESCRIPTION;
+import static seedu.stock.logic.parser.CliSyntax.PREFIX_PRINT_OPTION;
+import static seedu.stock.logic.parser.CliSyntax.PREFIX_PRINT_OPTION_DESCRIPTION;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.stock.commons.core.LogsCenter;
-import seedu.stock.commons.util.FileUtil;
+import seedu.stock.commons.util.CsvWriter;
 import seedu.stock.logic.commands.exceptions.CommandException;
 import seedu.stock.model.Model;
 import seedu.stock.model.stock.Stock;
 
 /**
- * Copies all stocks in the inventory into a csv file.
+ * Copies all stocks in the inventory, or only the stocks shown, into a csv file.
+ * The file is written in the background one stock at a time, so that printing a large inventory neither
+ * freezes the application nor holds the whole file in memory.
  */
 public class PrintCommand extends Command {
     public static final String COMMAND_WORD = "print";
 
+    public static final String OPTION_SHOWN = "shown";
+
+    public static final String OPTION_COMPRESSED = "gzip";
+
+    public static final String MESSAGE_STARTED = "Making the CSV file in the background.";
+
+    public static final String MESSAGE_PROGRESS = "Making the CSV file: %1$d of %2$d stocks copied.";
+
     public static final String MESSAGE_SUCCESS = "CSV file successfully made.";
 
     public static final String MESSAGE_FAILURE = "Error occurred when generating the csv file. ";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Copies all stocks in the inventory into a csv file.\n"
+            + "Add " + PREFIX_PRINT_OPTION + OPTION_SHOWN + " to copy only the stocks shown, in the order shown, and "
+            + PREFIX_PRINT_OPTION + OPTION_COMPRESSED + " to compress the file.\n"
             + "Format: "
             + COMMAND_WORD + " "
-            + PREFIX_FILE_NAME + PREFIX_FILE_NAME_DESCRIPTION + "\n"
+            + PREFIX_FILE_NAME + PREFIX_FILE_NAME_DESCRIPTION + " "
+            + "[" + PREFIX_PRINT_OPTION + PREFIX_PRINT_OPTION_DESCRIPTION + "]...\n"
             + "Example: "
             + COMMAND_WORD + " "
-            + PREFIX_FILE_NAME + "stocks";
+            + PREFIX_FILE_NAME + "stocks " + PREFIX_PRINT_OPTION + OPTION_SHOWN;
 
-    public static final char CSV_SEPARATOR = ',';
+    public static final char CSV_SEPARATOR = CsvWriter.SEPARATOR;
 
     public static final String CSV_TAG = ".csv";
 
+    public static final String COMPRESSED_TAG = ".gz";
+
+    /** Number of stocks copied between reports of the progress. */
+    public static final int PROGRESS_INTERVAL = 10000;
+
     private static final Logger logger = LogsCenter.getLogger(PrintCommand.class);
 
+    // files are made one at a time, so that two prints to the same file cannot mix their rows
+    private static final ExecutorService printExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "StockBook-printer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final String csvFileName;
+    private final boolean isShownOnly;
+    private final boolean isCompressed;
 
     public PrintCommand(String fileName) {
-        csvFileName = fileName + CSV_TAG;
+        this(fileName, false, false);
+    }
+
+    /**
+     * Creates a PrintCommand that copies only the stocks shown if {@code isShownOnly} is true,
+     * and compresses the file if {@code isCompressed} is true.
+     */
+    public PrintCommand(String fileName, boolean isShownOnly, boolean isCompressed) {
+        csvFileName = fileName + CSV_TAG + (isCompressed ? COMPRESSED_TAG : "");
+        this.isShownOnly = isShownOnly;
+        this.isCompressed = isCompressed;
     }
 
     @Override
@@ -54,89 +96,85 @@ public class PrintCommand extends Command {
         assert model != null : "Model cannot be null!";
         logger.log(Level.INFO, "Starting to execute print command");
 
-        ObservableList<Stock> stockBookList = model.getStockBook().getStockList();
+        // the stocks are copied now, as the model may change while the file is being made
+        List<Stock> stocks = isShownOnly
+                ? new ArrayList<>(model.getFilteredStockList())
+                : model.getStockBookSnapshot().getStockList();
         Path csvFilePath = model.getUserPrefs().getCsvFilePath().resolve(csvFileName);
 
-        try {
-            FileUtil.createIfMissing(csvFilePath);
-            BufferedWriter writer = new BufferedWriter(new FileWriter(csvFilePath.toString()));
-            writer.append(makeFileCreationTime());
-            writer.append(makeTitleHeader());
-            for (Stock stock: stockBookList) {
-                writer.append(printStock(stock));
+        BackgroundTask printTask = BackgroundTask.start(progressReporter ->
+                print(stocks, csvFilePath, progressReporter), printExecutor, MESSAGE_STARTED, MESSAGE_FAILURE);
+        return new CommandResult(MESSAGE_STARTED, printTask);
+    }
+
+    /**
+     * Writes {@code stocks} into the csv file at {@code csvFilePath}, reporting the number of stocks copied
+     * through {@code progressReporter}.
+     * A file that could not be completely written is deleted.
+     *
+     * @return The message to show once the file is made.
+     */
+    private String print(List<Stock> stocks, Path csvFilePath, Consumer<String> progressReporter)
+            throws IOException {
+        try (CsvWriter writer = CsvWriter.open(csvFilePath, isCompressed)) {
+            writer.writeRow(makeFileCreationTime());
+            writer.endRow();
+            writeTitleHeader(writer);
+            int printedCount = 0;
+            for (Stock stock : stocks) {
+                printStock(writer, stock);
+                printedCount++;
+                if (printedCount % PROGRESS_INTERVAL == 0) {
+                    progressReporter.accept(String.format(MESSAGE_PROGRESS, printedCount, stocks.size()));
+                }
             }
-            writer.close();
-        } catch (IOException ex) {
-            throw new CommandException(MESSAGE_FAILURE + ex.getMessage());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(csvFilePath);
+            throw e;
         }
 
-        logger.log(Level.INFO, "Finished printing stocks successfully");
-        return new CommandResult(MESSAGE_SUCCESS);
+        logger.log(Level.INFO, "Finished printing " + stocks.size() + " stocks successfully");
+        return MESSAGE_SUCCESS;
     }
 
     /**
-     * Converts the stock into csv format.
+     * Writes the stock as a row of the csv file.
      *
+     * @param writer Writer of the csv file.
      * @param stock Stock to be converted into csv format.
-     * @return String of the given stock in the csv format.
      */
-    private String printStock(Stock stock) {
-        return new StringBuilder()
-                .append(commaFormatter(stock.getSerialNumber().toString())).append(CSV_SEPARATOR)
-                .append(commaFormatter(stock.getName().toString())).append(CSV_SEPARATOR)
-                .append(commaFormatter(stock.getSource().toString())).append(CSV_SEPARATOR)
-                .append(stock.getQuantity().toString()).append(CSV_SEPARATOR)
-                .append(stock.getQuantity().lowQuantity).append(CSV_SEPARATOR)
-                .append(commaFormatter(stock.getLocation().toString())).append(CSV_SEPARATOR)
-                .append(bookmarkToString(stock)).append(CSV_SEPARATOR)
-                .append(commaFormatter(stock.notesToString(stock.getNotes()))).append(CSV_SEPARATOR)
-                .append(System.lineSeparator())
-                .toString();
+    private void printStock(CsvWriter writer, Stock stock) throws IOException {
+        writer.writeField(stock.getSerialNumber().toString())
+                .writeField(stock.getName().toString())
+                .writeField(stock.getSource().toString())
+                .writeField(stock.getQuantity().toString())
+                .writeField(stock.getQuantity().lowQuantity)
+                .writeField(stock.getLocation().toString())
+                .writeField(bookmarkToString(stock))
+                .writeField(stock.notesToString(stock.getNotes()))
+                .endRow();
     }
 
     /**
-     * Sets up the headers of the csv file.
+     * Writes the headers of the csv file.
      *
-     * @return String header in the csv format.
+     * @param writer Writer of the csv file.
      */
-    private String makeTitleHeader() {
-        return new StringBuilder()
-                .append("Serial Number").append(CSV_SEPARATOR)
-                .append("Name").append(CSV_SEPARATOR)
-                .append("Source of stock").append(CSV_SEPARATOR)
-                .append("Quantity").append(CSV_SEPARATOR)
-                .append("Low Quantity").append(CSV_SEPARATOR)
-                .append("Location in warehouse").append(CSV_SEPARATOR)
-                .append("Bookmark").append(CSV_SEPARATOR)
-                .append("Notes").append(CSV_SEPARATOR)
-                .append(System.lineSeparator())
-                .toString();
+    private void writeTitleHeader(CsvWriter writer) throws IOException {
+        writer.writeRow("Serial Number", "Name", "Source of stock", "Quantity", "Low Quantity",
+                "Location in warehouse", "Bookmark", "Notes");
     }
 
     /**
-     * Gets the timing which the csv file is created in csv format.
+     * Gets the timing which the csv file is created.
      *
-     * @return String that describes the creation time of file in csv format.
+     * @return String that describes the creation time of file.
      */
     private String makeFileCreationTime() {
         SimpleDateFormat formatter = new SimpleDateFormat("dd/MM/yy 'at' HH:mm.");
         Date date = new Date(System.currentTimeMillis());
 
-        return new StringBuilder()
-                .append("Stock list updated as of: ").append(formatter.format(date))
-                .append(System.lineSeparator())
-                .append(System.lineSeparator())
-                .toString();
-    }
-
-    /**
-     * Formats the string to so that special characters in a column would not affect
-     * the integrity of the csv file generated. The whole string in the column will remain in the column.
-     *
-     * @return String of the formatted input to be stored in a csv column.
-     */
-    private String commaFormatter(String string) {
-        return String.format("\"%s\"", string);
+        return "Stock list updated as of: " + formatter.format(date);
     }
 
     /**
@@ -156,6 +194,7 @@ public class PrintCommand extends Command {
         // short circuit if same object
         return other == this // short circuit if same object
                 || (other instanceof PrintCommand // instanceof handles nulls
-                && csvFileName.equals(((PrintCommand) other).csvFileName)); // state check
+                && csvFileName.equals(((PrintCommand) other).csvFileName) // state check
+                && isShownOnly == ((PrintCommand) other).isShownOnly);
     }
 }
@@ -0,0 +1,93 @@
+package seedu.stock.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.stock.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.stock.logic.parser.CliSyntax.PREFIX_SCRIPT_FILE;
+import static seedu.stock.logic.parser.CliSyntax.PREFIX_SCRIPT_FILE_DESCRIPTION;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.stock.commons.core.LogsCenter;
+import seedu.stock.logic.commands.exceptions.CommandException;
+import seedu.stock.logic.commands.exceptions.SerialNumberNotFoundException;
+import seedu.stock.logic.commands.exceptions.SourceCompanyNotFoundException;
+import seedu.stock.model.Model;
+import seedu.stock.model.ReadOnlySerialNumberSetsBook;
+import seedu.stock.model.ReadOnlyStockBook;
+
+/**
+ * Runs the commands of a script in order as one batch, whose changes are saved together.
+ * If a command fails, the books are restored to their state before the script, so either all or none of the
+ * changes made by the script are kept.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMAND_SEPARATOR = ";";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs a script of commands as one batch. "
+            + "If any command fails, none of the changes of the script are kept.\n"
+            + "Format: " + COMMAND_WORD + " " + PREFIX_SCRIPT_FILE + PREFIX_SCRIPT_FILE_DESCRIPTION
+            + " or " + COMMAND_WORD + " <command>" + COMMAND_SEPARATOR + " <command>...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SCRIPT_FILE + "receiving.txt";
+    public static final String MESSAGE_SUCCESS = "Ran all %1$d commands of the script.";
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d of the script failed: %2$s\n%3$s\n"
+            + "None of the changes made by the script were kept.";
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final List<String> script;
+    private final List<Command> commands;
+
+    /**
+     * Creates a {@code RunCommand} that runs {@code commands}, which are parsed from the lines of {@code script}
+     * in the same order.
+     */
+    public RunCommand(List<String> script, List<Command> commands) {
+        requireAllNonNull(script, commands);
+        assert script.size() == commands.size();
+        this.script = List.copyOf(script);
+        this.commands = List.copyOf(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Starting to run a script of " + commands.size() + " commands");
+        requireNonNull(model);
+
+        // the snapshots do not copy the stocks, so taking them costs little even for large books
+        ReadOnlyStockBook stockBookBeforeScript = model.getStockBookSnapshot();
+        ReadOnlySerialNumberSetsBook serialNumberSetsBookBeforeScript = model.getSerialNumberSetsBookSnapshot();
+        int commandIndex = 0;
+        try {
+            for (; commandIndex < commands.size(); commandIndex++) {
+                commands.get(commandIndex).execute(model);
+            }
+        } catch (CommandException | SerialNumberNotFoundException | SourceCompanyNotFoundException e) {
+            restore(model, stockBookBeforeScript, serialNumberSetsBookBeforeScript);
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, commandIndex + 1,
+                    script.get(commandIndex), e.getMessage()), e);
+        } catch (RuntimeException e) {
+            restore(model, stockBookBeforeScript, serialNumberSetsBookBeforeScript);
+            throw e;
+        }
+
+        logger.log(Level.INFO, "Finished running all commands of the script successfully");
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size()));
+    }
+
+    private static void restore(Model model, ReadOnlyStockBook stockBook,
+            ReadOnlySerialNumberSetsBook serialNumberSetsBook) {
+        logger.log(Level.INFO, "Restoring the data from before the failed script");
+        model.setStockBook(stockBook);
+        model.setSerialNumberSetsBook(serialNumberSetsBook);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && commands.equals(((RunCommand) other).commands));
+    }
+}
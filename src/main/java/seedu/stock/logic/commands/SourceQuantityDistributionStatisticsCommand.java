@@ -3,6 +3,7 @@ package seedu.stock.logic.commands;
 import static seedu.stock.commons.core.Messages.MESSAGE_SOURCE_COMPANY_NOT_FOUND;
 import static seedu.stock.logic.commands.statisticsutil.GenerateStatisticsData
         .generateSourceQuantityDistributionStatisticsData;
+import static seedu.stock.logic.parser.CliSyntax.PREFIX_STATISTICS_TYPE;
 
 import java.util.Map;
 import java.util.logging.Level;
@@ -11,6 +12,7 @@ import java.util.logging.Logger;
 import seedu.stock.commons.core.LogsCenter;
 import seedu.stock.logic.commands.exceptions.SourceCompanyNotFoundException;
 import seedu.stock.model.Model;
+import seedu.stock.model.stock.StockSearchIndex;
 
 
 public class SourceQuantityDistributionStatisticsCommand extends StatisticsCommand {
@@ -40,7 +42,8 @@ public class SourceQuantityDistributionStatisticsCommand extends StatisticsComma
 
         if (nameQuantityTable.size() == 0) {
             logger.log(Level.WARNING, "Valid input but source company not found.");
-            throw new SourceCompanyNotFoundException(MESSAGE_SOURCE_COMPANY_NOT_FOUND);
+            throw new SourceCompanyNotFoundException(withClosestValueSuggestion(MESSAGE_SOURCE_COMPANY_NOT_FOUND, model,
+                    StockSearchIndex.Field.SOURCE, PREFIX_STATISTICS_TYPE + "source-qd-", targetSource));
         }
 
         //array of size 2, index 0 is statistics type, index 1 is target source company
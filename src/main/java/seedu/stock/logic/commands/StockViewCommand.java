@@ -5,7 +5,6 @@ import static seedu.stock.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER_DESCRIPTION;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -15,6 +14,7 @@ import seedu.stock.logic.commands.exceptions.SerialNumberNotFoundException;
 import seedu.stock.model.Model;
 import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.Stock;
+import seedu.stock.model.stock.StockSearchIndex;
 
 public class StockViewCommand extends Command {
 
@@ -57,9 +57,8 @@ public class StockViewCommand extends Command {
         logger.log(Level.INFO, "Starting to execute stock view command");
 
         model.updateFilteredStockList(Model.PREDICATE_SHOW_ALL_STOCKS);
-        List<Stock> stockList = model.getFilteredStockList();
 
-        Stock stockToView = getStockFromSerialNumber(serialNumber, stockList);
+        Stock stockToView = getStockFromSerialNumber(serialNumber, model);
 
         logger.log(Level.INFO, "Finished displaying stock successfully");
         return new CommandResult(generateSuccessMessage(stockToView), null,
@@ -67,29 +66,21 @@ public class StockViewCommand extends Command {
     }
 
     /**
-     * Returns a Stock found from the list of Stock using the given the Serial Number
+     * Returns a Stock found from the stock book using the given the Serial Number
      * @param serialNumber Serial Number of the Stock
-     * @param stockList list of Stock
+     * @param model {@code Model} containing the Stock
      * @throws SerialNumberNotFoundException if serial number is not found
      */
-    private static Stock getStockFromSerialNumber(SerialNumber serialNumber, List<Stock> stockList)
+    private static Stock getStockFromSerialNumber(SerialNumber serialNumber, Model model)
             throws SerialNumberNotFoundException {
         requireNonNull(serialNumber);
-        requireNonNull(stockList);
+        requireNonNull(model);
 
-        Optional<Stock> stockToViewNotes = Optional.empty();
-
-        // Find the stock to add note to
-        for (Stock currentStock : stockList) {
-            String currentStockSerialNumber = currentStock.getSerialNumber().getSerialNumberAsString();
-            if (currentStockSerialNumber.equals(serialNumber.getSerialNumberAsString())) {
-                stockToViewNotes = Optional.of(currentStock);
-                break;
-            }
-        }
+        Optional<Stock> stockToViewNotes = model.findBySerialNumber(serialNumber);
 
         if (stockToViewNotes.isEmpty()) {
-            throw new SerialNumberNotFoundException(MESSAGE_SERIAL_NUMBER_NOT_FOUND);
+            throw new SerialNumberNotFoundException(withClosestValueSuggestion(MESSAGE_SERIAL_NUMBER_NOT_FOUND, model,
+                    StockSearchIndex.Field.SERIALNUMBER, PREFIX_SERIAL_NUMBER.getPrefix(), serialNumber.toString()));
         }
 
         return stockToViewNotes.get();
@@ -6,6 +6,7 @@ import static seedu.stock.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER_DESCRIPTIO
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -62,44 +63,20 @@ public class UnbookmarkCommand extends Command {
         logger.log(Level.INFO, "Starting to execute unbookmark command");
         requireNonNull(model);
         model.updateFilteredStockList(Model.PREDICATE_SHOW_ALL_STOCKS);
-        List<Stock> lastShownStocks = model.getFilteredStockList();
 
         List<SerialNumber> serialNumbers = targetSerialNumbers.stream().collect(Collectors.toList());
-        List<String> serials = serialNumbers.stream().map((serial) -> serial.toString().trim())
-                .collect(Collectors.toCollection(ArrayList::new));
         List<Stock> stocksToUnbookmark = new ArrayList<>();
         List<String> stocksNotFound = new ArrayList<>();
         List<Stock> notUpdatedStocks = new ArrayList<>();
         List<Stock> updatedStocks = new ArrayList<>();
 
-        // Find serials that are not found
-        for (String currentSerialNumber : serials) {
-            boolean noMatches = true;
-            for (Stock currentStock : lastShownStocks) {
-                String currentStockSerialNumber = currentStock.getSerialNumber().getSerialNumberAsString();
-                if (currentSerialNumber.equals(currentStockSerialNumber)) {
-                    noMatches = false;
-                }
-            }
-            if (noMatches) {
-                stocksNotFound.add(currentSerialNumber);
-            }
-        }
-
-        // Find stocks to unbookmark
-        for (Stock currentStock : lastShownStocks) {
-            String currentStockSerialNumber = currentStock.getSerialNumber().getSerialNumberAsString();
-            boolean anyMatches = false;
-
-            for (String currentSerialNumber : serials) {
-                if (currentSerialNumber.equals(currentStockSerialNumber)) {
-                    anyMatches = true;
-                }
-            }
-
-            if (anyMatches) {
-                stocksToUnbookmark.add(currentStock);
-
+        // Find stocks to unbookmark and serials that are not found
+        for (SerialNumber serialNumber : serialNumbers) {
+            Optional<Stock> stock = model.findBySerialNumber(serialNumber);
+            if (stock.isPresent()) {
+                stocksToUnbookmark.add(stock.get());
+            } else {
+                stocksNotFound.add(serialNumber.toString().trim());
             }
         }
 
@@ -109,9 +86,9 @@ public class UnbookmarkCommand extends Command {
             if (!stockToUnbookmark.getIsBookmarked()) {
                 notUpdatedStocks.add(stockToUnbookmark);
             } else {
-                stockToUnbookmark.setUnbookmarked();
-                model.setStock(stockToUnbookmark, stockToUnbookmark);
-                updatedStocks.add(stockToUnbookmark);
+                Stock unbookmarkedStock = stockToUnbookmark.withBookmark(false);
+                model.setStock(stockToUnbookmark, unbookmarkedStock);
+                updatedStocks.add(unbookmarkedStock);
             }
 
         }
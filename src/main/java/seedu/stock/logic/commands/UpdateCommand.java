@@ -15,11 +15,12 @@ import static seedu.stock.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER_DESCRIPTION;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.stock.commons.core.LogsCenter;
 import seedu.stock.commons.util.CollectionUtil;
@@ -27,12 +28,12 @@ import seedu.stock.logic.commands.exceptions.CommandException;
 import seedu.stock.model.Model;
 import seedu.stock.model.stock.Location;
 import seedu.stock.model.stock.Name;
-import seedu.stock.model.stock.Note;
 import seedu.stock.model.stock.Quantity;
 import seedu.stock.model.stock.QuantityAdder;
 import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.Source;
 import seedu.stock.model.stock.Stock;
+import seedu.stock.model.stock.exceptions.DuplicateStockException;
 
 /**
  * Updates existing stocks in the stock book.
@@ -96,38 +97,20 @@ public class UpdateCommand extends Command {
         logger.log(Level.INFO, "Starting to execute update command");
         requireNonNull(model);
         model.updateFilteredStockList(Model.PREDICATE_SHOW_ALL_STOCKS);
-        List<Stock> lastShownStocks = model.getFilteredStockList();
 
-        List<SerialNumber> indexes = updateStockDescriptor.getSerialNumbers();
-        List<String> serials = indexes.stream().map((serial) -> serial.getSerialNumberAsString().trim())
-                .collect(Collectors.toCollection(ArrayList::new));
-        List<Stock> stocksToUpdate = new ArrayList<>();
+        List<SerialNumber> serials = updateStockDescriptor.getSerialNumbers();
         List<Stock> updatedStocks = new ArrayList<>();
 
         // Find stocks to be updated
-        for (Stock currentStock : lastShownStocks) {
-            String currentStockSerialNumber = currentStock.getSerialNumber().getSerialNumberAsString();
-            boolean anyMatches = false;
-
-            for (String currentSerialNumber : serials) {
-                if (currentSerialNumber.equals(currentStockSerialNumber)) {
-                    anyMatches = true;
-                    break;
-                }
-            }
-
-            if (anyMatches) {
-                assert currentStock != null : "Stock to be updated does not exist";
-                stocksToUpdate.add(currentStock);
-            }
-        }
+        List<Stock> stocksToUpdate = model.findAllBySerialNumbers(serials);
 
         // Some serial numbers do not exist
         if (serials.size() != stocksToUpdate.size()) {
             throw new CommandException(MESSAGE_SERIAL_NUMBER_NOT_FOUND);
         }
 
-        // Update stocks
+        // Create updated stocks
+        Map<Stock, Stock> replacements = new LinkedHashMap<>();
         for (Stock stockToUpdate: stocksToUpdate) {
             assert stocksToUpdate != null : "Stock to update not defined";
             Stock updatedStock = createUpdatedStock(stockToUpdate, updateStockDescriptor);
@@ -136,10 +119,17 @@ public class UpdateCommand extends Command {
                 throw new CommandException(MESSAGE_DUPLICATE_STOCK);
             }
 
-            model.setStock(stockToUpdate, updatedStock);
+            replacements.put(stockToUpdate, updatedStock);
             updatedStocks.add(updatedStock);
         }
 
+        // Update all stocks at once, so that either all or none of them are updated
+        try {
+            model.setStocks(replacements);
+        } catch (DuplicateStockException e) {
+            throw new CommandException(MESSAGE_DUPLICATE_STOCK);
+        }
+
         logger.log(Level.INFO, "Finished executing update command successfully");
         return new CommandResult(String.format(MESSAGE_UPDATE_STOCK_SUCCESS, stocksAsString(updatedStocks)));
     }
@@ -175,11 +165,8 @@ public class UpdateCommand extends Command {
         Quantity updatedQuantity = updateStockDescriptor.getQuantity().orElse(originalQuantity);
         String lowQuantity = updateStockDescriptor.getLowQuantity().orElse(originalQuantity.getLowQuantity());
         Name updatedName = updateStockDescriptor.getName().orElse(stockToUpdate.getName());
-        Source updatedSource = stockToUpdate.getSource();
         Location updatedLocation = updateStockDescriptor.getLocation().orElse(stockToUpdate.getLocation());
-        SerialNumber stockSerialNumber = stockToUpdate.getSerialNumber();
         Optional<QuantityAdder> quantityAdder = updateStockDescriptor.getQuantityAdder();
-        List<Note> noteList = stockToUpdate.getNotes();
 
         if (!quantityAdder.isEmpty()) {
             QuantityAdder valueToBeAdded = quantityAdder.get();
@@ -189,12 +176,8 @@ public class UpdateCommand extends Command {
 
         updatedQuantity = updatedQuantity.updateLowQuantity(lowQuantity);
 
-        Stock result = new Stock(updatedName, stockSerialNumber, updatedSource,
-                updatedQuantity, updatedLocation, noteList);
-
-        if (stockToUpdate.getIsBookmarked()) {
-            result.setBookmarked();
-        }
+        // the notes and bookmark are carried over without loading the notes
+        Stock result = stockToUpdate.withDetails(updatedName, updatedQuantity, updatedLocation);
 
         logger.log(Level.INFO, "Successfully updated stock: " + result);
         return result;
@@ -1,9 +1,9 @@
 package seedu.stock.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,17 +12,24 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * The arguments string is read once from left to right, and the prefixes are recognized with a trie of the prefixes,
+ * so the time taken grows linearly with the length of the arguments string however many prefixes it has.
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE_PREFIX = new Prefix("");
+    private static final PrefixTrie ALL_PREFIXES_TRIE = new PrefixTrie(CliSyntax.getAllPossiblePrefixes());
+
+    /** Tries of the sets of prefixes tokenized with so far, as each parser tokenizes with the same prefixes. */
+    private static final Map<List<Prefix>, PrefixTrie> prefixTries = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Recognizes every prefixes used in Warenager.
      * @return ArgumentMultimap object that maps prefixes to their arguments.
      */
     public static ArgumentMultimap tokenizeAllPrefixes(String argsString) {
-        List<Prefix> allPrefixes = CliSyntax.getAllPossiblePrefixes();
-        return tokenize(argsString, allPrefixes.toArray(new Prefix[0]));
+        return tokenize(argsString, ALL_PREFIXES_TRIE);
     }
 
     /**
@@ -34,125 +41,78 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
+        PrefixTrie trie = prefixTries.computeIfAbsent(List.of(prefixes), PrefixTrie::new);
+        return tokenize(argsString, trie);
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
+     * Maps each prefix in {@code argsString} that is recognized by {@code trie} to the text up to the next
+     * recognized prefix. A prefix is only recognized if there is a whitespace before it.
      *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * E.g if {@code argsString} = "e/hip/900" and the prefix is "p/", the whole string is the preamble, as there
+     * are no occurrences of "p/" with whitespace before it. However, if {@code argsString} = "e/hi p/900", the
+     * preamble is "e/hi" and the value of "p/" is "900".
      */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    private static ArgumentMultimap tokenize(String argsString, PrefixTrie trie) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE_PREFIX;
+        int valueStartPosition = 0;
+        int position = 1;
+        while (position < argsString.length()) {
+            Prefix prefix = argsString.charAt(position - 1) == ' ' ? trie.match(argsString, position) : null;
+            if (prefix == null) {
+                position++;
+                continue;
+            }
+            argMultimap.put(currentPrefix, argsString.substring(valueStartPosition, position).trim());
+            currentPrefix = prefix;
+            valueStartPosition = position + prefix.getPrefix().length();
+            position = valueStartPosition;
         }
-
+        argMultimap.put(currentPrefix, argsString.substring(valueStartPosition).trim());
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * A trie of prefixes, which finds the longest prefix that starts at a position of a string by reading each
+     * character after the position at most once.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
-    }
-
-    /**
-     * Represents a prefix's position in an arguments string.
-     */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static class PrefixTrie {
+        private final Map<Character, PrefixTrie> children = new HashMap<>();
+        private Prefix prefix;
+
+        private PrefixTrie() {}
+
+        PrefixTrie(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                if (prefixString.isEmpty()) {
+                    continue;
+                }
+                PrefixTrie node = this;
+                for (int i = 0; i < prefixString.length(); i++) {
+                    node = node.children.computeIfAbsent(prefixString.charAt(i), unused -> new PrefixTrie());
+                }
+                node.prefix = prefix;
+            }
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        /**
+         * Returns the longest prefix that starts at {@code position} of {@code string}, or null if there is none.
+         */
+        Prefix match(String string, int position) {
+            Prefix longestMatch = null;
+            PrefixTrie node = this;
+            for (int i = position; i < string.length(); i++) {
+                node = node.children.get(string.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestMatch = node.prefix;
+                }
+            }
+            return longestMatch;
         }
     }
-
 }
@@ -24,6 +24,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_SORT_FIELD = new Prefix("by/");
     public static final Prefix PREFIX_SORT_ORDER = new Prefix("o/");
     public static final Prefix PREFIX_FILE_NAME = new Prefix("fn/");
+    public static final Prefix PREFIX_PRINT_OPTION = new Prefix("op/");
+    // only recognised after the run command word, so it is not one of the possible prefixes of other commands
+    public static final Prefix PREFIX_SCRIPT_FILE = new Prefix("f/");
 
 
     /* Prefix values descriptions */
@@ -42,6 +45,8 @@ public class CliSyntax {
     public static final String PREFIX_SORT_FIELD_DESCRIPTION = "<field>";
     public static final String PREFIX_SORT_ORDER_DESCRIPTION = "<order>";
     public static final String PREFIX_FILE_NAME_DESCRIPTION = "<file name>";
+    public static final String PREFIX_PRINT_OPTION_DESCRIPTION = "<option>";
+    public static final String PREFIX_SCRIPT_FILE_DESCRIPTION = "<script file>";
 
     /**
      * Returns a list containing all possible prefixes.
@@ -65,6 +70,7 @@ public class CliSyntax {
         allPrefixes.add(PREFIX_SORT_FIELD);
         allPrefixes.add(PREFIX_SORT_ORDER);
         allPrefixes.add(PREFIX_FILE_NAME);
+        allPrefixes.add(PREFIX_PRINT_OPTION);
         return allPrefixes;
     }
 
@@ -116,6 +122,8 @@ public class CliSyntax {
             return PREFIX_SORT_ORDER_DESCRIPTION;
         } else if (prefix.equals(PREFIX_FILE_NAME)) {
             return PREFIX_FILE_NAME_DESCRIPTION;
+        } else if (prefix.equals(PREFIX_PRINT_OPTION)) {
+            return PREFIX_PRINT_OPTION_DESCRIPTION;
         } else {
             return "";
         }
@@ -0,0 +1,81 @@
+package seedu.stock.logic.parser;
+
+import static seedu.stock.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.stock.logic.commands.Command;
+import seedu.stock.logic.parser.exceptions.ParseException;
+
+/**
+ * Describes a command that can be parsed by {@code StockBookParser}: the word that starts it, the parser of its
+ * arguments, and what to do when its arguments cannot be parsed.
+ * The parser is shared by every input of the command, so it must not keep any state between inputs.
+ */
+public final class CommandDescriptor {
+
+    private final String commandWord;
+    private final Parser<? extends Command> parser;
+    private final boolean isCaseSensitive;
+    private final SuggestionGenerator suggestionGenerator;
+
+    /**
+     * Creates a descriptor of the command started by {@code commandWord}.
+     *
+     * @param commandWord The word that starts the command.
+     * @param parser The parser of the arguments of the command.
+     * @param isCaseSensitive False if the arguments are changed to lower case before they are parsed.
+     * @param suggestionGenerator The generator of the suggestion shown when the arguments cannot be parsed.
+     */
+    public CommandDescriptor(String commandWord, Parser<? extends Command> parser, boolean isCaseSensitive,
+            SuggestionGenerator suggestionGenerator) {
+        requireAllNonNull(commandWord, parser, suggestionGenerator);
+        this.commandWord = commandWord;
+        this.parser = parser;
+        this.isCaseSensitive = isCaseSensitive;
+        this.suggestionGenerator = suggestionGenerator;
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    public Parser<? extends Command> getParser() {
+        return parser;
+    }
+
+    public boolean isCaseSensitive() {
+        return isCaseSensitive;
+    }
+
+    public SuggestionGenerator getSuggestionGenerator() {
+        return suggestionGenerator;
+    }
+
+    /**
+     * Parses {@code arguments} into the command, or into a suggestion of how to correct the arguments if they
+     * cannot be parsed.
+     *
+     * @throws ParseException if the arguments cannot be parsed and no suggestion can be made.
+     */
+    public Command parse(String arguments) throws ParseException {
+        String commandArguments = isCaseSensitive ? arguments : arguments.toLowerCase();
+        try {
+            return parser.parse(commandArguments);
+        } catch (ParseException ex) {
+            return suggestionGenerator.suggest(commandWord, ex.getMessage(), commandArguments);
+        }
+    }
+
+    /**
+     * Generates the command shown to the user when the arguments of a command cannot be parsed.
+     */
+    @FunctionalInterface
+    public interface SuggestionGenerator {
+        /**
+         * Returns a command that suggests how to correct {@code arguments} of the command started by
+         * {@code commandWord}, which could not be parsed because of {@code errorMessage}.
+         *
+         * @throws ParseException if no suggestion can be made.
+         */
+        Command suggest(String commandWord, String errorMessage, String arguments) throws ParseException;
+    }
+}
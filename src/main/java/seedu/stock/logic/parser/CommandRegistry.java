@@ -0,0 +1,123 @@
+package seedu.stock.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.stock.logic.commands.AddCommand;
+import seedu.stock.logic.commands.BookmarkCommand;
+import seedu.stock.logic.commands.ClearCommand;
+import seedu.stock.logic.commands.Command;
+import seedu.stock.logic.commands.DeleteCommand;
+import seedu.stock.logic.commands.ExitCommand;
+import seedu.stock.logic.commands.FindCommand;
+import seedu.stock.logic.commands.FindExactCommand;
+import seedu.stock.logic.commands.HelpCommand;
+import seedu.stock.logic.commands.ListCommand;
+import seedu.stock.logic.commands.NoteCommand;
+import seedu.stock.logic.commands.NoteDeleteCommand;
+import seedu.stock.logic.commands.PrintCommand;
+import seedu.stock.logic.commands.RunCommand;
+import seedu.stock.logic.commands.SortCommand;
+import seedu.stock.logic.commands.StatisticsCommand;
+import seedu.stock.logic.commands.StockViewCommand;
+import seedu.stock.logic.commands.TabCommand;
+import seedu.stock.logic.commands.UnbookmarkCommand;
+import seedu.stock.logic.commands.UpdateCommand;
+import seedu.stock.logic.parser.CommandDescriptor.SuggestionGenerator;
+import seedu.stock.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words to the descriptors of their commands, so that the command of an input is found with a single
+ * lookup. Commands can be registered while the application is running.
+ */
+public class CommandRegistry {
+
+    private static final SuggestionGenerator BUILT_IN_SUGGESTION_GENERATOR = (commandWord, errorMessage, arguments) ->
+            new SuggestionCommandParser(commandWord, errorMessage).parse(arguments);
+
+    // the error of a script names the command of the script that is invalid, so it is shown as it is
+    private static final SuggestionGenerator SCRIPT_ERROR_REPORTER = (commandWord, errorMessage, arguments) -> {
+        throw new ParseException(errorMessage);
+    };
+
+    private static final List<CommandDescriptor> BUILT_IN_COMMANDS = List.of(
+            builtIn(AddCommand.COMMAND_WORD, new AddCommandParser()),
+            builtIn(BookmarkCommand.COMMAND_WORD, new BookmarkCommandParser()),
+            builtIn(ClearCommand.COMMAND_WORD, new ClearCommandParser()),
+            builtIn(DeleteCommand.COMMAND_WORD, new DeleteCommandParser()),
+            builtIn(ExitCommand.COMMAND_WORD, new ExitCommandParser()),
+            builtIn(FindCommand.COMMAND_WORD, new FindCommandParser()),
+            builtIn(FindExactCommand.COMMAND_WORD, new FindExactCommandParser()),
+            builtIn(HelpCommand.COMMAND_WORD, new HelpCommandParser()),
+            builtIn(ListCommand.COMMAND_WORD, new ListCommandParser()),
+            new CommandDescriptor(NoteCommand.COMMAND_WORD, new NoteCommandParser(), true,
+                    BUILT_IN_SUGGESTION_GENERATOR),
+            builtIn(NoteDeleteCommand.COMMAND_WORD, new NoteDeleteCommandParser()),
+            builtIn(PrintCommand.COMMAND_WORD, new PrintCommandParser()),
+            builtIn(SortCommand.COMMAND_WORD, new SortCommandParser()),
+            builtIn(StatisticsCommand.COMMAND_WORD, new StatisticsCommandParser()),
+            builtIn(StockViewCommand.COMMAND_WORD, new StockViewCommandParser()),
+            builtIn(TabCommand.COMMAND_WORD, new TabCommandParser()),
+            builtIn(UnbookmarkCommand.COMMAND_WORD, new UnbookmarkCommandParser()),
+            builtIn(UpdateCommand.COMMAND_WORD, new UpdateCommandParser()));
+
+    private final Map<String, CommandDescriptor> descriptors = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a registry without any commands.
+     */
+    public CommandRegistry() {}
+
+    /**
+     * Creates a registry of the built-in commands of Warenager.
+     * The commands of a script given to the run command are parsed with the commands of the registry, including
+     * those registered later.
+     */
+    public static CommandRegistry withBuiltInCommands() {
+        CommandRegistry registry = new CommandRegistry();
+        BUILT_IN_COMMANDS.forEach(registry::register);
+        // the arguments are not changed to lower case, as they hold file names and case sensitive commands
+        registry.register(new CommandDescriptor(RunCommand.COMMAND_WORD,
+                new RunCommandParser(new StockBookParser(registry)), true, SCRIPT_ERROR_REPORTER));
+        return registry;
+    }
+
+    private static CommandDescriptor builtIn(String commandWord, Parser<? extends Command> parser) {
+        return new CommandDescriptor(commandWord, parser, false, BUILT_IN_SUGGESTION_GENERATOR);
+    }
+
+    /**
+     * Registers the command described by {@code descriptor}.
+     *
+     * @throws IllegalArgumentException if a command with the same command word is already registered.
+     */
+    public void register(CommandDescriptor descriptor) {
+        requireNonNull(descriptor);
+        CommandDescriptor existingDescriptor = descriptors.putIfAbsent(descriptor.getCommandWord(), descriptor);
+        if (existingDescriptor != null) {
+            throw new IllegalArgumentException("A command is already registered for the command word: "
+                    + descriptor.getCommandWord());
+        }
+    }
+
+    /**
+     * Returns the descriptor of the command started by {@code commandWord}, if there is one.
+     */
+    public Optional<CommandDescriptor> find(String commandWord) {
+        requireNonNull(commandWord);
+        return Optional.ofNullable(descriptors.get(commandWord));
+    }
+
+    /**
+     * Returns an unmodifiable view of the command words of the registered commands.
+     */
+    public Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(descriptors.keySet());
+    }
+}
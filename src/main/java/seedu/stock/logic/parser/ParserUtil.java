@@ -99,7 +99,7 @@ public class ParserUtil {
             throw new ParseException(Location.MESSAGE_CONSTRAINTS);
         }
 
-        return new Location(trimmedLocation);
+        return Location.of(trimmedLocation);
     }
 
     /**
@@ -116,7 +116,7 @@ public class ParserUtil {
             throw new ParseException(Source.MESSAGE_CONSTRAINTS);
         }
 
-        return new Source(trimmedSource);
+        return Source.of(trimmedSource);
     }
 
     /**
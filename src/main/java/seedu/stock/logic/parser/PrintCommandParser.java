@@ -3,7 +3,9 @@ package seedu.stock.logic.parser;
 import static seedu.stock.commons.core.Messages.MESSAGE_DUPLICATE_HEADER_FIELD;
 import static seedu.stock.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_FILE_NAME;
+import static seedu.stock.logic.parser.CliSyntax.PREFIX_PRINT_OPTION;
 
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -22,11 +24,14 @@ public class PrintCommandParser implements Parser<PrintCommand> {
     public static final String INVALID_PRINT_ARGUMENT = "File name is invalid. File name should only contain"
             + " alphanumeric characters and should not be empty.";
 
+    public static final String INVALID_PRINT_OPTION = "Print option is invalid. Print option should be either "
+            + PrintCommand.OPTION_SHOWN + " or " + PrintCommand.OPTION_COMPRESSED + ".";
+
     private static final Logger logger = LogsCenter.getLogger(PrintCommandParser.class);
 
     private final Prefix[] allPossiblePrefixes = CliSyntax.getAllPossiblePrefixesAsArray();
 
-    private final Prefix[] validPrefixesForPrint = { PREFIX_FILE_NAME};
+    private final Prefix[] validPrefixesForPrint = { PREFIX_FILE_NAME, PREFIX_PRINT_OPTION };
 
     /**
      * Parses the given {@code String} of arguments in the context of the PrintCommand
@@ -60,8 +65,17 @@ public class PrintCommandParser implements Parser<PrintCommand> {
             throw new ParseException(String.format(INVALID_PRINT_ARGUMENT, PrintCommand.MESSAGE_USAGE));
         }
 
+        List<String> options = argMultimap.getAllValues(PREFIX_PRINT_OPTION);
+        for (String option : options) {
+            if (!option.equals(PrintCommand.OPTION_SHOWN) && !option.equals(PrintCommand.OPTION_COMPRESSED)) {
+                throw new ParseException(INVALID_PRINT_OPTION);
+            }
+        }
+        boolean isShownOnly = options.contains(PrintCommand.OPTION_SHOWN);
+        boolean isCompressed = options.contains(PrintCommand.OPTION_COMPRESSED);
+
         logger.log(Level.INFO, "Finished parsing print command successfully");
-        return new PrintCommand(fileName);
+        return new PrintCommand(fileName, isShownOnly, isCompressed);
     }
 
     /**
@@ -0,0 +1,135 @@
+package seedu.stock.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.stock.logic.parser.CliSyntax.PREFIX_SCRIPT_FILE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.stock.commons.core.LogsCenter;
+import seedu.stock.logic.commands.Command;
+import seedu.stock.logic.commands.ExitCommand;
+import seedu.stock.logic.commands.FindCommand;
+import seedu.stock.logic.commands.FindExactCommand;
+import seedu.stock.logic.commands.HelpCommand;
+import seedu.stock.logic.commands.ListCommand;
+import seedu.stock.logic.commands.PrintCommand;
+import seedu.stock.logic.commands.RunCommand;
+import seedu.stock.logic.commands.SortCommand;
+import seedu.stock.logic.commands.StatisticsCommand;
+import seedu.stock.logic.commands.StockViewCommand;
+import seedu.stock.logic.commands.SuggestionCommand;
+import seedu.stock.logic.commands.TabCommand;
+import seedu.stock.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses the arguments of the run command into the commands of a script, which are either the lines of a file or
+ * the commands of the arguments separated by {@code ;}.
+ * Blank lines and blank commands are skipped. Every command is parsed before any of them is run.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the script file: %1$s";
+    public static final String MESSAGE_COMMAND_INVALID = "Command %1$d of the script is invalid: %2$s\n%3$s\n"
+            + "None of the commands of the script were run.";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "Only commands that change the stocks "
+            + "can be run in a script.";
+
+    // commands that change what the user interface shows, or that write files, which a failed script cannot undo
+    private static final Set<String> COMMAND_WORDS_NOT_ALLOWED = Set.of(ExitCommand.COMMAND_WORD,
+            FindCommand.COMMAND_WORD, FindExactCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
+            ListCommand.COMMAND_WORD, PrintCommand.COMMAND_WORD, RunCommand.COMMAND_WORD, SortCommand.COMMAND_WORD,
+            StatisticsCommand.COMMAND_WORD, StockViewCommand.COMMAND_WORD, TabCommand.COMMAND_WORD);
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommandParser.class);
+
+    private final StockBookParser commandParser;
+
+    /**
+     * Creates a parser of scripts whose commands are parsed by {@code commandParser}.
+     */
+    public RunCommandParser(StockBookParser commandParser) {
+        requireNonNull(commandParser);
+        this.commandParser = commandParser;
+    }
+
+    /**
+     * Parses {@code args} into a command that runs the commands of the script, in the order they are to be run.
+     *
+     * @throws ParseException if the script file cannot be read, the script has no commands, or a command of the
+     *     script is invalid or cannot be run in a script.
+     */
+    @Override
+    public RunCommand parse(String args) throws ParseException {
+        logger.log(Level.INFO, "Starting to parse run command");
+        List<String> script = parseScript(args);
+        List<Command> commands = new ArrayList<>(script.size());
+        for (int i = 0; i < script.size(); i++) {
+            commands.add(parseScriptCommand(script.get(i), i + 1));
+        }
+        logger.log(Level.INFO, "Finished parsing run command successfully");
+        return new RunCommand(script, commands);
+    }
+
+    /**
+     * Parses {@code args} into the texts of the commands of the script.
+     */
+    static List<String> parseScript(String args) throws ParseException {
+        requireNonNull(args);
+        String arguments = args.trim();
+        Stream<String> commandTexts = arguments.startsWith(PREFIX_SCRIPT_FILE.getPrefix())
+                ? readScriptFile(arguments.substring(PREFIX_SCRIPT_FILE.getPrefix().length()).trim()).stream()
+                : Arrays.stream(arguments.split(RunCommand.COMMAND_SEPARATOR));
+        List<String> script = commandTexts.map(String::trim)
+                .filter(commandText -> !commandText.isEmpty())
+                .collect(Collectors.toList());
+        if (script.isEmpty()) {
+            throw new ParseException(RunCommand.MESSAGE_USAGE);
+        }
+        return script;
+    }
+
+    private static List<String> readScriptFile(String fileName) throws ParseException {
+        if (fileName.isEmpty()) {
+            throw new ParseException(RunCommand.MESSAGE_USAGE);
+        }
+        try {
+            return Files.readAllLines(Path.of(fileName));
+        } catch (IOException | InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_FILE, fileName), e);
+        }
+    }
+
+    private Command parseScriptCommand(String commandText, int commandNumber) throws ParseException {
+        String commandWord = commandText.split("\\s+", 2)[0];
+        if (COMMAND_WORDS_NOT_ALLOWED.contains(commandWord)) {
+            throw new ParseException(String.format(MESSAGE_COMMAND_INVALID, commandNumber, commandText,
+                    MESSAGE_COMMAND_NOT_ALLOWED));
+        }
+
+        Command command;
+        try {
+            command = commandParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_COMMAND_INVALID, commandNumber, commandText,
+                    pe.getMessage()), pe);
+        }
+
+        // an input that cannot be parsed is turned into a suggestion, which would only fail once it is run
+        if (command instanceof SuggestionCommand) {
+            throw new ParseException(String.format(MESSAGE_COMMAND_INVALID, commandNumber, commandText,
+                    ((SuggestionCommand) command).getToBeDisplayed()));
+        }
+        return command;
+    }
+}
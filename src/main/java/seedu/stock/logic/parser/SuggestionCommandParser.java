@@ -9,6 +9,7 @@ import static seedu.stock.logic.commands.CommandWords.FIND_EXACT_COMMAND_WORD;
 import static seedu.stock.logic.commands.CommandWords.NOTE_COMMAND_WORD;
 import static seedu.stock.logic.commands.CommandWords.NOTE_DELETE_COMMAND_WORD;
 import static seedu.stock.logic.commands.CommandWords.PRINT_COMMAND_WORD;
+import static seedu.stock.logic.commands.CommandWords.RUN_COMMAND_WORD;
 import static seedu.stock.logic.commands.CommandWords.SORT_COMMAND_WORD;
 import static seedu.stock.logic.commands.CommandWords.STATISTICS_COMMAND_WORD;
 import static seedu.stock.logic.commands.CommandWords.STOCK_VIEW_COMMAND_WORD;
@@ -23,6 +24,7 @@ import static seedu.stock.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_NEW_QUANTITY;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_NOTE_INDEX;
+import static seedu.stock.logic.parser.CliSyntax.PREFIX_PRINT_OPTION;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_QUANTITY;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER;
 import static seedu.stock.logic.parser.CliSyntax.PREFIX_SORT_FIELD;
@@ -36,6 +38,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.stock.commons.core.LogsCenter;
+import seedu.stock.commons.util.BkTree;
 import seedu.stock.commons.util.SortUtil.Field;
 import seedu.stock.commons.util.SortUtil.Order;
 import seedu.stock.commons.util.SuggestionUtil;
@@ -52,6 +55,7 @@ import seedu.stock.logic.commands.ListCommand;
 import seedu.stock.logic.commands.NoteCommand;
 import seedu.stock.logic.commands.NoteDeleteCommand;
 import seedu.stock.logic.commands.PrintCommand;
+import seedu.stock.logic.commands.RunCommand;
 import seedu.stock.logic.commands.SortCommand;
 import seedu.stock.logic.commands.StatisticsCommand;
 import seedu.stock.logic.commands.StockViewCommand;
@@ -71,6 +75,12 @@ import seedu.stock.model.stock.Source;
 public class SuggestionCommandParser implements Parser<SuggestionCommand> {
     public static final String MESSAGE_SUGGESTION = "Do you mean: \n";
     private static final Logger logger = LogsCenter.getLogger(SuggestionCommandParser.class);
+    private static final BkTree COMMAND_WORDS = new BkTree(SuggestionUtil::minimumEditDistance);
+
+    static {
+        CommandWords.getAllCommandWords().forEach(COMMAND_WORDS::add);
+    }
+
     private String faultyCommandWord;
     private String commandWord;
     private String headerErrorMessage;
@@ -113,27 +123,17 @@ public class SuggestionCommandParser implements Parser<SuggestionCommand> {
     public SuggestionCommand parse(String args) throws ParseException {
         logger.log(Level.INFO, "Starting to generate suggestion");
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizeAllPrefixes(args);
-        List<String> allCommandWords = CommandWords.getAllCommandWords();
         StringBuilder toBeDisplayed = new StringBuilder();
 
-        String suggestedCommandWord = faultyCommandWord;
-        int bestEditDistanceSoFar = Integer.MAX_VALUE;
-        for (String commandWord: allCommandWords) {
-            int currentEditDistance = SuggestionUtil.minimumEditDistance(faultyCommandWord, commandWord);
-            if (currentEditDistance < bestEditDistanceSoFar) {
-                bestEditDistanceSoFar = currentEditDistance;
-                suggestedCommandWord = commandWord;
+        String suggestedCommandWord = commandWord;
+        if (commandWord.equals("")) {
+            suggestedCommandWord = COMMAND_WORDS.findClosest(faultyCommandWord, Integer.MAX_VALUE, unused -> true)
+                    .orElse(faultyCommandWord);
+            if (suggestedCommandWord.equals(faultyCommandWord)) {
+                throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
             }
         }
 
-        if (suggestedCommandWord.equals(faultyCommandWord) && commandWord.equals("")) {
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
-
-        if (!commandWord.equals("")) {
-            suggestedCommandWord = commandWord;
-        }
-
         if (headerErrorMessage.equals("")) {
             toBeDisplayed.append(MESSAGE_UNKNOWN_COMMAND + "\n" + MESSAGE_SUGGESTION);
         } else {
@@ -213,6 +213,10 @@ public class SuggestionCommandParser implements Parser<SuggestionCommand> {
             generateUnbookmarkSuggestion(toBeDisplayed, argMultimap);
             break;
 
+        case RunCommand.COMMAND_WORD:
+            generateRunSuggestion(toBeDisplayed, args);
+            break;
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -715,6 +719,21 @@ public class SuggestionCommandParser implements Parser<SuggestionCommand> {
         toBeDisplayed.append(CommandWords.EXIT_COMMAND_WORD);
     }
 
+    /**
+     * Generates suggestion for faulty run command.
+     *
+     * @param toBeDisplayed The accumulated suggestion to be displayed to the user.
+     * @param args The user input, which is kept as it is since it holds the commands of the script.
+     */
+    private void generateRunSuggestion(StringBuilder toBeDisplayed, String args) {
+        toBeDisplayed.append(RUN_COMMAND_WORD);
+        if (!args.isBlank()) {
+            toBeDisplayed.append(" " + args.trim());
+        }
+
+        generateBodyMessage(toBeDisplayed, RunCommand.MESSAGE_USAGE);
+    }
+
     /**
      * Generates suggestion for faulty print command.
      *
@@ -737,6 +756,11 @@ public class SuggestionCommandParser implements Parser<SuggestionCommand> {
             }
             break;
         }
+        for (String option : argMultimap.getAllValues(PREFIX_PRINT_OPTION)) {
+            if (checkIfParameterValid(PREFIX_PRINT_OPTION, option)) {
+                toBeDisplayed.append(" " + PREFIX_PRINT_OPTION + option);
+            }
+        }
 
         generateBodyMessage(toBeDisplayed, PrintCommand.MESSAGE_USAGE);
     }
@@ -795,6 +819,8 @@ public class SuggestionCommandParser implements Parser<SuggestionCommand> {
             return true;
         } else if (prefix.equals(PREFIX_FILE_NAME)) {
             return parameter.matches(PrintCommandParser.VALIDATION_REGEX);
+        } else if (prefix.equals(PREFIX_PRINT_OPTION)) {
+            return parameter.equals(PrintCommand.OPTION_SHOWN) || parameter.equals(PrintCommand.OPTION_COMPRESSED);
         } else {
             return false;
         }
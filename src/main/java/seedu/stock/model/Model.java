@@ -1,14 +1,22 @@
 package seedu.stock.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.stock.commons.core.GuiSettings;
+import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.SerialNumberSet;
 import seedu.stock.model.stock.Source;
 import seedu.stock.model.stock.Stock;
+import seedu.stock.model.stock.StockSearchIndex;
+import seedu.stock.model.stock.predicates.FieldContainsKeywordsPredicate;
 
 /**
  * The API of the Model component.
@@ -55,6 +63,17 @@ public interface Model {
     /** Returns the StockBook */
     ReadOnlyStockBook getStockBook();
 
+    /** Returns the version of the StockBook, which increases whenever the StockBook changes */
+    long getStockBookVersion();
+
+    /**
+     * Returns a read-only snapshot of the StockBook that is not affected by later changes to the StockBook.
+     */
+    ReadOnlyStockBook getStockBookSnapshot();
+
+    /** Returns the statistics of the stocks in the StockBook */
+    StockStatistics getStockStatistics();
+
     /**
      * Returns true if a stock with the same identity as {@code stock} exists in the stock book.
      */
@@ -79,7 +98,49 @@ public interface Model {
      */
     void setStock(Stock target, Stock updatedStock);
 
-    /** Returns an unmodifiable view of the filtered stock list */
+    /**
+     * Deletes the given stocks as a single change.
+     * The stocks must exist in the stock book.
+     */
+    void deleteStocks(Collection<Stock> targets);
+
+    /**
+     * Adds the given stocks as a single change.
+     * {@code stocks} must not already exist in the stock book or contain duplicate stocks.
+     */
+    void addStocks(Collection<Stock> stocks);
+
+    /**
+     * Replaces every key of {@code replacements} with its value as a single change.
+     * Every key must exist in the stock book.
+     * The values must not be the same as another existing stock in the stock book, or as each other.
+     */
+    void setStocks(Map<Stock, Stock> replacements);
+
+    /**
+     * Returns the stock in the stock book with the given {@code serialNumber}, if any.
+     */
+    Optional<Stock> findBySerialNumber(SerialNumber serialNumber);
+
+    /**
+     * Returns the stocks in the stock book with the given {@code serialNumbers}, in the order given.
+     * Serial numbers that do not belong to any stock are skipped.
+     */
+    List<Stock> findAllBySerialNumbers(Collection<SerialNumber> serialNumbers);
+
+    /**
+     * Returns the serial numbers of the stocks in the stock book that match {@code predicate},
+     * using the search index of the stock book instead of testing every stock.
+     */
+    Set<SerialNumber> findMatchingSerialNumbers(FieldContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns the serial number, source or location of a stock in the stock book that is closest to the mistyped
+     * {@code value} of {@code field}, if one is close enough to be suggested.
+     */
+    Optional<String> findClosestValue(StockSearchIndex.Field field, String value);
+
+    /** Returns an unmodifiable view of the filtered stock list, in the order it was last sorted by */
     ObservableList<Stock> getFilteredStockList();
 
     /**
@@ -88,12 +149,28 @@ public interface Model {
      */
     void updateFilteredStockList(Predicate<Stock> predicate);
 
+    /**
+     * Sorts the view of the filtered stock list by the given {@code comparator}.
+     * The current filter is kept, and the order of the stocks in the stock book is not changed.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
     void sortFilteredStockList(Comparator<Stock> comparator);
 
     void setSerialNumberSetsBook(ReadOnlySerialNumberSetsBook serialNumberSetsBook);
 
     ReadOnlySerialNumberSetsBook getSerialNumberSetsBook();
 
+    /**
+     * Returns the version of the SerialNumberSetsBook, which increases whenever the SerialNumberSetsBook changes.
+     */
+    long getSerialNumberSetsBookVersion();
+
+    /**
+     * Returns a read-only copy of the SerialNumberSetsBook that is not affected by later changes to the
+     * SerialNumberSetsBook.
+     */
+    ReadOnlySerialNumberSetsBook getSerialNumberSetsBookSnapshot();
+
     boolean hasSerialNumberSet(SerialNumberSet serialNumberSet);
 
     void deleteSerialNumberSet(SerialNumberSet target);
@@ -4,17 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.stock.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.stock.commons.core.GuiSettings;
 import seedu.stock.commons.core.LogsCenter;
+import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.SerialNumberSet;
 import seedu.stock.model.stock.Source;
 import seedu.stock.model.stock.Stock;
+import seedu.stock.model.stock.StockSearchIndex;
+import seedu.stock.model.stock.predicates.FieldContainsKeywordsPredicate;
 
 /**
  * Represents the in-memory model of the stock book data.
@@ -25,26 +34,43 @@ public class ModelManager implements Model {
     private final StockBook stockBook;
     private final SerialNumberSetsBook serialNumberSetsBook;
     private final UserPrefs userPrefs;
-    private FilteredList<Stock> filteredStocks;
+    private final FilteredList<Stock> filteredStocks;
+    private final SortedList<Stock> sortedStocks;
     private final FilteredList<SerialNumberSet> filteredSerialNumberSets;
 
     /**
-     * Initializes a ModelManager with the given stockBook and userPrefs.
+     * Initializes a ModelManager with copies of the given stockBook, userPrefs and serialNumberSetsBook.
      */
     public ModelManager(ReadOnlyStockBook stockBook, ReadOnlyUserPrefs userPrefs,
                         ReadOnlySerialNumberSetsBook serialNumberSetsBook) {
+        this(new StockBook(requireNonNull(stockBook)), userPrefs, new SerialNumberSetsBook(serialNumberSetsBook));
+    }
+
+    private ModelManager(StockBook stockBook, ReadOnlyUserPrefs userPrefs, SerialNumberSetsBook serialNumberSetsBook) {
         super();
         requireAllNonNull(stockBook, userPrefs);
 
-        logger.fine("Initializing with stock book: " + stockBook + " and user prefs " + userPrefs);
+        // only the size of the stock book is logged, as describing every stock takes long for a large stock book
+        logger.fine("Initializing with " + stockBook.getStockList().size() + " stocks and user prefs " + userPrefs);
 
-        this.stockBook = new StockBook(stockBook);
-        this.serialNumberSetsBook = new SerialNumberSetsBook(serialNumberSetsBook);
+        this.stockBook = stockBook;
+        this.serialNumberSetsBook = serialNumberSetsBook;
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStocks = new FilteredList<>(this.stockBook.getStockList());
+        sortedStocks = new SortedList<>(filteredStocks);
         filteredSerialNumberSets = new FilteredList<>(this.serialNumberSetsBook.getSerialNumberSetsList());
     }
 
+    /**
+     * Returns a ModelManager that keeps and changes the given stockBook and serialNumberSetsBook themselves
+     * instead of copies of them, for books that nothing else uses, such as books just read from storage.
+     */
+    public static ModelManager ofOwnedBooks(StockBook stockBook, ReadOnlyUserPrefs userPrefs,
+                                            SerialNumberSetsBook serialNumberSetsBook) {
+        requireAllNonNull(stockBook, serialNumberSetsBook);
+        return new ModelManager(stockBook, userPrefs, serialNumberSetsBook);
+    }
+
     public ModelManager() {
         this(new StockBook(), new UserPrefs(), new SerialNumberSetsBook());
     }
@@ -96,6 +122,21 @@ public class ModelManager implements Model {
         return stockBook;
     }
 
+    @Override
+    public long getStockBookVersion() {
+        return stockBook.getVersion();
+    }
+
+    @Override
+    public ReadOnlyStockBook getStockBookSnapshot() {
+        return stockBook.snapshot();
+    }
+
+    @Override
+    public StockStatistics getStockStatistics() {
+        return stockBook.getStatistics();
+    }
+
     @Override
     public boolean hasStock(Stock stock) {
         requireNonNull(stock);
@@ -120,6 +161,49 @@ public class ModelManager implements Model {
         stockBook.setStock(target, updatedStock);
     }
 
+    @Override
+    public void deleteStocks(Collection<Stock> targets) {
+        requireNonNull(targets);
+        stockBook.removeStocks(targets);
+    }
+
+    @Override
+    public void addStocks(Collection<Stock> stocks) {
+        requireNonNull(stocks);
+        stockBook.addStocks(stocks);
+        updateFilteredStockList(PREDICATE_SHOW_ALL_STOCKS);
+    }
+
+    @Override
+    public void setStocks(Map<Stock, Stock> replacements) {
+        requireNonNull(replacements);
+        stockBook.setStocks(replacements);
+    }
+
+    @Override
+    public Optional<Stock> findBySerialNumber(SerialNumber serialNumber) {
+        requireNonNull(serialNumber);
+        return stockBook.findBySerialNumber(serialNumber);
+    }
+
+    @Override
+    public List<Stock> findAllBySerialNumbers(Collection<SerialNumber> serialNumbers) {
+        requireNonNull(serialNumbers);
+        return stockBook.findAllBySerialNumbers(serialNumbers);
+    }
+
+    @Override
+    public Set<SerialNumber> findMatchingSerialNumbers(FieldContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return stockBook.findMatchingSerialNumbers(predicate);
+    }
+
+    @Override
+    public Optional<String> findClosestValue(StockSearchIndex.Field field, String value) {
+        requireAllNonNull(field, value);
+        return stockBook.findClosestValue(field, value);
+    }
+
     //=========== SerialNumberSetsBook ================================================================================
 
     @Override
@@ -132,6 +216,17 @@ public class ModelManager implements Model {
         return serialNumberSetsBook;
     }
 
+    @Override
+    public long getSerialNumberSetsBookVersion() {
+        return serialNumberSetsBook.getVersion();
+    }
+
+    @Override
+    public ReadOnlySerialNumberSetsBook getSerialNumberSetsBookSnapshot() {
+        // serial number sets are few and immutable, so a copy of the list is cheap
+        return new SerialNumberSetsBook(serialNumberSetsBook);
+    }
+
     @Override
     public boolean hasSerialNumberSet(SerialNumberSet serialNumberSet) {
         requireNonNull(serialNumberSet);
@@ -150,9 +245,7 @@ public class ModelManager implements Model {
 
     @Override
     public String generateNextSerialNumber(Source source) {
-        String serialNumber = serialNumberSetsBook.generateNextSerialNumber(source);
-        serialNumberSetsBook.incrementSerialNumberSet(source);
-        return serialNumber;
+        return serialNumberSetsBook.generateAndIncrementSerialNumber(source);
     }
 
     @Override
@@ -175,7 +268,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Stock> getFilteredStockList() {
-        return filteredStocks;
+        return sortedStocks;
     }
 
     @Override
@@ -186,9 +279,8 @@ public class ModelManager implements Model {
 
     @Override
     public void sortFilteredStockList(Comparator<Stock> comparator) {
-        filteredStocks.setPredicate(PREDICATE_SHOW_ALL_STOCKS);
-        stockBook.sortStocks(comparator);
-        filteredStocks = new FilteredList<>(stockBook.getStockList());
+        requireNonNull(comparator);
+        sortedStocks.setComparator(comparator);
     }
 
     @Override
@@ -218,7 +310,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return stockBook.equals(other.stockBook)
                 && userPrefs.equals(other.userPrefs)
-                && filteredStocks.equals(other.filteredStocks)
+                && sortedStocks.equals(other.sortedStocks)
                 && serialNumberSetsBook.equals(other.serialNumberSetsBook);
     }
 
@@ -6,7 +6,6 @@ import java.util.List;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
-import seedu.stock.model.stock.AccumulatedQuantity;
 import seedu.stock.model.stock.SerialNumberSet;
 import seedu.stock.model.stock.Source;
 import seedu.stock.model.stock.UniqueSerialNumberSetList;
@@ -14,10 +13,12 @@ import seedu.stock.model.stock.UniqueSerialNumberSetList;
 /**
  * Wraps all data at the SerialNumberSetsBook level.
  * Duplicates are not allowed (by .isSameSerialNumberSet comparison).
+ * Every change to the SerialNumberSetsBook increases its version, so that unchanged data need not be saved again.
  */
 public class SerialNumberSetsBook implements ReadOnlySerialNumberSetsBook {
 
     private final UniqueSerialNumberSetList serialNumberSets;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -48,6 +49,7 @@ public class SerialNumberSetsBook implements ReadOnlySerialNumberSetsBook {
      */
     public void setSerialNumberSets(List<SerialNumberSet> serialNumberSetList) {
         this.serialNumberSets.setSerialNumberSets(serialNumberSetList);
+        version++;
     }
 
     /**
@@ -76,6 +78,7 @@ public class SerialNumberSetsBook implements ReadOnlySerialNumberSetsBook {
      */
     public void addSerialNumberSet(SerialNumberSet p) {
         serialNumberSets.add(p);
+        version++;
     }
 
     /**
@@ -88,6 +91,7 @@ public class SerialNumberSetsBook implements ReadOnlySerialNumberSetsBook {
         requireNonNull(editedSerialNumberSet);
 
         serialNumberSets.setSerialNumberSet(target, editedSerialNumberSet);
+        version++;
     }
 
     /**
@@ -97,6 +101,7 @@ public class SerialNumberSetsBook implements ReadOnlySerialNumberSetsBook {
     public void removeSerialNumberSet(SerialNumberSet key) {
         //removes the serial number set related to the given key.
         serialNumberSets.remove(key);
+        version++;
     }
 
     /**
@@ -106,16 +111,8 @@ public class SerialNumberSetsBook implements ReadOnlySerialNumberSetsBook {
      * @param source The source company name.
      */
     public void incrementSerialNumberSet(Source source) {
-        Optional<SerialNumberSet> serialNumberSetOptional = serialNumberSets.getSerialNumberSet(source);
-        if (serialNumberSetOptional.isPresent()) {
-            SerialNumberSet current = serialNumberSetOptional.get();
-            SerialNumberSet updated = current.getNewIncrementedSerialNumberSet();
-            setSerialNumberSet(current, updated);
-        } else {
-            SerialNumberSet toAdd = new SerialNumberSet(source, new AccumulatedQuantity("1"));
-            //adds the desired serial number set by calling the addSerialNumberSet method.
-            addSerialNumberSet(toAdd);
-        }
+        serialNumberSets.incrementSerialNumberSet(source);
+        version++;
     }
 
     /**
@@ -134,6 +131,27 @@ public class SerialNumberSetsBook implements ReadOnlySerialNumberSetsBook {
             return source.value + "1";
         }
     }
+
+    /**
+     * Generates a serial number for the stock from a particular source company and increases the quantity
+     *     in the serial number set of the source company by 1, in a single look up.
+     *
+     * @param source The source company name.
+     * @return The generated serial number.
+     */
+    public String generateAndIncrementSerialNumber(Source source) {
+        SerialNumberSet incremented = serialNumberSets.incrementSerialNumberSet(source);
+        version++;
+        return source.value + incremented.getAccumulatedQuantity().getValue();
+    }
+
+    /**
+     * Returns the version of the SerialNumberSetsBook, which increases whenever the SerialNumberSetsBook changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     //// util methods
 
     @Override
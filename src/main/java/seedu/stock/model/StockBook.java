@@ -2,20 +2,31 @@ package seedu.stock.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.Stock;
+import seedu.stock.model.stock.StockSearchIndex;
 import seedu.stock.model.stock.UniqueStockList;
+import seedu.stock.model.stock.predicates.FieldContainsKeywordsPredicate;
 
 /**
  * Wraps all data at the stock-book level
  * Duplicates are not allowed (by .isSameStock comparison)
+ * Statistics of the stocks are kept up to date as stocks are added, updated and removed.
+ * Every change to the stock book increases its version, so that unchanged data need not be saved again.
  */
 public class StockBook implements ReadOnlyStockBook {
 
     private final UniqueStockList stocks;
+    private final StockStatistics statistics;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +37,7 @@ public class StockBook implements ReadOnlyStockBook {
      */
     {
         stocks = new UniqueStockList();
+        statistics = new StockStatistics();
     }
 
     public StockBook() {}
@@ -46,6 +58,8 @@ public class StockBook implements ReadOnlyStockBook {
      */
     public void setStocks(List<Stock> stocks) {
         this.stocks.setStocks(stocks);
+        statistics.setStocks(stocks);
+        version++;
     }
 
     /**
@@ -73,6 +87,8 @@ public class StockBook implements ReadOnlyStockBook {
      */
     public void addStock(Stock p) {
         stocks.add(p);
+        statistics.add(p);
+        version++;
     }
 
     /**
@@ -83,7 +99,10 @@ public class StockBook implements ReadOnlyStockBook {
     public void setStock(Stock target, Stock editedStock) {
         requireNonNull(editedStock);
 
-        stocks.setStock(target, editedStock);
+        Stock replacedStock = stocks.setStock(target, editedStock);
+        statistics.remove(replacedStock);
+        statistics.add(editedStock);
+        version++;
     }
 
     /**
@@ -91,7 +110,93 @@ public class StockBook implements ReadOnlyStockBook {
      * {@code key} must exist in the stock book.
      */
     public void removeStock(Stock key) {
-        stocks.remove(key);
+        Stock removedStock = stocks.remove(key);
+        statistics.remove(removedStock);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the stock book as a single change.
+     * None of the stocks may already exist in the stock book, and they must not contain duplicate stocks.
+     */
+    public void addStocks(Collection<Stock> toAdd) {
+        stocks.addStocks(toAdd);
+        toAdd.forEach(statistics::add);
+        version++;
+    }
+
+    /**
+     * Replaces every key of {@code replacements} in the stock book with its value as a single change.
+     * Every key must exist in the stock book, and the stock book must not contain duplicate stocks after
+     * the replacement.
+     */
+    public void setStocks(Map<Stock, Stock> replacements) {
+        List<Stock> replacedStocks = stocks.setStocks(replacements);
+        replacedStocks.forEach(statistics::remove);
+        replacements.values().forEach(statistics::add);
+        version++;
+    }
+
+    /**
+     * Removes the equivalent stocks of {@code keys} from this {@code StockBook} as a single change.
+     * Every stock must exist in the stock book.
+     */
+    public void removeStocks(Collection<Stock> keys) {
+        List<Stock> removedStocks = stocks.removeStocks(keys);
+        removedStocks.forEach(statistics::remove);
+        version++;
+    }
+
+    /**
+     * Returns the stock with the given {@code serialNumber}, if it exists in the stock book.
+     */
+    public Optional<Stock> findBySerialNumber(SerialNumber serialNumber) {
+        return stocks.findBySerialNumber(serialNumber);
+    }
+
+    /**
+     * Returns the stocks with the given {@code serialNumbers} that exist in the stock book.
+     */
+    public List<Stock> findAllBySerialNumbers(Collection<SerialNumber> serialNumbers) {
+        return stocks.findAllBySerialNumbers(serialNumbers);
+    }
+
+    /**
+     * Returns the serial numbers of the stocks in the stock book that match {@code predicate}.
+     */
+    public Set<SerialNumber> findMatchingSerialNumbers(FieldContainsKeywordsPredicate predicate) {
+        return stocks.findMatchingSerialNumbers(predicate);
+    }
+
+    /**
+     * Returns the value of {@code field} of a stock in the stock book that is closest to {@code value}, if one is
+     * close enough to be suggested in place of {@code value}.
+     */
+    public Optional<String> findClosestValue(StockSearchIndex.Field field, String value) {
+        return stocks.findClosestValue(field, value);
+    }
+
+    /**
+     * Returns a read-only snapshot of the stocks currently in the stock book.
+     * Taking the snapshot does not copy the stocks, and the snapshot is not affected by later changes to the
+     * stock book, so it can be read while the stock book keeps changing.
+     */
+    public ReadOnlyStockBook snapshot() {
+        return new Snapshot(stocks.snapshot());
+    }
+
+    /**
+     * Returns the version of the stock book, which increases whenever the stock book changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the statistics of the stocks in the stock book.
+     */
+    public StockStatistics getStatistics() {
+        return statistics;
     }
 
     //// util methods
@@ -122,7 +227,19 @@ public class StockBook implements ReadOnlyStockBook {
         return stocks.hashCode();
     }
 
-    public void sortStocks(Comparator<Stock> comparator) {
-        stocks.sortList(comparator);
+    /**
+     * A frozen version of the stocks of a {@code StockBook}.
+     */
+    private static class Snapshot implements ReadOnlyStockBook {
+        private final ObservableList<Stock> stockList;
+
+        Snapshot(List<Stock> stocks) {
+            stockList = FXCollections.unmodifiableObservableList(FXCollections.observableList(stocks));
+        }
+
+        @Override
+        public ObservableList<Stock> getStockList() {
+            return stockList;
+        }
     }
 }
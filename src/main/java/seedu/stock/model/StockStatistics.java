@@ -0,0 +1,94 @@
+package seedu.stock.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.stock.model.stock.Stock;
+
+/**
+ * Aggregated statistics of the stocks in a {@code StockBook}, grouped by source.
+ * The aggregates are updated by deltas whenever a stock is added to or removed from the stock book, so that
+ * reading them does not require scanning every stock.
+ */
+public class StockStatistics {
+
+    private final Map<String, Integer> sourceCounts = new HashMap<>();
+    private final Map<String, Long> sourceQuantityTotals = new HashMap<>();
+    private final Map<String, Map<String, Integer>> sourceNameQuantityTables = new HashMap<>();
+
+    /**
+     * Adds {@code stock} to the aggregates.
+     */
+    void add(Stock stock) {
+        requireNonNull(stock);
+        String source = stock.getSource().value;
+        int quantity = stock.getQuantity().getQuantityAsInt();
+
+        sourceCounts.merge(source, 1, Integer::sum);
+        sourceQuantityTotals.merge(source, (long) quantity, Long::sum);
+        sourceNameQuantityTables.computeIfAbsent(source, unused -> new HashMap<>())
+                .put(stock.getName().fullName, quantity);
+    }
+
+    /**
+     * Removes {@code stock} from the aggregates.
+     * {@code stock} must have been added before.
+     */
+    void remove(Stock stock) {
+        requireNonNull(stock);
+        String source = stock.getSource().value;
+        int quantity = stock.getQuantity().getQuantityAsInt();
+
+        Integer count = sourceCounts.get(source);
+        assert count != null : "Removed stock was never added to the statistics";
+        if (count == 1) {
+            sourceCounts.remove(source);
+            sourceQuantityTotals.remove(source);
+            sourceNameQuantityTables.remove(source);
+            return;
+        }
+
+        sourceCounts.put(source, count - 1);
+        sourceQuantityTotals.merge(source, (long) -quantity, Long::sum);
+        sourceNameQuantityTables.get(source).remove(stock.getName().fullName);
+    }
+
+    /**
+     * Replaces the aggregates with those of {@code stocks}.
+     */
+    void setStocks(List<Stock> stocks) {
+        requireNonNull(stocks);
+        sourceCounts.clear();
+        sourceQuantityTotals.clear();
+        sourceNameQuantityTables.clear();
+        stocks.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of stocks from each source.
+     */
+    public Map<String, Integer> getSourceCounts() {
+        return new HashMap<>(sourceCounts);
+    }
+
+    /**
+     * Returns the total quantity of the stocks from {@code source}, or 0 if there are no stocks from it.
+     */
+    public long getTotalQuantity(String source) {
+        requireNonNull(source);
+        return sourceQuantityTotals.getOrDefault(source, 0L);
+    }
+
+    /**
+     * Returns the quantity of each stock from {@code source}, keyed by the name of the stock.
+     * The table is empty if there are no stocks from {@code source}.
+     */
+    public Map<String, Integer> getNameQuantityTable(String source) {
+        requireNonNull(source);
+        return new HashMap<>(sourceNameQuantityTables.getOrDefault(source, Collections.emptyMap()));
+    }
+}
@@ -3,8 +3,11 @@ package seedu.stock.model.stock;
 import static java.util.Objects.requireNonNull;
 import static seedu.stock.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a source's accumulated quantity.
+ * The accumulated quantity is kept as a primitive counter, so incrementing it does not parse any strings.
  */
 public class AccumulatedQuantity {
 
@@ -12,7 +15,9 @@ public class AccumulatedQuantity {
             "Invalid accumulated quantity!\n"
             + "AccumulatedQuantity numbers should be more than 0.";
     public static final String VALIDATION_REGEX = "\\d+";
-    private String accumulatedQuantity;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final long MAX_ACCUMULATED_QUANTITY = Integer.MAX_VALUE;
+    private final long accumulatedQuantity;
 
     /**
      * Constructs a {@code AccumulatedQuantity}.
@@ -22,21 +27,31 @@ public class AccumulatedQuantity {
     public AccumulatedQuantity(String accumulatedQuantity) {
         requireNonNull(accumulatedQuantity);
         checkArgument(isValidAccumulatedQuantity(accumulatedQuantity), MESSAGE_CONSTRAINTS);
+        this.accumulatedQuantity = Long.parseLong(accumulatedQuantity);
+    }
+
+    private AccumulatedQuantity(long accumulatedQuantity) {
         this.accumulatedQuantity = accumulatedQuantity;
     }
 
+    /**
+     * Returns the accumulated quantity increased by 1.
+     * The accumulated quantity wraps around to 0 once it goes past the largest valid value,
+     * so that it can always be saved and read back.
+     */
     public AccumulatedQuantity getIncrementedAccumulatedQuantity() {
-        try {
-            int increased = Integer.parseInt(this.accumulatedQuantity) + 1;
-            return new AccumulatedQuantity(Integer.toString(increased));
-        } catch (Exception e) {
-            //zero denotes integer overflow
-            return new AccumulatedQuantity("0");
-        }
+        //zero denotes integer overflow
+        return accumulatedQuantity >= MAX_ACCUMULATED_QUANTITY
+                ? new AccumulatedQuantity(0)
+                : new AccumulatedQuantity(accumulatedQuantity + 1);
     }
 
     public String getValue() {
-        return this.accumulatedQuantity;
+        return Long.toString(accumulatedQuantity);
+    }
+
+    public long getValueAsLong() {
+        return accumulatedQuantity;
     }
 
     /**
@@ -50,7 +65,7 @@ public class AccumulatedQuantity {
         try {
             //protective layer against huge string input.
             Integer.parseInt(test);
-            return test.matches(VALIDATION_REGEX);
+            return VALIDATION_PATTERN.matcher(test).matches();
         } catch (Exception e) {
             return false;
         }
@@ -58,19 +73,19 @@ public class AccumulatedQuantity {
 
     @Override
     public String toString() {
-        return accumulatedQuantity;
+        return getValue();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AccumulatedQuantity // instanceof handles nulls
-                && accumulatedQuantity.equals(((AccumulatedQuantity) other).accumulatedQuantity)); // state check
+                && accumulatedQuantity == ((AccumulatedQuantity) other).accumulatedQuantity); // state check
     }
 
     @Override
     public int hashCode() {
-        return accumulatedQuantity.hashCode();
+        return Long.hashCode(accumulatedQuantity);
     }
 
 }
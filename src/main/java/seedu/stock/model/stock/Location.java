@@ -3,6 +3,10 @@ package seedu.stock.model.stock;
 import static java.util.Objects.requireNonNull;
 import static seedu.stock.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.stock.commons.util.WeakInterner;
+
 /**
  * Represents a Stock's storage location in the stock book.
  * Guarantees: immutable; is valid as declared in {@link #isValidLocation(String)}
@@ -19,6 +23,11 @@ public class Location {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    // a few locations are shared by many stocks, so the stocks share their instances
+    private static final WeakInterner<Location> INTERNER = new WeakInterner<>();
+
     public final String value;
 
     /**
@@ -32,6 +41,15 @@ public class Location {
         value = location;
     }
 
+    /**
+     * Returns the {@code Location} of {@code location}, which is the same instance for equal locations that are in use.
+     *
+     * @param location A valid location.
+     */
+    public static Location of(String location) {
+        return INTERNER.intern(new Location(location));
+    }
+
     /**
      * Returns true if a given string is a valid location.
      *
@@ -39,7 +57,7 @@ public class Location {
      * @return A boolean value indicating if the location is valid.
      */
     public static boolean isValidLocation(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
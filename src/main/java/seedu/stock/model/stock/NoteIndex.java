@@ -3,6 +3,8 @@ package seedu.stock.model.stock;
 import static java.util.Objects.requireNonNull;
 import static seedu.stock.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a one-based note index which can be converted to zero based.
  */
@@ -18,6 +20,8 @@ public class NoteIndex {
      */
     public static final String VALIDATION_REGEX = "\\d+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String oneBasedNoteIndex;
 
     /**
@@ -42,7 +46,7 @@ public class NoteIndex {
         try {
             //protective layer against huge string input.
             Integer.parseInt(index);
-            return index.matches(VALIDATION_REGEX);
+            return VALIDATION_PATTERN.matcher(index).matches();
 
         } catch (Exception e) {
             return false;
@@ -0,0 +1,18 @@
+package seedu.stock.model.stock;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Loads the notes of stocks whose notes are not kept in memory.
+ */
+@FunctionalInterface
+public interface NoteLoader {
+
+    /**
+     * Returns the notes of the stock with {@code serialNumber}, or an empty list if it has no notes.
+     *
+     * @throws UncheckedIOException if the notes cannot be read.
+     */
+    List<Note> loadNotes(SerialNumber serialNumber);
+}
@@ -3,8 +3,12 @@ package seedu.stock.model.stock;
 import static java.util.Objects.requireNonNull;
 import static seedu.stock.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Stock's quantity in the stock book.
+ * The quantity and low quantity are kept as primitive ints alongside their string forms, and whether the stock
+ * is low on quantity is computed once on construction.
  * Guarantees: immutable; is valid as declared in {@link #isValidQuantity(String)} }
  */
 public class Quantity {
@@ -20,8 +24,12 @@ public class Quantity {
             + "Quantity numbers should be a number from 0 to 2,147,483,647.";
     public static final String VALIDATION_REGEX = "\\d+";
     public static final String DEFAULT_LOW_QUANTITY = "0";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String quantity;
     public final String lowQuantity;
+    private final int quantityValue;
+    private final int lowQuantityValue;
+    private final boolean isLowOnQuantity;
 
     /**
      * Constructs a {@code Quantity}.
@@ -33,6 +41,9 @@ public class Quantity {
         checkArgument(isValidQuantity(quantity), MESSAGE_CONSTRAINTS);
         this.quantity = quantity;
         this.lowQuantity = DEFAULT_LOW_QUANTITY;
+        this.quantityValue = Integer.parseInt(quantity);
+        this.lowQuantityValue = 0;
+        this.isLowOnQuantity = quantityValue <= lowQuantityValue;
     }
 
     /**
@@ -48,6 +59,9 @@ public class Quantity {
         checkArgument(isValidQuantity(lowQuantity), LOW_QUANTITY_MESSAGE_CONSTRAINTS);
         this.quantity = quantity;
         this.lowQuantity = lowQuantity;
+        this.quantityValue = Integer.parseInt(quantity);
+        this.lowQuantityValue = Integer.parseInt(lowQuantity);
+        this.isLowOnQuantity = quantityValue <= lowQuantityValue;
     }
 
     /**
@@ -61,7 +75,7 @@ public class Quantity {
         try {
             //protective layer against huge string input.
             Integer.parseInt(test);
-            return test.matches(VALIDATION_REGEX);
+            return VALIDATION_PATTERN.matcher(test).matches();
         } catch (Exception e) {
             return false;
         }
@@ -71,7 +85,7 @@ public class Quantity {
      * Returns true if a given quantity is equal or less than lowQuantity.
      */
     public boolean isLowOnQuantity() {
-        return Integer.parseInt(quantity) <= Integer.parseInt(lowQuantity);
+        return isLowOnQuantity;
     }
 
     /**
@@ -88,6 +102,14 @@ public class Quantity {
         return lowQuantity;
     }
 
+    public int getQuantityAsInt() {
+        return quantityValue;
+    }
+
+    public int getLowQuantityAsInt() {
+        return lowQuantityValue;
+    }
+
     @Override
     public String toString() {
         return quantity;
@@ -97,6 +119,8 @@ public class Quantity {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Quantity // instanceof handles nulls
+                && quantityValue == ((Quantity) other).quantityValue // state check
+                && lowQuantityValue == ((Quantity) other).lowQuantityValue // state check
                 && quantity.equals(((Quantity) other).quantity) // state check
                 && lowQuantity.equals(((Quantity) other).lowQuantity)); // state check
     }
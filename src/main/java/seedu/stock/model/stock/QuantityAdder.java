@@ -3,8 +3,8 @@ package seedu.stock.model.stock;
 import static java.util.Objects.requireNonNull;
 import static seedu.stock.commons.util.AppUtil.checkArgument;
 
-import java.math.BigInteger;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * Represents functionalities to add value to an quantity object.
@@ -17,7 +17,9 @@ public class QuantityAdder {
             + "Increment value should be an integer";
     // Matches any signed integer
     public static final String VALIDATION_REGEX = "^(\\+|-)?\\d+$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String valueToBeAdded;
+    private final int value;
 
     /**
      * Constructs a new quantity adder object.
@@ -28,6 +30,7 @@ public class QuantityAdder {
         requireNonNull(valueToBeAdded);
         checkArgument(isValidValue(valueToBeAdded), MESSAGE_CONSTRAINTS);
         this.valueToBeAdded = valueToBeAdded;
+        this.value = Integer.parseInt(valueToBeAdded);
     }
 
     /**
@@ -41,7 +44,7 @@ public class QuantityAdder {
         try {
             //protective layer against huge string input.
             Integer.parseInt(test);
-            return test.matches(VALIDATION_REGEX);
+            return VALIDATION_PATTERN.matcher(test).matches();
         } catch (Exception e) {
             return false;
         }
@@ -68,19 +71,20 @@ public class QuantityAdder {
      * Returns the incremented or decremented quantity.
      *
      * @param toBeAddedInto The quantity to be added.
-     * @return The quantity result after being incremented.
+     * @return The quantity result after being incremented, or an empty Optional if the result is negative
+     *     or larger than the maximum integer value.
      */
     public Optional<Quantity> incrementQuantity(Quantity toBeAddedInto) {
-        BigInteger limit = new BigInteger("2147483647");
-        BigInteger incrementValue = new BigInteger(valueToBeAdded);
-        BigInteger currentQuantity = new BigInteger(toBeAddedInto.quantity);
-        currentQuantity = currentQuantity.add(incrementValue);
-        if (currentQuantity.signum() == -1) {
+        int currentQuantity;
+        try {
+            currentQuantity = Math.addExact(toBeAddedInto.getQuantityAsInt(), value);
+        } catch (ArithmeticException e) {
             return Optional.empty();
         }
-        if (currentQuantity.compareTo(limit) > 0) {
+
+        if (currentQuantity < 0) {
             return Optional.empty();
         }
-        return Optional.of(new Quantity(currentQuantity.toString()));
+        return Optional.of(new Quantity(Integer.toString(currentQuantity)));
     }
 }
@@ -3,6 +3,8 @@ package seedu.stock.model.stock;
 import static java.util.Objects.requireNonNull;
 import static seedu.stock.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents the serial number in the serialNumberSets Book.
  * Guarantees: immutable;
@@ -15,6 +17,7 @@ public class SerialNumber {
 
     public static final String VALIDATION_REGEX = ".*\\d.*";
     public static final String DEFAULT_SERIAL_NUMBER = "00";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     private final String serialNumber;
 
 
@@ -37,7 +40,7 @@ public class SerialNumber {
      * @return A boolean value indicating if the serial number is valid.
      */
     public static boolean isValidSerialNumber(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() > 1;
+        return VALIDATION_PATTERN.matcher(test).matches() && test.length() > 1;
     }
 
     public String getSerialNumberAsString() {
@@ -3,6 +3,10 @@ package seedu.stock.model.stock;
 import static java.util.Objects.requireNonNull;
 import static seedu.stock.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.stock.commons.util.WeakInterner;
+
 /**
  * Represents a Stock's source in the stock book.
  * Guarantees: immutable;
@@ -19,6 +23,11 @@ public class Source {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    // a few sources are shared by many stocks, so the stocks share their instances
+    private static final WeakInterner<Source> INTERNER = new WeakInterner<>();
+
     public final String value;
 
     /**
@@ -37,6 +46,15 @@ public class Source {
         return value.substring(0, 1).toUpperCase() + value.substring(1);
     }
 
+    /**
+     * Returns the {@code Source} of {@code source}, which is the same instance for equal sources that are in use.
+     *
+     * @param source A valid source.
+     */
+    public static Source of(String source) {
+        return INTERNER.intern(new Source(source));
+    }
+
     /**
      * Returns true if a given string is a valid source.
      *
@@ -44,7 +62,7 @@ public class Source {
      * @return A boolean value indicating if the source is valid.
      */
     public static boolean isValidSource(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -60,7 +78,7 @@ public class Source {
     }
 
     public boolean isSameSource(Source source) {
-        return this.value.equals(source.value);
+        return this == source || this.value.equals(source.value);
     }
 
 }
@@ -1,38 +1,38 @@
 package seedu.stock.model.stock;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.stock.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import seedu.stock.commons.util.PersistentList;
+
 /**
  * Represents a Stock in the stock book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The notes are kept in a {@code PersistentList}, so a stock with an added or deleted note shares the rest of
+ * its notes with the original stock instead of modifying them.
+ * The notes of a stock may also be left out of memory and loaded by a {@code NoteLoader} whenever they are needed.
  */
 public class Stock {
 
     // Identity fields
     private final Name name;
-    private SerialNumber serialNumber;
+    private final SerialNumber serialNumber;
     private final Source source;
     private final Quantity quantity;
     private final Location location;
-    private final List<Note> notes;
-    private boolean isBookmarked;
+    private final PersistentList<Note> notes; // null if the notes are loaded by noteLoader
+    private final NoteLoader noteLoader;
+    private final boolean isBookmarked;
 
     /**
      * Every field must be present and not null.
      */
     public Stock(Name name, SerialNumber serialNumber, Source source, Quantity quantity, Location location) {
-        requireAllNonNull(name, serialNumber, source, quantity, location);
-        this.name = name;
-        this.serialNumber = serialNumber;
-        this.source = source;
-        this.quantity = quantity;
-        this.location = location;
-        this.notes = new ArrayList<>();
-        this.isBookmarked = false;
+        this(name, serialNumber, source, quantity, location, PersistentList.empty());
     }
 
     /**
@@ -40,14 +40,26 @@ public class Stock {
      */
     public Stock(Name name, SerialNumber serialNumber, Source source, Quantity quantity,
                  Location location, List<Note> notes) {
+        this(name, serialNumber, source, quantity, location, PersistentList.of(requireNonNull(notes)), null,
+                false);
+    }
+
+    /**
+     * Creates a stock whose notes are either {@code notes}, or loaded by {@code noteLoader} when they are needed
+     * if {@code notes} is null.
+     */
+    private Stock(Name name, SerialNumber serialNumber, Source source, Quantity quantity, Location location,
+                  PersistentList<Note> notes, NoteLoader noteLoader, boolean isBookmarked) {
         requireAllNonNull(name, serialNumber, source, quantity, location);
+        assert notes != null || noteLoader != null;
         this.name = name;
         this.serialNumber = serialNumber;
         this.source = source;
         this.quantity = quantity;
         this.location = location;
         this.notes = notes;
-        this.isBookmarked = false;
+        this.noteLoader = noteLoader;
+        this.isBookmarked = isBookmarked;
     }
 
     public Name getName() {
@@ -70,28 +82,22 @@ public class Stock {
         return location;
     }
 
+    /**
+     * Returns the notes of this stock, loading them first if they are not kept in memory.
+     */
     public List<Note> getNotes() {
-        return notes;
-    }
-
-    public boolean getIsBookmarked() {
-        return isBookmarked;
+        return notes == null ? PersistentList.of(noteLoader.loadNotes(serialNumber)) : notes;
     }
 
     /**
-     * Bookmarks the stock
-     *
+     * Returns true if the notes of this stock are not kept in memory, but loaded whenever they are needed.
      */
-    public void setBookmarked() {
-        this.isBookmarked = true;
+    public boolean isNotesLoadedOnDemand() {
+        return notes == null;
     }
 
-    /**
-     * Unbookmarks the stock
-     *
-     */
-    public void setUnbookmarked() {
-        this.isBookmarked = false;
+    public boolean getIsBookmarked() {
+        return isBookmarked;
     }
 
     /**
@@ -101,7 +107,7 @@ public class Stock {
     public List<String> getNotesValues() {
         List<String> notesList = new ArrayList<>();
 
-        for (Note note : notes) {
+        for (Note note : getNotes()) {
             notesList.add(note.value);
         }
 
@@ -132,21 +138,8 @@ public class Stock {
      * @return stock with added note
      */
     public Stock addNote(Note noteToAdd) {
-        Name name = this.name;
-        SerialNumber serialNumber = this.serialNumber;
-        Source source = this.source;
-        Quantity quantity = this.quantity;
-        Location location = this.location;
-        List<Note> notesToUpdate = this.notes;
-        notesToUpdate.add(noteToAdd);
-
-        Stock result = new Stock(name, serialNumber, source, quantity, location, notesToUpdate);
-
-        if (this.isBookmarked) {
-            result.setBookmarked();
-        }
-
-        return result;
+        PersistentList<Note> notesToUpdate = PersistentList.of(getNotes()).plus(noteToAdd);
+        return new Stock(name, serialNumber, source, quantity, location, notesToUpdate, null, isBookmarked);
     }
 
     /**
@@ -155,31 +148,52 @@ public class Stock {
      * @return stock with deleted note
      */
     public Stock deleteNote(NoteIndex indexOfNoteToDelete) {
-        Name name = this.name;
-        SerialNumber serialNumber = this.serialNumber;
-        Source source = this.source;
-        Quantity quantity = this.quantity;
-        Location location = this.location;
-        List<Note> notesToUpdate = this.notes;
-
-        Stock updatedStock;
-        if (indexOfNoteToDelete.getOneBased() == 0) {
-            updatedStock = new Stock(name, serialNumber, source, quantity, location);
-        } else {
-            notesToUpdate.remove(indexOfNoteToDelete.getZeroBased());
-            updatedStock = new Stock(name, serialNumber, source, quantity, location, notesToUpdate);
-        }
+        PersistentList<Note> notesToUpdate = indexOfNoteToDelete.getOneBased() == 0
+                ? PersistentList.empty()
+                : PersistentList.of(getNotes()).minus(indexOfNoteToDelete.getZeroBased());
+        return new Stock(name, serialNumber, source, quantity, location, notesToUpdate, null, isBookmarked);
+    }
 
-        if (this.isBookmarked) {
-            updatedStock.setBookmarked();
-        }
+    /**
+     * Generates a new same stock with its bookmark set to {@code isBookmarked}.
+     * @param isBookmarked whether the new stock is bookmarked
+     * @return stock with the given bookmark
+     */
+    public Stock withBookmark(boolean isBookmarked) {
+        return new Stock(name, serialNumber, source, quantity, location, notes, noteLoader, isBookmarked);
+    }
 
-        return updatedStock;
+    /**
+     * Generates a new same stock with the given name, quantity and location, keeping its notes, whether they are
+     * kept in memory or loaded whenever they are needed, and its bookmark.
+     * @param name name of the new stock
+     * @param quantity quantity of the new stock
+     * @param location location of the new stock
+     * @return stock with the given details
+     */
+    public Stock withDetails(Name name, Quantity quantity, Location location) {
+        return new Stock(name, serialNumber, source, quantity, location, notes, noteLoader, isBookmarked);
+    }
 
+    /**
+     * Generates a new same stock whose notes are no longer kept in memory, but loaded by {@code noteLoader}
+     * whenever they are needed.
+     * @param noteLoader loader of the notes of the stock, which must give the same notes as this stock
+     * @return stock with notes loaded on demand
+     */
+    public Stock withNotesLoadedBy(NoteLoader noteLoader) {
+        requireNonNull(noteLoader);
+        return new Stock(name, serialNumber, source, quantity, location, null, noteLoader, isBookmarked);
     }
 
-    public void setSerialNumber(String serialNumber) {
-        this.serialNumber = new SerialNumber(serialNumber);
+    /**
+     * Generates a new same stock with the given serial number, keeping its notes and its bookmark.
+     * @param serialNumber serial number of the new stock
+     * @return stock with the given serial number
+     */
+    public Stock withSerialNumber(SerialNumber serialNumber) {
+        requireNonNull(serialNumber);
+        return new Stock(name, serialNumber, source, quantity, location, notes, noteLoader, isBookmarked);
     }
 
     /**
@@ -221,11 +235,13 @@ public class Stock {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, serialNumber, quantity, source, location, notes);
+        // notes are left out so that hashing a stock does not load them
+        return Objects.hash(name, serialNumber, quantity, source, location);
     }
 
     @Override
     public String toString() {
+        // notes are left out so that logging or showing a stock does not load them
         final StringBuilder builder = new StringBuilder();
         builder.append(getName())
                 .append(" SerialNumber: ")
@@ -235,9 +251,7 @@ public class Stock {
                 .append(" Quantity: ")
                 .append(getQuantity())
                 .append(" Location: ")
-                .append(getLocation())
-                .append(" Note: ")
-                .append(notesToString(getNotes()));
+                .append(getLocation());
         return builder.toString();
     }
 
@@ -0,0 +1,266 @@
+package seedu.stock.model.stock;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.stock.commons.util.BkTree;
+import seedu.stock.commons.util.SuggestionUtil;
+
+/**
+ * An n-gram index over the searchable fields of stocks, used to answer case insensitive substring searches
+ * without testing every stock.
+ * Every lowercase trigram of a field value is mapped to the serial numbers of the stocks containing it, and
+ * values shorter than a trigram are indexed whole. A search looks up the n-grams of each keyword to obtain a
+ * small set of candidate stocks, and only the candidates are verified with an exact {@code contains} check.
+ * The distinct serial numbers, sources and locations are also kept in a {@code BkTree} each, so that the value
+ * closest to a mistyped one can be suggested without measuring the edit distance to every value.
+ */
+public class StockSearchIndex {
+
+    /**
+     * The fields of a stock that are searchable through the index.
+     */
+    public enum Field {
+        NAME, SERIALNUMBER, SOURCE, LOCATION
+    }
+
+    /** The largest edit distance of a suggested value, which allows two characters to be replaced. */
+    public static final int MAX_SUGGESTION_DISTANCE = 6;
+
+    private static final int GRAM_LENGTH = 3;
+    private static final Set<Field> SUGGESTED_FIELDS = EnumSet.of(Field.SERIALNUMBER, Field.SOURCE, Field.LOCATION);
+
+    private final Map<Field, Map<String, Set<SerialNumber>>> postings = new EnumMap<>(Field.class);
+    private final Map<Field, SuggestedValues> suggestedValues = new EnumMap<>(Field.class);
+    private final Map<SerialNumber, Stock> indexedStocks = new HashMap<>();
+
+    /**
+     * Constructs an empty {@code StockSearchIndex}.
+     */
+    public StockSearchIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+        for (Field field : SUGGESTED_FIELDS) {
+            suggestedValues.put(field, new SuggestedValues());
+        }
+    }
+
+    /**
+     * Adds the n-grams of {@code stock} to the index.
+     */
+    public void add(Stock stock) {
+        requireNonNull(stock);
+        indexedStocks.put(stock.getSerialNumber(), stock);
+        for (Field field : Field.values()) {
+            Map<String, Set<SerialNumber>> fieldPostings = postings.get(field);
+            for (String gram : getGrams(getNormalisedFieldValue(stock, field))) {
+                fieldPostings.computeIfAbsent(gram, unused -> new HashSet<>()).add(stock.getSerialNumber());
+            }
+        }
+        suggestedValues.forEach((field, values) -> values.add(getNormalisedFieldValue(stock, field)));
+    }
+
+    /**
+     * Removes the stock with the same serial number as {@code stock} from the index.
+     * The n-grams removed are those of the stock as it was when it was added.
+     */
+    public void remove(Stock stock) {
+        requireNonNull(stock);
+        Stock indexedStock = indexedStocks.remove(stock.getSerialNumber());
+        if (indexedStock == null) {
+            return;
+        }
+
+        for (Field field : Field.values()) {
+            Map<String, Set<SerialNumber>> fieldPostings = postings.get(field);
+            for (String gram : getGrams(getNormalisedFieldValue(indexedStock, field))) {
+                Set<SerialNumber> postingList = fieldPostings.get(gram);
+                if (postingList == null) {
+                    continue;
+                }
+                postingList.remove(indexedStock.getSerialNumber());
+                if (postingList.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            }
+        }
+        suggestedValues.forEach((field, values) -> values.remove(getNormalisedFieldValue(indexedStock, field)));
+    }
+
+    /**
+     * Replaces the contents of the index with the n-grams of {@code stocks}.
+     */
+    public void setStocks(List<Stock> stocks) {
+        requireNonNull(stocks);
+        clear();
+        stocks.forEach(this::add);
+    }
+
+    /**
+     * Removes every stock from the index.
+     */
+    public void clear() {
+        indexedStocks.clear();
+        postings.values().forEach(Map::clear);
+        suggestedValues.values().forEach(SuggestedValues::clear);
+    }
+
+    /**
+     * Returns the value of {@code field} of a stock in the index that is closest to {@code value} by
+     * {@code SuggestionUtil#minimumEditDistance}, ignoring case, if one is within
+     * {@link #MAX_SUGGESTION_DISTANCE}. Only serial numbers, sources and locations are suggested.
+     */
+    public Optional<String> findClosestValue(Field field, String value) {
+        requireNonNull(field);
+        requireNonNull(value);
+        SuggestedValues values = suggestedValues.get(field);
+        return values == null ? Optional.empty() : values.findClosest(value.toLowerCase());
+    }
+
+    /**
+     * Returns the serial numbers of the stocks whose {@code field} contains all of the {@code keywords},
+     * ignoring case. No stock matches if there are no keywords or if any keyword is empty.
+     */
+    public Set<SerialNumber> findContainingAll(Field field, List<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+
+        Set<SerialNumber> candidates = new HashSet<>();
+        if (keywords.isEmpty() || keywords.stream().anyMatch(String::isEmpty)) {
+            return candidates;
+        }
+
+        for (int i = 0; i < keywords.size(); i++) {
+            Set<SerialNumber> keywordCandidates = findCandidates(field, keywords.get(i).toLowerCase());
+            if (i == 0) {
+                candidates = keywordCandidates;
+            } else {
+                candidates.retainAll(keywordCandidates);
+            }
+            if (candidates.isEmpty()) {
+                return candidates;
+            }
+        }
+
+        candidates.removeIf(serialNumber -> {
+            String fieldValue = getNormalisedFieldValue(indexedStocks.get(serialNumber), field);
+            return !keywords.stream().allMatch(keyword -> fieldValue.contains(keyword.toLowerCase()));
+        });
+        return candidates;
+    }
+
+    /**
+     * Returns the serial numbers of the stocks whose {@code field} may contain {@code keyword}.
+     * Every stock whose field contains the keyword is returned, along with possibly some that do not.
+     */
+    private Set<SerialNumber> findCandidates(Field field, String keyword) {
+        Map<String, Set<SerialNumber>> fieldPostings = postings.get(field);
+
+        if (keyword.length() < GRAM_LENGTH) {
+            // a short keyword is contained in a field only if it is contained in one of its n-grams
+            Set<SerialNumber> candidates = new HashSet<>();
+            fieldPostings.forEach((gram, postingList) -> {
+                if (gram.contains(keyword)) {
+                    candidates.addAll(postingList);
+                }
+            });
+            return candidates;
+        }
+
+        Set<SerialNumber> smallestPostingList = null;
+        Set<String> keywordGrams = getGrams(keyword);
+        for (String gram : keywordGrams) {
+            Set<SerialNumber> postingList = fieldPostings.get(gram);
+            if (postingList == null) {
+                return new HashSet<>();
+            }
+            if (smallestPostingList == null || postingList.size() < smallestPostingList.size()) {
+                smallestPostingList = postingList;
+            }
+        }
+
+        Set<SerialNumber> candidates = new HashSet<>(smallestPostingList);
+        for (String gram : keywordGrams) {
+            candidates.retainAll(fieldPostings.get(gram));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code value}, or {@code value} itself if it is shorter than a trigram.
+     */
+    private static Set<String> getGrams(String value) {
+        Set<String> grams = new HashSet<>();
+        if (value.length() < GRAM_LENGTH) {
+            if (!value.isEmpty()) {
+                grams.add(value);
+            }
+            return grams;
+        }
+
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static String getNormalisedFieldValue(Stock stock, Field field) {
+        switch (field) {
+        case NAME:
+            return stock.getName().fullName.toLowerCase();
+        case SERIALNUMBER:
+            return stock.getSerialNumber().getSerialNumberAsString().toLowerCase();
+        case SOURCE:
+            return stock.getSource().value.toLowerCase();
+        case LOCATION:
+            return stock.getLocation().value.toLowerCase();
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+
+    /**
+     * The distinct values of a field, with the number of indexed stocks having each value.
+     * A value that no stock has any more stays in the tree until more than half of the tree is such values, as
+     * strings cannot be removed from a {@code BkTree}, and is skipped when suggesting.
+     */
+    private static class SuggestedValues {
+        private final Map<String, Integer> stockCounts = new HashMap<>();
+        private BkTree tree = newTree();
+
+        void add(String value) {
+            stockCounts.merge(value, 1, Integer::sum);
+            tree.add(value);
+        }
+
+        void remove(String value) {
+            stockCounts.computeIfPresent(value, (unused, count) -> count == 1 ? null : count - 1);
+            if (tree.size() > 2 * stockCounts.size()) {
+                tree = newTree();
+                stockCounts.keySet().forEach(tree::add);
+            }
+        }
+
+        void clear() {
+            stockCounts.clear();
+            tree = newTree();
+        }
+
+        Optional<String> findClosest(String value) {
+            return tree.findClosest(value, MAX_SUGGESTION_DISTANCE, stockCounts::containsKey);
+        }
+
+        private static BkTree newTree() {
+            return new BkTree(SuggestionUtil::minimumEditDistance);
+        }
+    }
+}
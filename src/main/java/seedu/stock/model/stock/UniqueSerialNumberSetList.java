@@ -3,9 +3,13 @@ package seedu.stock.model.stock;
 import static java.util.Objects.requireNonNull;
 import static seedu.stock.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -16,6 +20,9 @@ import seedu.stock.model.stock.exceptions.SerialNumberSetNotFoundException;
  * A list of serialNumberSets that enforces uniqueness between its elements and does not allow nulls.
  * Supports a minimal set of list operations.
  *
+ * The position of every serial number set in the backing list is indexed by its source, so that look ups,
+ * duplicate checks and updates do not need to scan the whole list.
+ *
  * @see SerialNumberSet#isSameSerialNumberSet(SerialNumberSet)
  */
 public class UniqueSerialNumberSetList implements Iterable<SerialNumberSet> {
@@ -23,14 +30,14 @@ public class UniqueSerialNumberSetList implements Iterable<SerialNumberSet> {
     private final ObservableList<SerialNumberSet> internalList = FXCollections.observableArrayList();
     private final ObservableList<SerialNumberSet> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Source, Integer> sourceIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent serial number set's source as the given argument.
      */
     public boolean contains(SerialNumberSet toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(serialNumberSet ->
-                serialNumberSet.getSource().isSameSource(toCheck.getSource()));
+        return sourceIndex.containsKey(toCheck.getSource());
     }
 
     /**
@@ -45,18 +52,39 @@ public class UniqueSerialNumberSetList implements Iterable<SerialNumberSet> {
             throw new DuplicateSerialNumberSetException();
         }
         internalList.add(toAdd);
+        sourceIndex.put(toAdd.getSource(), internalList.size() - 1);
     }
 
+    /**
+     * Returns the serial number set of {@code source}, if it exists in the list.
+     */
     public Optional<SerialNumberSet> getSerialNumberSet(Source source) {
         requireNonNull(source);
-        for (int i = 0; i < internalList.size(); i++) {
-            SerialNumberSet curr = internalList.get(i);
-            if (curr.getSource().isSameSource(source)) {
-                return Optional.of(curr);
-            }
+        Integer index = sourceIndex.get(source);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Increases the accumulated quantity of the serial number set of {@code source} by 1,
+     * adding a serial number set with an accumulated quantity of 1 if {@code source} has none.
+     *
+     * @param source The source company name.
+     * @return The serial number set of {@code source} after the increment.
+     */
+    public SerialNumberSet incrementSerialNumberSet(Source source) {
+        requireNonNull(source);
+        Integer index = sourceIndex.get(source);
+        if (index == null) {
+            SerialNumberSet toAdd = new SerialNumberSet(source, new AccumulatedQuantity("1"));
+            add(toAdd);
+            return toAdd;
         }
-        return Optional.empty();
+
+        SerialNumberSet incremented = internalList.get(index).getNewIncrementedSerialNumberSet();
+        internalList.set(index, incremented);
+        return incremented;
     }
+
     /**
      * Replaces the serial number set {@code target} in the list with {@code editedSerialNumberSet}.
      * {@code target} must exist in the list.
@@ -66,7 +94,7 @@ public class UniqueSerialNumberSetList implements Iterable<SerialNumberSet> {
     public void setSerialNumberSet(SerialNumberSet target, SerialNumberSet editedSerialNumberSet) {
         requireAllNonNull(target, editedSerialNumberSet);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new SerialNumberSetNotFoundException();
         }
@@ -76,6 +104,8 @@ public class UniqueSerialNumberSetList implements Iterable<SerialNumberSet> {
         }
 
         internalList.set(index, editedSerialNumberSet);
+        sourceIndex.remove(target.getSource());
+        sourceIndex.put(editedSerialNumberSet.getSource(), index);
     }
 
     /**
@@ -84,14 +114,21 @@ public class UniqueSerialNumberSetList implements Iterable<SerialNumberSet> {
      */
     public void remove(SerialNumberSet toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new SerialNumberSetNotFoundException();
         }
+
+        internalList.remove(index);
+        sourceIndex.remove(toRemove.getSource());
+        reindexFrom(index);
     }
 
     public void setSerialNumberSets(UniqueSerialNumberSetList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        sourceIndex.clear();
+        reindexFrom(0);
     }
 
     /**
@@ -99,12 +136,14 @@ public class UniqueSerialNumberSetList implements Iterable<SerialNumberSet> {
      * {@code serialNumberSets} must not contain duplicate serial number sets.
      */
     public void setSerialNumberSets(List<SerialNumberSet> serialNumberSets) {
-        requireAllNonNull();
+        requireAllNonNull(serialNumberSets);
         if (!serialNumberSetsAreUnique(serialNumberSets)) {
             throw new DuplicateSerialNumberSetException();
         }
 
         internalList.setAll(serialNumberSets);
+        sourceIndex.clear();
+        reindexFrom(0);
     }
 
     /**
@@ -135,13 +174,29 @@ public class UniqueSerialNumberSetList implements Iterable<SerialNumberSet> {
      * Returns true if {@code serial number sets} contains only unique serial number sets.
      */
     private boolean serialNumberSetsAreUnique(List<SerialNumberSet> serialNumberSets) {
-        for (int i = 0; i < serialNumberSets.size() - 1; i++) {
-            for (int j = i + 1; j < serialNumberSets.size(); j++) {
-                if (serialNumberSets.get(i).isSameSerialNumberSetSource(serialNumberSets.get(j))) {
-                    return false;
-                }
+        Set<Source> sources = new HashSet<>();
+        for (SerialNumberSet serialNumberSet : serialNumberSets) {
+            if (!sources.add(serialNumberSet.getSource())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the position of {@code serialNumberSet} in the backing list, or -1 if it is not in the list.
+     */
+    private int indexOf(SerialNumberSet serialNumberSet) {
+        Integer index = sourceIndex.get(serialNumberSet.getSource());
+        return index != null && internalList.get(index).equals(serialNumberSet) ? index : -1;
+    }
+
+    /**
+     * Updates the source index for every serial number set from position {@code start} onwards in the backing list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            sourceIndex.put(internalList.get(i).getSource(), i);
+        }
+    }
 }
@@ -3,14 +3,27 @@ package seedu.stock.model.stock;
 import static java.util.Objects.requireNonNull;
 import static seedu.stock.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
+import seedu.stock.commons.util.PersistentList;
 import seedu.stock.model.stock.exceptions.DuplicateStockException;
 import seedu.stock.model.stock.exceptions.StockNotFoundException;
+import seedu.stock.model.stock.predicates.FieldContainsKeywordsPredicate;
 
 /**
  * A list of stock that enforces uniqueness between its elements and does not allow nulls.
@@ -21,20 +34,40 @@ import seedu.stock.model.stock.exceptions.StockNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The position of every stock in the backing list is indexed both by its serial number and by its
+ * (name, source) identity, so that look ups, duplicate checks, updates and removals do not need to scan
+ * the whole list. The searchable fields of every stock are also kept in a {@code StockSearchIndex} that is
+ * updated together with the list.
+ *
+ * The stocks are additionally kept in a {@code PersistentList} that is updated alongside the backing list, so that
+ * a point-in-time snapshot of the list can be taken in constant time.
+ *
+ * Batches of a few replacements or removals only change the affected positions, so that a batch of a single stock
+ * does not cost more than changing the stock alone. Larger batches rebuild the list once instead. Either way,
+ * listeners of the list are notified of every batch as a single change.
+ *
  * @see Stock#isSameStock(Stock)
  */
 public class UniqueStockList implements Iterable<Stock> {
 
-    private final ObservableList<Stock> internalList = FXCollections.observableArrayList();
+    // batches of up to this many stocks are changed in place instead of by rebuilding the list
+    private static final int MAX_STOCKS_CHANGED_IN_PLACE = 16;
+
+    private final StockObservableList internalList = new StockObservableList();
     private final ObservableList<Stock> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<SerialNumber, Integer> serialNumberIndex = new HashMap<>();
+    private final Map<Identity, Integer> identityIndex = new HashMap<>();
+    private final StockSearchIndex searchIndex = new StockSearchIndex();
+    private PersistentList<Stock> persistentStocks = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent stock as the given argument.
      */
     public boolean contains(Stock toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStock);
+        return serialNumberIndex.containsKey(toCheck.getSerialNumber())
+                || identityIndex.containsKey(new Identity(toCheck));
     }
 
     /**
@@ -47,17 +80,22 @@ public class UniqueStockList implements Iterable<Stock> {
             throw new DuplicateStockException();
         }
         internalList.add(toAdd);
+        persistentStocks = persistentStocks.plus(toAdd);
+        index(toAdd, internalList.size() - 1);
+        searchIndex.add(toAdd);
     }
 
     /**
      * Replaces the stock {@code target} in the list with {@code updatedStock}.
      * {@code target} must exist in the list.
      * The stock identity of {@code updatedStock} must not be the same as another existing stock in the list.
+     *
+     * @return The stock in the list that was replaced.
      */
-    public void setStock(Stock target, Stock updatedStock) {
+    public Stock setStock(Stock target, Stock updatedStock) {
         requireAllNonNull(target, updatedStock);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StockNotFoundException();
         }
@@ -66,23 +104,44 @@ public class UniqueStockList implements Iterable<Stock> {
             throw new DuplicateStockException();
         }
 
-        internalList.set(index, updatedStock);
+        Stock replaced = internalList.set(index, updatedStock);
+        persistentStocks = persistentStocks.with(index, updatedStock);
+        unindex(replaced);
+        index(updatedStock, index);
+        searchIndex.remove(replaced);
+        searchIndex.add(updatedStock);
+        return replaced;
     }
 
     /**
      * Removes the equivalent stock from the list.
      * The stock must exist in the list.
+     *
+     * @return The stock in the list that was removed.
      */
-    public void remove(Stock toRemove) {
+    public Stock remove(Stock toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StockNotFoundException();
         }
+
+        Stock removed = internalList.remove(index);
+        persistentStocks = persistentStocks.minus(index);
+        unindex(removed);
+        reindexFrom(index);
+        searchIndex.remove(removed);
+        return removed;
     }
 
     public void setStocks(UniqueStockList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        persistentStocks = replacement.persistentStocks;
+        serialNumberIndex.clear();
+        identityIndex.clear();
+        reindexFrom(0);
+        searchIndex.setStocks(internalList);
     }
 
     /**
@@ -96,6 +155,210 @@ public class UniqueStockList implements Iterable<Stock> {
         }
 
         internalList.setAll(stocks);
+        persistentStocks = PersistentList.of(internalList);
+        serialNumberIndex.clear();
+        identityIndex.clear();
+        reindexFrom(0);
+        searchIndex.setStocks(internalList);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list as a single change.
+     * None of the stocks may already exist in the list, and they must not contain duplicate stocks.
+     */
+    public void addStocks(Collection<Stock> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Stock> stocksToAdd = new ArrayList<>(toAdd);
+        if (!stocksAreUnique(stocksToAdd) || stocksToAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateStockException();
+        }
+
+        int start = internalList.size();
+        internalList.addAll(stocksToAdd);
+        for (Stock stock : stocksToAdd) {
+            persistentStocks = persistentStocks.plus(stock);
+        }
+        reindexFrom(start);
+        stocksToAdd.forEach(searchIndex::add);
+    }
+
+    /**
+     * Replaces every key of {@code replacements} in the list with its value as a single change.
+     * Every key must exist in the list, and the list must not contain duplicate stocks after the replacement.
+     * The map is only iterated over, so its keys may be looked up by any {@code Map} implementation.
+     *
+     * @return The stocks in the list that were replaced.
+     */
+    public List<Stock> setStocks(Map<Stock, Stock> replacements) {
+        requireNonNull(replacements);
+        Map<Integer, Stock> replacementsByIndex = new LinkedHashMap<>();
+        List<Stock> replacedStocks = new ArrayList<>();
+        for (Map.Entry<Stock, Stock> replacement : replacements.entrySet()) {
+            requireAllNonNull(replacement.getKey(), replacement.getValue());
+            int index = indexOf(replacement.getKey());
+            if (index == -1) {
+                throw new StockNotFoundException();
+            }
+            if (replacementsByIndex.put(index, replacement.getValue()) != null) {
+                throw new DuplicateStockException();
+            }
+            replacedStocks.add(internalList.get(index));
+        }
+
+        if (replacementsByIndex.size() <= MAX_STOCKS_CHANGED_IN_PLACE) {
+            setStocksInPlace(replacementsByIndex);
+            replacedStocks.forEach(searchIndex::remove);
+            replacements.values().forEach(searchIndex::add);
+            return replacedStocks;
+        }
+
+        List<Stock> updatedList = new ArrayList<>(internalList);
+        replacementsByIndex.forEach(updatedList::set);
+        if (!stocksAreUnique(updatedList)) {
+            throw new DuplicateStockException();
+        }
+
+        internalList.setAll(updatedList);
+        persistentStocks = PersistentList.of(updatedList);
+        serialNumberIndex.clear();
+        identityIndex.clear();
+        reindexFrom(0);
+        replacedStocks.forEach(searchIndex::remove);
+        replacements.values().forEach(searchIndex::add);
+        return replacedStocks;
+    }
+
+    /**
+     * Removes the equivalent stocks of {@code toRemove} from the list as a single change.
+     * Every stock must exist in the list.
+     *
+     * @return The stocks in the list that were removed.
+     */
+    public List<Stock> removeStocks(Collection<Stock> toRemove) {
+        requireAllNonNull(toRemove);
+        Map<Integer, Stock> stocksByIndex = new LinkedHashMap<>();
+        for (Stock stock : toRemove) {
+            int index = indexOf(stock);
+            if (index == -1) {
+                throw new StockNotFoundException();
+            }
+            stocksByIndex.putIfAbsent(index, internalList.get(index));
+        }
+        List<Stock> removedStocks = new ArrayList<>(stocksByIndex.values());
+
+        if (stocksByIndex.size() <= MAX_STOCKS_CHANGED_IN_PLACE) {
+            removeStocksInPlace(stocksByIndex.keySet());
+            removedStocks.forEach(searchIndex::remove);
+            return removedStocks;
+        }
+
+        boolean[] isRemoved = new boolean[internalList.size()];
+        stocksByIndex.keySet().forEach(index -> isRemoved[index] = true);
+        List<Stock> remainingStocks = new ArrayList<>(internalList.size() - removedStocks.size());
+        for (int i = 0; i < internalList.size(); i++) {
+            if (!isRemoved[i]) {
+                remainingStocks.add(internalList.get(i));
+            }
+        }
+
+        internalList.setAll(remainingStocks);
+        persistentStocks = PersistentList.of(remainingStocks);
+        serialNumberIndex.clear();
+        identityIndex.clear();
+        reindexFrom(0);
+        removedStocks.forEach(searchIndex::remove);
+        return removedStocks;
+    }
+
+    /**
+     * Replaces the stock at each key of {@code replacementsByIndex} with its value, as a single change.
+     *
+     * @throws DuplicateStockException if the list would contain duplicate stocks, in which case it is unchanged.
+     */
+    private void setStocksInPlace(Map<Integer, Stock> replacementsByIndex) {
+        // an updated stock may only share a serial number or identity with a stock that is being replaced
+        Set<SerialNumber> updatedSerialNumbers = new HashSet<>();
+        Set<Identity> updatedIdentities = new HashSet<>();
+        for (Stock updatedStock : replacementsByIndex.values()) {
+            Identity identity = new Identity(updatedStock);
+            Integer serialNumberOwner = serialNumberIndex.get(updatedStock.getSerialNumber());
+            Integer identityOwner = identityIndex.get(identity);
+            if (serialNumberOwner != null && !replacementsByIndex.containsKey(serialNumberOwner)
+                    || identityOwner != null && !replacementsByIndex.containsKey(identityOwner)
+                    || !updatedSerialNumbers.add(updatedStock.getSerialNumber())
+                    || !updatedIdentities.add(identity)) {
+                throw new DuplicateStockException();
+            }
+        }
+
+        // every replaced stock is unindexed before the updated stocks are indexed, as they may swap identities
+        List<Stock> replacedStocks = internalList.setEach(replacementsByIndex);
+        replacementsByIndex.forEach((index, updatedStock) ->
+                persistentStocks = persistentStocks.with(index, updatedStock));
+        replacedStocks.forEach(this::unindex);
+        replacementsByIndex.forEach((index, updatedStock) -> index(updatedStock, index));
+    }
+
+    /**
+     * Removes the stocks at {@code indexes}, as a single change.
+     */
+    private void removeStocksInPlace(Collection<Integer> indexes) {
+        List<Integer> sortedIndexes = new ArrayList<>(indexes);
+        sortedIndexes.sort(Collections.reverseOrder());
+        internalList.removeEach(sortedIndexes).forEach(this::unindex);
+        for (int index : sortedIndexes) {
+            persistentStocks = persistentStocks.minus(index);
+        }
+        if (!sortedIndexes.isEmpty()) {
+            reindexFrom(sortedIndexes.get(sortedIndexes.size() - 1));
+        }
+    }
+
+    /**
+     * Returns the stock with the given {@code serialNumber}, if it exists in the list.
+     */
+    public Optional<Stock> findBySerialNumber(SerialNumber serialNumber) {
+        requireNonNull(serialNumber);
+        Integer index = serialNumberIndex.get(serialNumber);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the stocks with the given {@code serialNumbers} in the order the serial numbers are given.
+     * Serial numbers that do not exist in the list are skipped, and each stock is returned at most once.
+     */
+    public List<Stock> findAllBySerialNumbers(Collection<SerialNumber> serialNumbers) {
+        requireAllNonNull(serialNumbers);
+        List<Stock> found = new ArrayList<>();
+        for (SerialNumber serialNumber : new LinkedHashSet<>(serialNumbers)) {
+            findBySerialNumber(serialNumber).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the serial numbers of the stocks in the list that match {@code predicate},
+     * looked up from the search index instead of testing every stock.
+     */
+    public Set<SerialNumber> findMatchingSerialNumbers(FieldContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.getMatchingSerialNumbers(searchIndex);
+    }
+
+    /**
+     * Returns the value of {@code field} of a stock in the list that is closest to {@code value}, if one is close
+     * enough to be suggested in place of {@code value}.
+     */
+    public Optional<String> findClosestValue(StockSearchIndex.Field field, String value) {
+        return searchIndex.findClosestValue(field, value);
+    }
+
+    /**
+     * Returns an immutable snapshot of the stocks currently in the list, in list order.
+     * The snapshot shares structure with the list and is not affected by later changes to the list.
+     */
+    public List<Stock> snapshot() {
+        return persistentStocks;
     }
 
     /**
@@ -122,26 +385,163 @@ public class UniqueStockList implements Iterable<Stock> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the position of the stock equivalent to {@code stock} in the backing list, or -1 if there is none.
+     * Two stocks are equivalent if they share a serial number or a (name, source) identity,
+     * as defined by {@code Stock#equals(Object)}.
+     */
+    private int indexOf(Stock stock) {
+        Integer index = serialNumberIndex.get(stock.getSerialNumber());
+        if (index == null) {
+            index = identityIndex.get(new Identity(stock));
+        }
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Records {@code stock} as being at {@code position} in the backing list.
+     */
+    private void index(Stock stock, int position) {
+        serialNumberIndex.put(stock.getSerialNumber(), position);
+        identityIndex.put(new Identity(stock), position);
+    }
+
+    /**
+     * Removes {@code stock} from the indexes.
+     */
+    private void unindex(Stock stock) {
+        serialNumberIndex.remove(stock.getSerialNumber());
+        identityIndex.remove(new Identity(stock));
+    }
+
+    /**
+     * Updates the indexes for every stock from position {@code start} onwards in the backing list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns true if {@code stocks} contains only unique stocks.
      */
     private boolean stocksAreUnique(List<Stock> stocks) {
-        for (int i = 0; i < stocks.size() - 1; i++) {
-            for (int j = i + 1; j < stocks.size(); j++) {
-                if (stocks.get(i).isSameStock(stocks.get(j))) {
-                    return false;
-                }
+        Set<SerialNumber> serialNumbers = new HashSet<>();
+        Set<Identity> identities = new HashSet<>();
+        for (Stock stock : stocks) {
+            if (!serialNumbers.add(stock.getSerialNumber()) || !identities.add(new Identity(stock))) {
+                return false;
             }
         }
         return true;
     }
 
     /**
-     * Sorts the internal list according to the comparator.
-     *
-     * @param comparator The comparator used for sorting.
+     * The backing list of stocks, which can change several positions at once as a single change of the list.
      */
-    public void sortList(Comparator<Stock> comparator) {
-        FXCollections.sort(internalList, comparator);
+    private static class StockObservableList extends ModifiableObservableListBase<Stock> {
+        private final List<Stock> stocks = new ArrayList<>();
+
+        /**
+         * Replaces the stock at each key of {@code replacementsByIndex} with its value, as a single change.
+         *
+         * @return The stocks that were replaced, in the order of {@code replacementsByIndex}.
+         */
+        List<Stock> setEach(Map<Integer, Stock> replacementsByIndex) {
+            List<Stock> replacedStocks = new ArrayList<>();
+            beginChange();
+            try {
+                replacementsByIndex.forEach((index, stock) -> replacedStocks.add(set(index, stock)));
+            } finally {
+                endChange();
+            }
+            return replacedStocks;
+        }
+
+        /**
+         * Removes the stocks at {@code descendingIndexes}, which are sorted from the last position to the first,
+         * as a single change.
+         *
+         * @return The stocks that were removed, in the order of {@code descendingIndexes}.
+         */
+        List<Stock> removeEach(List<Integer> descendingIndexes) {
+            List<Stock> removedStocks = new ArrayList<>();
+            beginChange();
+            try {
+                descendingIndexes.forEach(index -> removedStocks.add(remove((int) index)));
+            } finally {
+                endChange();
+            }
+            return removedStocks;
+        }
+
+        /**
+         * Replaces the contents of the list with {@code replacement} without removing the stocks one at a time.
+         */
+        @Override
+        public boolean setAll(Collection<? extends Stock> replacement) {
+            List<Stock> removedStocks = new ArrayList<>(stocks);
+            beginChange();
+            try {
+                stocks.clear();
+                stocks.addAll(replacement);
+                nextReplace(0, stocks.size(), removedStocks);
+            } finally {
+                endChange();
+            }
+            return true;
+        }
+
+        @Override
+        public Stock get(int index) {
+            return stocks.get(index);
+        }
+
+        @Override
+        public int size() {
+            return stocks.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Stock stock) {
+            stocks.add(index, stock);
+        }
+
+        @Override
+        protected Stock doSet(int index, Stock stock) {
+            return stocks.set(index, stock);
+        }
+
+        @Override
+        protected Stock doRemove(int index) {
+            return stocks.remove(index);
+        }
+    }
+
+    /**
+     * The (name, source) pair that identifies a stock apart from its serial number.
+     */
+    private static class Identity {
+        private final Name name;
+        private final Source source;
+
+        Identity(Stock stock) {
+            this.name = stock.getName();
+            this.source = stock.getSource();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Identity // instanceof handles nulls
+                    && name.equals(((Identity) other).name)
+                    && source.equals(((Identity) other).source));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, source);
+        }
     }
 }
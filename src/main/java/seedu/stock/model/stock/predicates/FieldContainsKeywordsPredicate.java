@@ -1,8 +1,11 @@
 package seedu.stock.model.stock.predicates;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.Stock;
+import seedu.stock.model.stock.StockSearchIndex;
 
 /**
  * Tests that a {@code Stock}'s {@code Field} matches or contains
@@ -18,4 +21,12 @@ public abstract class FieldContainsKeywordsPredicate implements Predicate<Stock>
     @Override
     public abstract boolean test(Stock stock);
 
+    /**
+     * Returns the serial numbers of the stocks in {@code index} for which {@link #test(Stock)} returns true,
+     * looking the keywords up in the index instead of testing every stock.
+     * @param index search index of the stocks to test
+     * @return serial numbers of the stocks that match keywords
+     */
+    public abstract Set<SerialNumber> getMatchingSerialNumbers(StockSearchIndex index);
+
 }
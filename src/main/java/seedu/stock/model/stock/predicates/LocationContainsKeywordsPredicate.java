@@ -1,8 +1,11 @@
 package seedu.stock.model.stock.predicates;
 
 import java.util.List;
+import java.util.Set;
 
+import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.Stock;
+import seedu.stock.model.stock.StockSearchIndex;
 
 /**
  * Tests that a {@code Stock}'s {@code Location} matches or contains
@@ -35,6 +38,11 @@ public class LocationContainsKeywordsPredicate extends FieldContainsKeywordsPred
         }
     }
 
+    @Override
+    public Set<SerialNumber> getMatchingSerialNumbers(StockSearchIndex index) {
+        return index.findContainingAll(StockSearchIndex.Field.LOCATION, keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
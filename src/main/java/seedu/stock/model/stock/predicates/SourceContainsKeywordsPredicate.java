@@ -1,8 +1,11 @@
 package seedu.stock.model.stock.predicates;
 
 import java.util.List;
+import java.util.Set;
 
+import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.Stock;
+import seedu.stock.model.stock.StockSearchIndex;
 
 /**
  * Tests that a {@code Stock}'s {@code Source} matches or contains
@@ -34,6 +37,11 @@ public class SourceContainsKeywordsPredicate extends FieldContainsKeywordsPredic
         }
     }
 
+    @Override
+    public Set<SerialNumber> getMatchingSerialNumbers(StockSearchIndex index) {
+        return index.findContainingAll(StockSearchIndex.Field.SOURCE, keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
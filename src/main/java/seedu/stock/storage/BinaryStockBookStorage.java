@@ -0,0 +1,309 @@
+package seedu.stock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.stock.commons.core.LogsCenter;
+import seedu.stock.commons.exceptions.DataConversionException;
+import seedu.stock.commons.exceptions.IllegalValueException;
+import seedu.stock.commons.util.FileUtil;
+import seedu.stock.model.ReadOnlyStockBook;
+import seedu.stock.model.StockBook;
+import seedu.stock.model.stock.Quantity;
+import seedu.stock.model.stock.Stock;
+
+/**
+ * A class to access StockBook data stored as a binary snapshot file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a dictionary of the distinct sources and
+ * locations of the stocks, and then one length-prefixed record per stock. Records refer to sources and locations
+ * by their position in the dictionary, and all numbers are written as variable-length integers, so that repeated
+ * values and field names do not take up space. Records may grow new fields in later versions, which older readers
+ * skip using the length prefix. The file is read into memory in one go and then decoded, so that it is not held
+ * open while the stocks are decoded or when it is replaced by a later save.
+ *
+ * If the file does not exist but a json file of the same name exists next to it, that json file is read instead,
+ * together with the journal and the notes kept next to it, so that all of the data is migrated to the binary format
+ * on the next save. The stock book can be exported back to json with {@link JsonStockBookStorage}.
+ */
+public class BinaryStockBookStorage implements StockBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryStockBookStorage.class);
+    private static final byte[] MAGIC_NUMBER = {'S', 'T', 'K', 'B'};
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final int NOT_CANONICAL_QUANTITY = 0;
+
+    private Path filePath;
+
+    public BinaryStockBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getStockBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if {@code filePath} names a binary stock book file.
+     */
+    public static boolean isBinaryFilePath(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyStockBook> readStockBook() throws DataConversionException, IOException {
+        return readStockBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readStockBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyStockBook> readStockBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            Path jsonFilePath = getJsonFilePath(filePath);
+            if (!jsonFilePath.equals(filePath) && Files.exists(jsonFilePath)) {
+                logger.info("Binary file " + filePath + " not found, reading " + jsonFilePath + " instead");
+                return new JournaledStockBookStorage(jsonFilePath,
+                        new JsonNoteStore(JsonNoteStore.getNoteFilePath(jsonFilePath))).readStockBook();
+            }
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        try {
+            return Optional.of(decodeStockBook(buffer));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveStockBook(ReadOnlyStockBook stockBook) throws IOException {
+        saveStockBook(stockBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStockBook(ReadOnlyStockBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveStockBook(ReadOnlyStockBook stockBook, Path filePath) throws IOException {
+        requireNonNull(stockBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, output -> encodeStockBook(stockBook.getStockList(), output));
+    }
+
+    /**
+     * Returns the path of the json file with the same name as the binary file at {@code filePath}.
+     */
+    private static Path getJsonFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.endsWith(FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - FILE_EXTENSION.length())
+                : fileName;
+        return filePath.resolveSibling(baseName + JSON_FILE_EXTENSION);
+    }
+
+    //// encoding
+
+    private static void encodeStockBook(List<Stock> stocks, OutputStream output) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Stock stock : stocks) {
+            dictionary.putIfAbsent(stock.getSource().value, dictionary.size());
+            dictionary.putIfAbsent(stock.getLocation().value, dictionary.size());
+        }
+
+        DataOutputStream data = new DataOutputStream(output);
+        data.write(MAGIC_NUMBER);
+        writeVarLong(data, FORMAT_VERSION);
+        writeVarLong(data, dictionary.size());
+        for (String value : dictionary.keySet()) {
+            writeString(data, value);
+        }
+
+        writeVarLong(data, stocks.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Stock stock : stocks) {
+            recordBytes.reset();
+            encodeStock(stock, dictionary, record);
+            writeVarLong(data, recordBytes.size());
+            recordBytes.writeTo(data);
+        }
+        data.flush();
+    }
+
+    private static void encodeStock(Stock stock, Map<String, Integer> dictionary, DataOutputStream record)
+            throws IOException {
+        Quantity quantity = stock.getQuantity();
+        writeString(record, stock.getName().fullName);
+        writeString(record, stock.getSerialNumber().getSerialNumberAsString());
+        writeVarLong(record, dictionary.get(stock.getSource().value));
+        writeVarLong(record, dictionary.get(stock.getLocation().value));
+        writeQuantity(record, quantity.quantity, quantity.getQuantityAsInt());
+        writeQuantity(record, quantity.lowQuantity, quantity.getLowQuantityAsInt());
+        record.writeBoolean(stock.getIsBookmarked());
+        List<String> notes = stock.getNotesValues();
+        writeVarLong(record, notes.size());
+        for (String note : notes) {
+            writeString(record, note);
+        }
+    }
+
+    /**
+     * Writes a quantity as a variable-length integer, or as a string if it is not written in the usual way,
+     * such as with leading zeros, so that it is read back exactly as it was given.
+     */
+    private static void writeQuantity(DataOutputStream output, String quantity, int value) throws IOException {
+        if (Integer.toString(value).equals(quantity)) {
+            writeVarLong(output, value + 1L);
+        } else {
+            writeVarLong(output, NOT_CANONICAL_QUANTITY);
+            writeString(output, quantity);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(output, bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Writes a non-negative number using 7 bits per byte, with the highest bit set on all but the last byte.
+     */
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+        assert value >= 0;
+        long remaining = value;
+        while (remaining >= 0x80) {
+            output.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.writeByte((int) remaining);
+    }
+
+    //// decoding
+
+    private static StockBook decodeStockBook(ByteBuffer buffer) throws IllegalValueException {
+        byte[] magicNumber = new byte[MAGIC_NUMBER.length];
+        buffer.get(magicNumber);
+        for (int i = 0; i < MAGIC_NUMBER.length; i++) {
+            if (magicNumber[i] != MAGIC_NUMBER[i]) {
+                throw new IllegalArgumentException("Not a binary stock book file");
+            }
+        }
+        long version = readVarLong(buffer);
+        if (version > FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary stock book version " + version);
+        }
+
+        int dictionarySize = readLength(buffer);
+        List<String> dictionary = new ArrayList<>(dictionarySize);
+        for (int i = 0; i < dictionarySize; i++) {
+            dictionary.add(readString(buffer));
+        }
+
+        int stockCount = readLength(buffer);
+        List<JsonAdaptedStock> adaptedStocks = new ArrayList<>(stockCount);
+        for (int i = 0; i < stockCount; i++) {
+            int recordLength = readLength(buffer);
+            ByteBuffer record = buffer.slice();
+            record.limit(recordLength);
+            buffer.position(buffer.position() + recordLength);
+            adaptedStocks.add(decodeStock(record, dictionary));
+        }
+        return JsonSerializableStockBook.toStockBook(adaptedStocks);
+    }
+
+    /**
+     * Decodes a stock record into the same form as a stock read from json, so that its values are validated
+     * in the same way.
+     */
+    private static JsonAdaptedStock decodeStock(ByteBuffer record, List<String> dictionary) {
+        String name = readString(record);
+        String serialNumber = readString(record);
+        String source = readDictionaryValue(record, dictionary);
+        String location = readDictionaryValue(record, dictionary);
+        String quantity = readQuantity(record);
+        String lowQuantity = readQuantity(record);
+        boolean isBookmarked = record.get() != 0;
+        int noteCount = readLength(record);
+        List<String> notes = new ArrayList<>(noteCount);
+        for (int i = 0; i < noteCount; i++) {
+            notes.add(readString(record));
+        }
+
+        return new JsonAdaptedStock(name, serialNumber, source, quantity, lowQuantity, location, notes, isBookmarked);
+    }
+
+    private static String readDictionaryValue(ByteBuffer buffer, List<String> dictionary) {
+        long index = readVarLong(buffer);
+        if (index < 0 || index >= dictionary.size()) {
+            throw new IllegalArgumentException("Invalid dictionary index " + index);
+        }
+        return dictionary.get((int) index);
+    }
+
+    private static String readQuantity(ByteBuffer buffer) {
+        long value = readVarLong(buffer);
+        return value == NOT_CANONICAL_QUANTITY ? readString(buffer) : Long.toString(value - 1);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readLength(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readLength(ByteBuffer buffer) {
+        long length = readVarLong(buffer);
+        // every counted item takes up at least one byte, and a corrupt length may be decoded as negative
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid length " + length);
+        }
+        return (int) length;
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte next = buffer.get();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length integer");
+    }
+}
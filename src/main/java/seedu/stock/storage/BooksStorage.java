@@ -0,0 +1,20 @@
+package seedu.stock.storage;
+
+import java.io.IOException;
+
+import seedu.stock.model.ReadOnlySerialNumberSetsBook;
+import seedu.stock.model.ReadOnlyStockBook;
+
+/**
+ * Represents a storage of both the stock book and the serial number sets book, which can save changes to both
+ * books together.
+ */
+public interface BooksStorage extends StockBookStorage, SerialNumberSetsBookStorage {
+
+    /**
+     * Saves the given stock book and serial number sets book, either of which may be null if it has not changed.
+     * Both are saved in a single transaction if they are stored together.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void saveBooks(ReadOnlyStockBook stockBook, ReadOnlySerialNumberSetsBook serialNumberSetsBook) throws IOException;
+}
@@ -0,0 +1,410 @@
+package seedu.stock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.stock.commons.core.LogsCenter;
+import seedu.stock.commons.exceptions.DataConversionException;
+import seedu.stock.commons.exceptions.IllegalValueException;
+import seedu.stock.commons.util.FileUtil;
+import seedu.stock.commons.util.JsonUtil;
+import seedu.stock.model.ReadOnlyStockBook;
+import seedu.stock.model.StockBook;
+import seedu.stock.model.stock.Note;
+import seedu.stock.model.stock.SerialNumber;
+import seedu.stock.model.stock.Stock;
+
+/**
+ * A class to access StockBook data stored as a json snapshot file together with an append-only journal of the
+ * changes made since the snapshot was written.
+ *
+ * Saving compares the stock book with the one last saved and appends only the stocks that were added, updated or
+ * deleted to the journal, flushing them to the disk once per save. When the journal has grown about as large as
+ * the snapshot, it is compacted by writing the whole stock book as a fresh snapshot and clearing the journal.
+ * Reading replays the journal on top of the snapshot. As the snapshot file has the same format as the one of
+ * {@link JsonStockBookStorage}, existing data files can be read without conversion.
+ *
+ * Every snapshot written is stamped with a new generation, and the journal starts with the generation of the
+ * snapshot it belongs to. A journal left behind by a compaction that was cut off belongs to an older snapshot,
+ * so it is ignored instead of being replayed over the newer snapshot.
+ *
+ * The notes of the stocks may be kept in a {@link JsonNoteStore} instead of the snapshot and the journal. The
+ * stocks read are then given notes that are loaded from the note store on demand, and only notes that have
+ * changed are saved. Notes found in the snapshot or the journal are moved to the note store on the next save.
+ */
+public class JournaledStockBookStorage implements StockBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_MINIMUM_COMPACTION_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledStockBookStorage.class);
+    private static final int INCOMPLETE_JOURNAL = -1;
+    private static final int STALE_JOURNAL = -2;
+
+    private final Path filePath;
+    private final int minimumCompactionSize;
+    private final JsonStockBookStorage snapshotStorage;
+    private final JsonNoteStore noteStore; // null if the notes are kept in the snapshot and the journal
+
+    // the stocks as last saved to or read from filePath, keyed by serial number in stock book order,
+    // or null if they are not known and the next save has to write a snapshot
+    private Map<SerialNumber, Stock> savedStocks;
+    private int journalSize;
+    // the generation of the snapshot at filePath as last saved or read
+    private long generation = JsonSerializableStockBook.NO_GENERATION;
+
+    public JournaledStockBookStorage(Path filePath) {
+        this(filePath, DEFAULT_MINIMUM_COMPACTION_SIZE);
+    }
+
+    /**
+     * Creates a {@code JournaledStockBookStorage} whose journal is compacted once it holds at least
+     * {@code minimumCompactionSize} records and at least as many records as there are stocks.
+     */
+    public JournaledStockBookStorage(Path filePath, int minimumCompactionSize) {
+        this(filePath, minimumCompactionSize, null);
+    }
+
+    /**
+     * Creates a {@code JournaledStockBookStorage} that keeps the notes of the stocks in {@code noteStore}.
+     */
+    public JournaledStockBookStorage(Path filePath, JsonNoteStore noteStore) {
+        this(filePath, DEFAULT_MINIMUM_COMPACTION_SIZE, requireNonNull(noteStore));
+    }
+
+    /**
+     * Creates a {@code JournaledStockBookStorage} whose journal is compacted once it holds at least
+     * {@code minimumCompactionSize} records and at least as many records as there are stocks, and which
+     * keeps the notes of the stocks in {@code noteStore} unless it is null.
+     */
+    public JournaledStockBookStorage(Path filePath, int minimumCompactionSize, JsonNoteStore noteStore) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.minimumCompactionSize = minimumCompactionSize;
+        this.snapshotStorage = new JsonStockBookStorage(filePath);
+        this.noteStore = noteStore;
+    }
+
+    public Path getStockBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyStockBook> readStockBook() throws DataConversionException, IOException {
+        return readStockBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readStockBook()}.
+     *
+     * @param filePath location of the snapshot, next to which the journal is stored. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyStockBook> readStockBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        Optional<ReadOnlyStockBook> snapshot = snapshotStorage.readStockBook(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        long snapshotGeneration = snapshot.isPresent()
+                ? readSnapshotGeneration(filePath)
+                : JsonSerializableStockBook.NO_GENERATION;
+        Map<SerialNumber, Stock> stocks = new LinkedHashMap<>();
+        snapshot.ifPresent(stockBook -> stockBook.getStockList()
+                .forEach(stock -> stocks.put(stock.getSerialNumber(), stock)));
+        int replayedRecordCount = replayJournal(journalFilePath, snapshotGeneration, stocks);
+        boolean hasNotesToMove = false;
+        if (noteStore != null && filePath.equals(this.filePath)) {
+            hasNotesToMove = stocks.values().stream().anyMatch(stock -> !stock.getNotes().isEmpty());
+            stocks.replaceAll((serialNumber, stock) -> stock.getNotes().isEmpty()
+                    ? stock.withNotesLoadedBy(noteStore)
+                    : stock);
+        }
+
+        StockBook stockBook = new StockBook();
+        for (Stock stock : stocks.values()) {
+            if (stockBook.hasStock(stock)) {
+                throw new DataConversionException(
+                        new IllegalValueException(JsonSerializableStockBook.MESSAGE_DUPLICATE_STOCK));
+            }
+            stockBook.addStock(stock);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // an incomplete or stale journal cannot be appended to, and notes still in the stock book have to be
+            // moved, so both are replaced by a snapshot on the next save
+            boolean isJournalUnusable = replayedRecordCount == INCOMPLETE_JOURNAL
+                    || replayedRecordCount == STALE_JOURNAL;
+            savedStocks = isJournalUnusable || hasNotesToMove ? null : stocks;
+            journalSize = Math.max(replayedRecordCount, 0);
+            generation = snapshotGeneration;
+        }
+        return Optional.of(stockBook);
+    }
+
+    @Override
+    public void saveStockBook(ReadOnlyStockBook stockBook) throws IOException {
+        saveStockBook(stockBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStockBook(ReadOnlyStockBook)}.
+     * Only the changes since the last save are written when saving to the file path of this storage,
+     * while the whole stock book is written as a snapshot when saving to any other file path.
+     *
+     * @param filePath location of the snapshot, next to which the journal is stored. Cannot be null.
+     */
+    @Override
+    public synchronized void saveStockBook(ReadOnlyStockBook stockBook, Path filePath) throws IOException {
+        requireNonNull(stockBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(stockBook, filePath, true);
+            return;
+        }
+
+        Optional<StockChanges> changes = savedStocks == null
+                ? Optional.empty()
+                : StockChanges.find(savedStocks, stockBook.getStockList());
+        if (!changes.isPresent()
+                || journalSize + changes.get().size() >= Math.max(minimumCompactionSize, savedStocks.size())) {
+            compact(stockBook);
+        } else if (!changes.get().isEmpty()) {
+            saveChangedNotes(changes.get());
+            appendToJournal(toRecords(changes.get()));
+            journalSize += changes.get().size();
+            savedStocks = StockChanges.toStockMap(stockBook.getStockList());
+        }
+    }
+
+    /**
+     * Writes {@code stockBook} as the snapshot of this storage and clears the journal.
+     */
+    private void compact(ReadOnlyStockBook stockBook) throws IOException {
+        logger.fine("Compacting journal of " + filePath);
+        List<Stock> stocks = stockBook.getStockList();
+        if (noteStore != null) {
+            Map<SerialNumber, List<Note>> notesToSave = new HashMap<>();
+            stocks.stream()
+                    .filter(stock -> !stock.isNotesLoadedOnDemand())
+                    .forEach(stock -> notesToSave.put(stock.getSerialNumber(), stock.getNotes()));
+            noteStore.saveNotes(notesToSave);
+        }
+        generation = writeSnapshot(stockBook, filePath, noteStore == null);
+        savedStocks = StockChanges.toStockMap(stocks);
+        journalSize = 0;
+        if (noteStore != null) {
+            noteStore.retainNotes(savedStocks.keySet());
+        }
+    }
+
+    /**
+     * Saves to the note store the notes of the stocks put by {@code changes}, unless they are not in memory and
+     * thus unchanged, and removes the notes of the stocks deleted.
+     */
+    private void saveChangedNotes(StockChanges changes) throws IOException {
+        if (noteStore == null) {
+            return;
+        }
+
+        Map<SerialNumber, List<Note>> notesToSave = new HashMap<>();
+        changes.getDeletedSerialNumbers().forEach(serialNumber -> notesToSave.put(serialNumber, new ArrayList<>()));
+        changes.getPutStocks().stream()
+                .filter(stock -> !stock.isNotesLoadedOnDemand())
+                .forEach(stock -> notesToSave.put(stock.getSerialNumber(), stock.getNotes()));
+        noteStore.saveNotes(notesToSave);
+    }
+
+    /**
+     * Returns the journal records of {@code changes}.
+     */
+    private List<JsonAdaptedJournalRecord> toRecords(StockChanges changes) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        changes.getDeletedSerialNumbers().forEach(serialNumber ->
+                records.add(JsonAdaptedJournalRecord.delete(serialNumber)));
+        changes.getPutStocks().forEach(stock -> records.add(JsonAdaptedJournalRecord.put(stock, noteStore == null)));
+        return records;
+    }
+
+    /**
+     * Appends {@code records} to the journal, one per line, and flushes them to the disk together.
+     * A new journal starts with the generation of the snapshot.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(journalFilePath) || Files.size(journalFilePath) == 0) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.generation(generation))).append('\n');
+        }
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel journal = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Replays the journal at {@code journalFilePath} on {@code stocks}, if it belongs to the snapshot of
+     * {@code snapshotGeneration}. A journal without a generation belongs to a snapshot without one.
+     * An unreadable last record is taken to be a write that was cut off, and is ignored.
+     *
+     * @return the number of records replayed, {@code INCOMPLETE_JOURNAL} if the last record was ignored,
+     *     or {@code STALE_JOURNAL} if the journal belongs to another snapshot and nothing was replayed.
+     * @throws DataConversionException if any other record is not in the correct format.
+     */
+    private static int replayJournal(Path journalFilePath, long snapshotGeneration, Map<SerialNumber, Stock> stocks)
+            throws DataConversionException, IOException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        int replayedRecordCount = 0;
+        boolean isFirstRecord = true;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (IOException e) {
+                    if (nextLine == null) {
+                        logger.warning("Ignoring incomplete last record of " + journalFilePath);
+                        return INCOMPLETE_JOURNAL;
+                    }
+                    throw new DataConversionException(e);
+                }
+
+                if (isFirstRecord && getJournalGeneration(record) != snapshotGeneration) {
+                    logger.warning("Ignoring " + journalFilePath + " as it belongs to an older snapshot");
+                    return STALE_JOURNAL;
+                }
+                isFirstRecord = false;
+                if (!record.isGeneration()) {
+                    replayRecord(record, stocks);
+                    replayedRecordCount++;
+                }
+                line = nextLine;
+            }
+        }
+        return replayedRecordCount;
+    }
+
+    /**
+     * Returns the generation of the journal that starts with {@code firstRecord}.
+     */
+    private static long getJournalGeneration(JsonAdaptedJournalRecord firstRecord) throws DataConversionException {
+        if (!firstRecord.isGeneration()) {
+            return JsonSerializableStockBook.NO_GENERATION;
+        }
+        try {
+            return firstRecord.getGeneration();
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the generation of the journal at {@code journalFilePath}, or {@code NO_GENERATION} if there is no
+     * journal or its first record cannot be read.
+     */
+    private static long readJournalGeneration(Path journalFilePath) throws IOException {
+        if (!Files.exists(journalFilePath)) {
+            return JsonSerializableStockBook.NO_GENERATION;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String firstLine = reader.readLine();
+            return firstLine == null
+                    ? JsonSerializableStockBook.NO_GENERATION
+                    : getJournalGeneration(JsonUtil.fromJsonString(firstLine, JsonAdaptedJournalRecord.class));
+        } catch (IOException | DataConversionException e) {
+            return JsonSerializableStockBook.NO_GENERATION;
+        }
+    }
+
+    /**
+     * Returns the generation of the snapshot at {@code filePath}.
+     */
+    private static long readSnapshotGeneration(Path filePath) throws DataConversionException {
+        try (JsonParser parser = JsonUtil.createFileParser(filePath)) {
+            return JsonSerializableStockBook.readGeneration(parser);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static void replayRecord(JsonAdaptedJournalRecord record, Map<SerialNumber, Stock> stocks)
+            throws DataConversionException {
+        try {
+            if (record.isPut()) {
+                Stock stock = record.getStock();
+                stocks.put(stock.getSerialNumber(), stock);
+            } else {
+                stocks.remove(record.getDeletedSerialNumber());
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal record: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Replaces the snapshot at {@code filePath} with {@code stockBook} once it is completely on the disk,
+     * and then deletes the journal of the snapshot.
+     * The new snapshot is stamped with a generation that differs from the one of the journal, so should the
+     * journal be left behind, it is ignored when the new snapshot is read instead of undoing the changes saved.
+     *
+     * @return the generation of the new snapshot.
+     */
+    private long writeSnapshot(ReadOnlyStockBook stockBook, Path filePath, boolean includeNotes)
+            throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        long newGeneration = Math.max(generation, readJournalGeneration(journalFilePath)) + 1;
+        FileUtil.writeAtomically(filePath, output -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(output, false)) {
+                JsonSerializableStockBook.writeStockBook(stockBook, generator, includeNotes, newGeneration);
+            }
+        });
+        Files.deleteIfExists(journalFilePath);
+        return newGeneration;
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.stock.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.stock.commons.exceptions.IllegalValueException;
+import seedu.stock.model.stock.SerialNumber;
+import seedu.stock.model.stock.Stock;
+
+/**
+ * Jackson-friendly version of a change to a stock book, as recorded in the journal of a
+ * {@link JournaledStockBookStorage}.
+ * A record either puts a stock, replacing the stock with the same serial number or adding it to the end of
+ * the stock book, or deletes the stock with the given serial number.
+ * The first record of a journal may instead give the generation of the snapshot that the journal belongs to.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String TYPE_PUT = "put";
+    public static final String TYPE_DELETE = "delete";
+    public static final String TYPE_GENERATION = "generation";
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid!";
+
+    private final String type;
+    private final JsonAdaptedStock stock;
+    private final String serialNumber;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long generation;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") String type, @JsonProperty("stock") JsonAdaptedStock stock,
+                                    @JsonProperty("serialNumber") String serialNumber,
+                                    @JsonProperty("generation") Long generation) {
+        this.type = type;
+        this.stock = stock;
+        this.serialNumber = serialNumber;
+        this.generation = generation;
+    }
+
+    /**
+     * Returns a record that puts {@code stock}.
+     */
+    public static JsonAdaptedJournalRecord put(Stock stock) {
+        return put(stock, true);
+    }
+
+    /**
+     * Returns a record that puts {@code stock}, leaving out its notes unless {@code includeNotes} is true.
+     */
+    public static JsonAdaptedJournalRecord put(Stock stock, boolean includeNotes) {
+        return new JsonAdaptedJournalRecord(TYPE_PUT, new JsonAdaptedStock(stock, includeNotes), null, null);
+    }
+
+    /**
+     * Returns a record that deletes the stock with {@code serialNumber}.
+     */
+    public static JsonAdaptedJournalRecord delete(SerialNumber serialNumber) {
+        return new JsonAdaptedJournalRecord(TYPE_DELETE, null, serialNumber.getSerialNumberAsString(), null);
+    }
+
+    /**
+     * Returns a record that marks the journal as belonging to the snapshot of {@code generation}.
+     */
+    public static JsonAdaptedJournalRecord generation(long generation) {
+        return new JsonAdaptedJournalRecord(TYPE_GENERATION, null, null, generation);
+    }
+
+    public boolean isPut() {
+        return TYPE_PUT.equals(type);
+    }
+
+    public boolean isGeneration() {
+        return TYPE_GENERATION.equals(type) && generation != null;
+    }
+
+    /**
+     * Returns the generation given by this record.
+     *
+     * @throws IllegalValueException if this is not a valid generation record.
+     */
+    public long getGeneration() throws IllegalValueException {
+        if (!isGeneration()) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        return generation;
+    }
+
+    /**
+     * Converts the stock put by this record into the model's {@code Stock} object.
+     *
+     * @throws IllegalValueException if this is not a valid put record.
+     */
+    public Stock getStock() throws IllegalValueException {
+        if (!isPut() || stock == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        return stock.toModelType();
+    }
+
+    /**
+     * Returns the serial number of the stock deleted by this record.
+     *
+     * @throws IllegalValueException if this is not a valid delete record.
+     */
+    public SerialNumber getDeletedSerialNumber() throws IllegalValueException {
+        if (!TYPE_DELETE.equals(type) || serialNumber == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        if (!SerialNumber.isValidSerialNumber(serialNumber)) {
+            throw new IllegalValueException(SerialNumber.MESSAGE_CONSTRAINTS);
+        }
+        return new SerialNumber(serialNumber);
+    }
+}
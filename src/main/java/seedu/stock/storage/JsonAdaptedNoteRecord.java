@@ -0,0 +1,77 @@
+package seedu.stock.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.stock.commons.exceptions.IllegalValueException;
+import seedu.stock.model.stock.Note;
+import seedu.stock.model.stock.SerialNumber;
+
+/**
+ * Jackson-friendly version of the notes of a stock, as recorded in a {@link JsonNoteStore}.
+ * A record with no notes removes the notes of the stock.
+ */
+class JsonAdaptedNoteRecord {
+
+    private final String serialNumber;
+    private final List<String> notes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedNoteRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedNoteRecord(@JsonProperty("serialNumber") String serialNumber,
+                                 @JsonProperty("notes") List<String> notes) {
+        this.serialNumber = serialNumber;
+        if (notes != null) {
+            this.notes.addAll(notes);
+        }
+    }
+
+    /**
+     * Converts the given notes of the stock with {@code serialNumber} into this class for Jackson use.
+     */
+    public JsonAdaptedNoteRecord(SerialNumber serialNumber, List<Note> notes) {
+        this.serialNumber = serialNumber.getSerialNumberAsString();
+        notes.forEach(note -> this.notes.add(note.value));
+    }
+
+    /**
+     * Returns the serial number of the stock the notes belong to.
+     *
+     * @throws IllegalValueException if the serial number is missing or invalid.
+     */
+    public SerialNumber getSerialNumber() throws IllegalValueException {
+        if (serialNumber == null) {
+            throw new IllegalValueException(String.format(JsonAdaptedStock.MISSING_FIELD_MESSAGE_FORMAT,
+                    SerialNumber.class.getSimpleName()));
+        }
+        if (!SerialNumber.isValidSerialNumber(serialNumber)) {
+            throw new IllegalValueException(SerialNumber.MESSAGE_CONSTRAINTS);
+        }
+        return new SerialNumber(serialNumber);
+    }
+
+    /**
+     * Converts the recorded notes into the model's {@code Note} objects.
+     *
+     * @throws IllegalValueException if any note is missing or invalid.
+     */
+    public List<Note> getNotes() throws IllegalValueException {
+        List<Note> modelNotes = new ArrayList<>();
+        for (String note : notes) {
+            if (note == null) {
+                throw new IllegalValueException(String.format(JsonAdaptedStock.MISSING_FIELD_MESSAGE_FORMAT,
+                        Note.class.getSimpleName()));
+            }
+            if (!Note.isValidNote(note)) {
+                throw new IllegalValueException(Note.MESSAGE_CONSTRAINTS);
+            }
+            modelNotes.add(new Note(note));
+        }
+        return modelNotes;
+    }
+}
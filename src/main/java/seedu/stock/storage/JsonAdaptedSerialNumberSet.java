@@ -48,7 +48,7 @@ class JsonAdaptedSerialNumberSet {
         if (!Source.isValidSource(source)) {
             throw new IllegalValueException(Source.MESSAGE_CONSTRAINTS);
         }
-        final Source modelSource = new Source(source);
+        final Source modelSource = Source.of(source);
 
         if (accumulatedQuantity == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
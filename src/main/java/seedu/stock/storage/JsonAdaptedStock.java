@@ -55,13 +55,21 @@ class JsonAdaptedStock {
      * Converts a given {@code Stock} into this class for Jackson use.
      */
     public JsonAdaptedStock(Stock source) {
+        this(source, true);
+    }
+
+    /**
+     * Converts a given {@code Stock} into this class for Jackson use, leaving out its notes unless
+     * {@code includeNotes} is true.
+     */
+    public JsonAdaptedStock(Stock source, boolean includeNotes) {
         name = source.getName().fullName;
         serialNumber = source.getSerialNumber().getSerialNumberAsString();
         this.source = source.getSource().value;
         quantity = source.getQuantity().quantity;
         lowQuantity = source.getQuantity().lowQuantity;
         location = source.getLocation().value;
-        notes = source.getNotesValues();
+        notes = includeNotes ? source.getNotesValues() : new ArrayList<>();
         isBookmarked = source.getIsBookmarked();
     }
 
@@ -94,7 +102,7 @@ class JsonAdaptedStock {
         if (!Source.isValidSource(source)) {
             throw new IllegalValueException(Source.MESSAGE_CONSTRAINTS);
         }
-        final Source modelSource = new Source(source);
+        final Source modelSource = Source.of(source);
 
         if (quantity == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -120,7 +128,7 @@ class JsonAdaptedStock {
         if (!Location.isValidLocation(location)) {
             throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
         }
-        final Location modelLocation = new Location(location);
+        final Location modelLocation = Location.of(location);
 
         if (notes != null && notes.size() > 0) {
             List<Note> modelNotesList = new ArrayList<>();
@@ -136,23 +144,12 @@ class JsonAdaptedStock {
                 modelNotesList.add(modelNote);
             }
 
-            Stock stockToAdd = new Stock(modelName, modelSerialNumber, modelSource, modelQuantity, modelLocation,
-                    modelNotesList);
-
-            if (isBookmarked) {
-                stockToAdd.setBookmarked();
-            }
-
-            return stockToAdd;
-        }
-
-        Stock stockToAdd = new Stock(modelName, modelSerialNumber, modelSource, modelQuantity, modelLocation);
-
-        if (isBookmarked) {
-            stockToAdd.setBookmarked();
+            return new Stock(modelName, modelSerialNumber, modelSource, modelQuantity, modelLocation,
+                    modelNotesList).withBookmark(isBookmarked);
         }
 
-        return stockToAdd;
+        return new Stock(modelName, modelSerialNumber, modelSource, modelQuantity, modelLocation)
+                .withBookmark(isBookmarked);
 
     }
 
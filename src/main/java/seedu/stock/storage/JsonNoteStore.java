@@ -0,0 +1,325 @@
+package seedu.stock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.stock.commons.core.LogsCenter;
+import seedu.stock.commons.exceptions.IllegalValueException;
+import seedu.stock.commons.util.FileUtil;
+import seedu.stock.commons.util.JsonUtil;
+import seedu.stock.commons.util.PersistentList;
+import seedu.stock.model.stock.Note;
+import seedu.stock.model.stock.NoteLoader;
+import seedu.stock.model.stock.SerialNumber;
+
+/**
+ * Stores the notes of stocks apart from the stock book, keyed by the serial numbers of the stocks, so that
+ * notes are only read when they are shown or changed, and only written when they change.
+ *
+ * The notes are kept in an append-only file with one json record per line, each holding all the notes of one
+ * stock. Only the position and length of the latest record of each stock are kept in memory, together with the
+ * notes of the most recently used stocks. The file is compacted once most of its records have been replaced,
+ * unless some of its records cannot be read, as compacting the file would drop them for good.
+ */
+public class JsonNoteStore implements NoteLoader {
+
+    public static final String NOTE_FILE_SUFFIX = ".notes";
+    public static final int DEFAULT_CACHE_SIZE = 64;
+    public static final int MINIMUM_COMPACTION_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonNoteStore.class);
+
+    private final Path filePath;
+    private final Map<SerialNumber, PersistentList<Note>> cache;
+
+    // the location of the latest record of every stock with notes, or null if the file has not been read yet
+    private Map<SerialNumber, RecordLocation> recordLocations;
+    private int recordCount;
+    private int unreadableRecordCount;
+    private long validLength;
+
+    public JsonNoteStore(Path filePath) {
+        this(filePath, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a {@code JsonNoteStore} that keeps the notes of at most {@code cacheSize} stocks in memory.
+     */
+    public JsonNoteStore(Path filePath, int cacheSize) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SerialNumber, PersistentList<Note>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the path of the note store of the stock book at {@code stockBookFilePath}.
+     */
+    public static Path getNoteFilePath(Path stockBookFilePath) {
+        return stockBookFilePath.resolveSibling(stockBookFilePath.getFileName() + NOTE_FILE_SUFFIX);
+    }
+
+    public Path getNoteFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the notes of the stock with {@code serialNumber}.
+     *
+     * @throws UncheckedIOException if the notes cannot be read, so that they are not taken to be empty and
+     *     overwritten by the next change to them.
+     */
+    @Override
+    public synchronized List<Note> loadNotes(SerialNumber serialNumber) {
+        requireNonNull(serialNumber);
+        PersistentList<Note> notes = cache.get(serialNumber);
+        if (notes != null) {
+            return notes;
+        }
+
+        try {
+            RecordLocation location = getRecordLocations().get(serialNumber);
+            notes = location == null ? PersistentList.empty() : PersistentList.of(readRecord(location).getNotes());
+        } catch (IOException e) {
+            logger.warning("Unable to read the notes of " + serialNumber + " from " + filePath + ": " + e);
+            throw new UncheckedIOException(e);
+        } catch (IllegalValueException e) {
+            logger.warning("Unable to read the notes of " + serialNumber + " from " + filePath + ": " + e);
+            throw new UncheckedIOException(new IOException(e.getMessage(), e));
+        }
+        cache.put(serialNumber, notes);
+        return notes;
+    }
+
+    /**
+     * Saves the notes given for each serial number, replacing all earlier notes of the stock.
+     * Notes that are the very ones last read or saved are not written again, and the records of the
+     * rest are flushed to the disk together.
+     */
+    public synchronized void saveNotes(Map<SerialNumber, List<Note>> notesToSave) throws IOException {
+        requireNonNull(notesToSave);
+        Map<SerialNumber, RecordLocation> locations = getRecordLocations();
+        StringBuilder lines = new StringBuilder();
+        Map<SerialNumber, RecordLocation> newLocations = new LinkedHashMap<>();
+        long position = validLength;
+        for (Map.Entry<SerialNumber, List<Note>> entry : notesToSave.entrySet()) {
+            SerialNumber serialNumber = entry.getKey();
+            PersistentList<Note> notes = PersistentList.of(entry.getValue());
+            if (cache.get(serialNumber) == notes || notes.isEmpty() && !locations.containsKey(serialNumber)) {
+                cache.put(serialNumber, notes);
+                continue;
+            }
+
+            String line = JsonUtil.toCompactJsonString(new JsonAdaptedNoteRecord(serialNumber, notes));
+            int length = line.getBytes(StandardCharsets.UTF_8).length;
+            newLocations.put(serialNumber, notes.isEmpty() ? null : new RecordLocation(position, length));
+            position += length + 1;
+            lines.append(line).append('\n');
+            cache.put(serialNumber, notes);
+        }
+
+        if (newLocations.isEmpty()) {
+            return;
+        }
+        append(lines.toString());
+        recordCount += newLocations.size();
+        newLocations.forEach((serialNumber, newLocation) -> {
+            if (newLocation == null) {
+                locations.remove(serialNumber);
+            } else {
+                locations.put(serialNumber, newLocation);
+            }
+        });
+
+        if (recordCount >= Math.max(MINIMUM_COMPACTION_SIZE, 2 * locations.size())) {
+            compact();
+        }
+    }
+
+    /**
+     * Removes the notes of all stocks except those with the given serial numbers, and compacts the file.
+     */
+    public synchronized void retainNotes(Set<SerialNumber> serialNumbers) throws IOException {
+        requireNonNull(serialNumbers);
+        getRecordLocations().keySet().retainAll(serialNumbers);
+        cache.keySet().retainAll(serialNumbers);
+        if (recordCount > recordLocations.size() || validLength < fileSize()) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the file with only the latest record of each stock, replacing the old file once the new one is
+     * completely on the disk.
+     * The records are copied to the new file and the old file is closed before it is replaced, as an open file
+     * cannot be replaced on every platform.
+     * The file is left as it is if any of its records cannot be read.
+     */
+    private void compact() throws IOException {
+        if (unreadableRecordCount > 0) {
+            logger.warning("Not compacting " + filePath + " as " + unreadableRecordCount
+                    + " of its records cannot be read");
+            return;
+        }
+        logger.fine("Compacting notes in " + filePath);
+        Map<SerialNumber, RecordLocation> compactedLocations = new HashMap<>();
+        long[] position = {0};
+        FileUtil.writeAtomically(filePath, output -> {
+            try (FileChannel source = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                for (Map.Entry<SerialNumber, RecordLocation> entry : recordLocations.entrySet()) {
+                    byte[] line = readLine(source, entry.getValue());
+                    output.write(line);
+                    output.write('\n');
+                    compactedLocations.put(entry.getKey(), new RecordLocation(position[0], line.length));
+                    position[0] += line.length + 1;
+                }
+            }
+        });
+        recordLocations = compactedLocations;
+        recordCount = compactedLocations.size();
+        validLength = position[0];
+    }
+
+    /**
+     * Appends {@code lines} after the last complete record of the file and flushes them to the disk.
+     */
+    private void append(String lines) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel file = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // an incomplete last record left behind by an earlier write is overwritten
+            file.truncate(validLength);
+            file.position(validLength);
+            ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                file.write(buffer);
+            }
+            file.force(false);
+            validLength = file.position();
+        }
+    }
+
+    private JsonAdaptedNoteRecord readRecord(RecordLocation location) throws IOException {
+        try (FileChannel file = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            String line = new String(readLine(file, location), StandardCharsets.UTF_8);
+            return JsonUtil.fromJsonString(line, JsonAdaptedNoteRecord.class);
+        }
+    }
+
+    /**
+     * Reads the record at {@code location}, without its line break.
+     */
+    private static byte[] readLine(FileChannel file, RecordLocation location) throws IOException {
+        ByteBuffer line = ByteBuffer.allocate(location.length);
+        while (line.hasRemaining()) {
+            if (file.read(line, location.position + line.position()) == -1) {
+                throw new EOFException("Record at " + location.position + " was cut off");
+            }
+        }
+        return line.array();
+    }
+
+    /**
+     * Returns the location of the latest record of every stock with notes, reading the whole file the first
+     * time it is called.
+     * An unreadable last record is taken to be a write that was cut off, and is ignored, while any other
+     * unreadable record is skipped with a warning so that the notes of the other stocks can still be read, and
+     * is kept in the file.
+     */
+    private Map<SerialNumber, RecordLocation> getRecordLocations() throws IOException {
+        if (recordLocations != null) {
+            return recordLocations;
+        }
+
+        Map<SerialNumber, RecordLocation> locations = new HashMap<>();
+        int count = 0;
+        int unreadableCount = 0;
+        long position = 0;
+        if (Files.exists(filePath)) {
+            try (InputStream input = new BufferedInputStream(Files.newInputStream(filePath))) {
+                ByteArrayOutputStream line = new ByteArrayOutputStream();
+                long lineStart = 0;
+                int next = input.read();
+                while (next != -1) {
+                    position++;
+                    if (next != '\n') {
+                        line.write(next);
+                    } else {
+                        if (!indexRecord(line.toString(StandardCharsets.UTF_8),
+                                new RecordLocation(lineStart, line.size()), locations)) {
+                            unreadableCount++;
+                        }
+                        count++;
+                        line.reset();
+                        lineStart = position;
+                    }
+                    next = input.read();
+                }
+                position = lineStart;
+            }
+        }
+
+        recordLocations = locations;
+        recordCount = count;
+        unreadableRecordCount = unreadableCount;
+        validLength = position;
+        return recordLocations;
+    }
+
+    /**
+     * Puts the location of the record {@code line} in {@code locations}, and returns false if it cannot be read.
+     */
+    private boolean indexRecord(String line, RecordLocation location, Map<SerialNumber, RecordLocation> locations) {
+        try {
+            JsonAdaptedNoteRecord record = JsonUtil.fromJsonString(line, JsonAdaptedNoteRecord.class);
+            SerialNumber serialNumber = record.getSerialNumber();
+            if (record.getNotes().isEmpty()) {
+                locations.remove(serialNumber);
+            } else {
+                locations.put(serialNumber, location);
+            }
+            return true;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Skipping unreadable record of " + filePath + ": " + e);
+            return false;
+        }
+    }
+
+    private long fileSize() throws IOException {
+        return Files.exists(filePath) ? Files.size(filePath) : 0;
+    }
+
+    /**
+     * The position of a record in the file and its length in bytes, without its line break.
+     */
+    private static class RecordLocation {
+        private final long position;
+        private final int length;
+
+        RecordLocation(long position, int length) {
+            this.position = position;
+            this.length = length;
+        }
+    }
+}
@@ -1,26 +1,51 @@
 package seedu.stock.storage;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.stock.commons.exceptions.IllegalValueException;
+import seedu.stock.commons.util.JsonUtil;
 import seedu.stock.model.ReadOnlyStockBook;
 import seedu.stock.model.StockBook;
 import seedu.stock.model.stock.Stock;
+import seedu.stock.model.stock.exceptions.DuplicateStockException;
 
 /**
  * An Immutable StockBook that is serializable to JSON format.
+ * Also reads and writes stock books in the same format one stock at a time, without holding all of the
+ * stocks in this class.
  */
 @JsonRootName(value = "stockbook")
 class JsonSerializableStockBook {
 
     public static final String MESSAGE_DUPLICATE_STOCK = "Stocks list contains duplicate stock(s).";
 
+    /** Generation of a stock book written without one. */
+    public static final long NO_GENERATION = 0;
+
+    private static final String STOCKS_FIELD = "stocks";
+    private static final String GENERATION_FIELD = "generation";
+
+    /** Number of stocks converted by each task when stocks are converted in parallel. */
+    private static final int CONVERSION_CHUNK_SIZE = 256;
+
+    /** Number of chunks that may wait to be converted while more stocks are read. */
+    private static final int MAX_PENDING_CHUNKS = 2 * ForkJoinPool.getCommonPoolParallelism();
+
     private final List<JsonAdaptedStock> stocks = new ArrayList<>();
 
     /**
@@ -46,15 +71,205 @@ class JsonSerializableStockBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public StockBook toModelType() throws IllegalValueException {
+        return toStockBook(stocks);
+    }
+
+    /**
+     * Converts {@code adaptedStocks} into a {@code StockBook} holding their model's {@code Stock} objects
+     * in the same order.
+     * The stocks are converted in chunks on the common fork-join pool, then checked for duplicates and added
+     * to the stock book all at once. If several stocks are invalid, the error of the first one is reported.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static StockBook toStockBook(List<JsonAdaptedStock> adaptedStocks) throws IllegalValueException {
+        StockConverter converter = new StockConverter();
+        for (JsonAdaptedStock adaptedStock : adaptedStocks) {
+            converter.add(adaptedStock);
+        }
+        return createStockBook(converter.finish());
+    }
+
+    private static StockBook createStockBook(List<Stock> convertedStocks) throws IllegalValueException {
         StockBook stockBook = new StockBook();
-        for (JsonAdaptedStock jsonAdaptedStock : stocks) {
-            Stock stock = jsonAdaptedStock.toModelType();
-            if (stockBook.hasStock(stock)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STOCK);
-            }
-            stockBook.addStock(stock);
+        try {
+            stockBook.addStocks(convertedStocks);
+        } catch (DuplicateStockException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STOCK);
         }
         return stockBook;
     }
 
+    /**
+     * Reads a stock book from {@code parser} one stock at a time, without building a tree of the whole
+     * document, and converts the stocks into the model's {@code Stock} objects as in {@link #toStockBook(List)}.
+     * Each chunk of stocks is handed off to be converted as soon as it is read, so only the few chunks that are
+     * still waiting to be converted are held alongside the converted stocks.
+     *
+     * @throws IOException if the data is not a stock book in JSON format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static StockBook readStockBook(JsonParser parser) throws IOException, IllegalValueException {
+        StockConverter converter = new StockConverter();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a stock book");
+        }
+
+        JsonToken token = parser.nextToken();
+        while (token == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (STOCKS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                readStocks(parser, converter);
+            } else {
+                parser.skipChildren();
+            }
+            token = parser.nextToken();
+        }
+
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of stock book");
+        }
+        return createStockBook(converter.finish());
+    }
+
+    /**
+     * Reads the generation that a stock book was written with from {@code parser}, which must be at the start of
+     * the stock book. As the generation is written before the stocks, the rest of the stock book is not read.
+     *
+     * @return the generation, or {@code NO_GENERATION} if the stock book was written without one.
+     * @throws IOException if the data is not a stock book in JSON format.
+     */
+    public static long readGeneration(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a stock book");
+        }
+        if (parser.nextToken() == JsonToken.FIELD_NAME && GENERATION_FIELD.equals(parser.getCurrentName())
+                && parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        return NO_GENERATION;
+    }
+
+    private static void readStocks(JsonParser parser, StockConverter converter)
+            throws IOException, IllegalValueException {
+        JsonToken token = parser.nextToken();
+        while (token != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Unexpected end of stocks list");
+            }
+            converter.add(JsonUtil.readValue(parser, JsonAdaptedStock.class));
+            token = parser.nextToken();
+        }
+    }
+
+    /**
+     * Writes {@code source} to {@code generator}, converting each stock only when it is written.
+     */
+    public static void writeStockBook(ReadOnlyStockBook source, JsonGenerator generator) throws IOException {
+        writeStockBook(source, generator, true);
+    }
+
+    /**
+     * Similar to {@link #writeStockBook(ReadOnlyStockBook, JsonGenerator)}, but leaves out the notes of the
+     * stocks unless {@code includeNotes} is true.
+     */
+    public static void writeStockBook(ReadOnlyStockBook source, JsonGenerator generator, boolean includeNotes)
+            throws IOException {
+        writeStockBook(source, generator, includeNotes, NO_GENERATION);
+    }
+
+    /**
+     * Similar to {@link #writeStockBook(ReadOnlyStockBook, JsonGenerator, boolean)}, but also writes
+     * {@code generation} before the stocks unless it is {@code NO_GENERATION}.
+     * Readers that do not know about the generation skip it.
+     */
+    public static void writeStockBook(ReadOnlyStockBook source, JsonGenerator generator, boolean includeNotes,
+            long generation) throws IOException {
+        generator.writeStartObject();
+        if (generation != NO_GENERATION) {
+            generator.writeNumberField(GENERATION_FIELD, generation);
+        }
+        generator.writeArrayFieldStart(STOCKS_FIELD);
+        for (Stock stock : source.getStockList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedStock(stock, includeNotes));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Converts {@code JsonAdaptedStock}s into the model's {@code Stock} objects in chunks on the common fork-join
+     * pool while they are still being added, waiting for the oldest chunk whenever more than
+     * {@code MAX_PENDING_CHUNKS} chunks have yet to be collected.
+     */
+    private static class StockConverter {
+        private final Deque<CompletableFuture<ConvertedChunk>> pendingChunks = new ArrayDeque<>();
+        private final List<Stock> convertedStocks = new ArrayList<>();
+        private List<JsonAdaptedStock> nextChunk = new ArrayList<>(CONVERSION_CHUNK_SIZE);
+
+        void add(JsonAdaptedStock adaptedStock) throws IllegalValueException {
+            nextChunk.add(adaptedStock);
+            if (nextChunk.size() == CONVERSION_CHUNK_SIZE) {
+                submitNextChunk();
+            }
+        }
+
+        /**
+         * Returns all the converted stocks in the order they were added.
+         *
+         * @throws IllegalValueException if any stock is invalid, with the error of the first one.
+         */
+        List<Stock> finish() throws IllegalValueException {
+            if (!nextChunk.isEmpty()) {
+                submitNextChunk();
+            }
+            while (!pendingChunks.isEmpty()) {
+                collectOldestChunk();
+            }
+            return convertedStocks;
+        }
+
+        private void submitNextChunk() throws IllegalValueException {
+            List<JsonAdaptedStock> chunk = nextChunk;
+            nextChunk = new ArrayList<>(CONVERSION_CHUNK_SIZE);
+            pendingChunks.add(CompletableFuture.supplyAsync(() -> ConvertedChunk.convert(chunk)));
+            if (pendingChunks.size() > MAX_PENDING_CHUNKS) {
+                collectOldestChunk();
+            }
+        }
+
+        private void collectOldestChunk() throws IllegalValueException {
+            ConvertedChunk chunk = pendingChunks.remove().join();
+            if (chunk.error != null) {
+                throw chunk.error;
+            }
+            convertedStocks.addAll(chunk.stocks);
+        }
+    }
+
+    /**
+     * The stocks converted from a chunk of {@code JsonAdaptedStock}s, or the error of its first invalid stock.
+     */
+    private static class ConvertedChunk {
+        private final List<Stock> stocks;
+        private final IllegalValueException error;
+
+        private ConvertedChunk(List<Stock> stocks, IllegalValueException error) {
+            this.stocks = stocks;
+            this.error = error;
+        }
+
+        static ConvertedChunk convert(List<JsonAdaptedStock> adaptedStocks) {
+            List<Stock> stocks = new ArrayList<>(adaptedStocks.size());
+            try {
+                for (JsonAdaptedStock adaptedStock : adaptedStocks) {
+                    stocks.add(adaptedStock.toModelType());
+                }
+            } catch (IllegalValueException e) {
+                return new ConvertedChunk(null, e);
+            }
+            return new ConvertedChunk(stocks, null);
+        }
+    }
 }
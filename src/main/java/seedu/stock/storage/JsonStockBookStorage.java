@@ -3,10 +3,14 @@ package seedu.stock.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.stock.commons.core.LogsCenter;
 import seedu.stock.commons.exceptions.DataConversionException;
 import seedu.stock.commons.exceptions.IllegalValueException;
@@ -16,15 +20,27 @@ import seedu.stock.model.ReadOnlyStockBook;
 
 /**
  * A class to access StockBook data stored as a json file on the hard disk.
+ * The file is read and written as a stream, one stock at a time, so that besides the stock book itself only a
+ * few chunks of stocks waiting to be converted are held in memory, and not the whole file content.
  */
 public class JsonStockBookStorage implements StockBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonStockBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonStockBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonStockBookStorage} that writes to {@code filePath} without indentation and line breaks
+     * if {@code isCompact} is true.
+     */
+    public JsonStockBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getStockBookFilePath() {
@@ -45,16 +61,19 @@ public class JsonStockBookStorage implements StockBookStorage {
     public Optional<ReadOnlyStockBook> readStockBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableStockBook> jsonStockBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableStockBook.class);
-        if (!jsonStockBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
-        try {
-            return Optional.of(jsonStockBook.get().toModelType());
+
+        try (JsonParser parser = JsonUtil.createFileParser(filePath)) {
+            return Optional.of(JsonSerializableStockBook.readStockBook(parser));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         }
     }
 
@@ -72,8 +91,11 @@ public class JsonStockBookStorage implements StockBookStorage {
         requireNonNull(stockBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableStockBook(stockBook), filePath);
+        FileUtil.writeAtomically(filePath, output -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(output, isCompact)) {
+                JsonSerializableStockBook.writeStockBook(stockBook, generator);
+            }
+        });
     }
 
 }
@@ -0,0 +1,287 @@
+package seedu.stock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.stock.commons.core.LogsCenter;
+import seedu.stock.commons.exceptions.DataConversionException;
+import seedu.stock.commons.util.FileUtil;
+
+/**
+ * A single file of records keyed by strings, changed by transactions that take effect either completely or not
+ * at all.
+ *
+ * The file starts with a magic number and a format version, followed by every transaction committed to it.
+ * A transaction is written as the length and checksum of its content, followed by the records it puts and the
+ * keys it deletes, and is flushed to the disk before the commit returns. Reading the file replays the
+ * transactions in order. A last transaction that was cut off, or that runs to the end of the file but does not
+ * match its checksum, is taken to be a commit interrupted by a crash: it is ignored, and the next commit
+ * overwrites it. A transaction that does not match its checksum anywhere else means that the file is corrupted.
+ * Once most of the records in the file have been replaced, the file can be rewritten with only the latest
+ * records.
+ */
+final class RecordFile {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final int MINIMUM_COMPACTION_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(RecordFile.class);
+    private static final byte[] MAGIC_NUMBER = {'S', 'T', 'K', 'R'};
+    private static final int HEADER_LENGTH = MAGIC_NUMBER.length + Integer.BYTES;
+    private static final int TRANSACTION_HEADER_LENGTH = 2 * Integer.BYTES;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private final Path filePath;
+    private final Set<String> keys = new HashSet<>();
+
+    // the length of the file up to the end of the last complete transaction, or -1 if the file has not been read
+    private long validLength = -1;
+    private int recordCount;
+
+    RecordFile(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the records in the file, in the order in which their keys were first put.
+     * A key that is deleted and put again is placed after the other keys.
+     *
+     * @throws DataConversionException if the file is not a record file, or a transaction in it that is followed
+     *     by more data is corrupted or cannot be read.
+     */
+    public Map<String, byte[]> read() throws DataConversionException, IOException {
+        Map<String, byte[]> records = new LinkedHashMap<>();
+        keys.clear();
+        recordCount = 0;
+        // nothing may be written to the file until it has been read without errors
+        validLength = -1;
+        if (!Files.exists(filePath)) {
+            validLength = 0;
+            return records;
+        }
+
+        long fileLength = Files.size(filePath);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (fileLength < HEADER_LENGTH) {
+                // the file was cut off while it was being created
+                validLength = 0;
+                return records;
+            }
+            readHeader(input);
+            long position = HEADER_LENGTH;
+            byte[] content = readTransaction(input, fileLength - position);
+            while (content != null) {
+                applyTransaction(content, records);
+                position += TRANSACTION_HEADER_LENGTH + content.length;
+                content = readTransaction(input, fileLength - position);
+            }
+            if (position < fileLength) {
+                logger.warning("Ignoring incomplete last transaction of " + filePath);
+            }
+            validLength = position;
+        }
+        return records;
+    }
+
+    /**
+     * Commits a transaction that puts every record in {@code changes} with a value, and deletes every key in
+     * {@code changes} with a null value.
+     */
+    public void commit(Map<String, byte[]> changes) throws DataConversionException, IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (validLength < 0) {
+            read();
+        }
+
+        ByteBuffer transaction = encodeTransaction(changes);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel file = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (validLength < HEADER_LENGTH) {
+                validLength = 0;
+                transaction = ByteBuffer.allocate(HEADER_LENGTH + transaction.remaining())
+                        .put(encodeHeader()).put(transaction);
+                transaction.flip();
+            }
+            file.truncate(validLength);
+            file.position(validLength);
+            while (transaction.hasRemaining()) {
+                file.write(transaction);
+            }
+            file.force(false);
+            validLength = file.position();
+        }
+
+        recordCount += changes.size();
+        changes.forEach((key, value) -> {
+            if (value == null) {
+                keys.remove(key);
+            } else {
+                keys.add(key);
+            }
+        });
+    }
+
+    /**
+     * Returns true if the file holds so many replaced records that it should be rewritten.
+     */
+    public boolean isCompactionDue() {
+        return recordCount >= Math.max(MINIMUM_COMPACTION_SIZE, 2 * keys.size());
+    }
+
+    /**
+     * Replaces the content of the file with {@code records} in a single transaction.
+     * The new file is written next to the old one and replaces it once it is completely on the disk.
+     */
+    public void rewrite(Map<String, byte[]> records) throws IOException {
+        requireNonNull(records);
+        logger.fine("Rewriting " + filePath);
+        ByteBuffer header = encodeHeader();
+        ByteBuffer transaction = encodeTransaction(records);
+        long length = header.remaining() + transaction.remaining();
+        FileUtil.writeAtomically(filePath, output -> {
+            output.write(header.array(), header.position(), header.remaining());
+            output.write(transaction.array(), transaction.position(), transaction.remaining());
+        });
+        validLength = length;
+        keys.clear();
+        keys.addAll(records.keySet());
+        recordCount = records.size();
+    }
+
+    private static ByteBuffer encodeHeader() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).put(MAGIC_NUMBER).putInt(FORMAT_VERSION);
+        header.flip();
+        return header;
+    }
+
+    private static void readHeader(DataInputStream input) throws DataConversionException, IOException {
+        byte[] magicNumber = new byte[MAGIC_NUMBER.length];
+        input.readFully(magicNumber);
+        if (!Arrays.equals(magicNumber, MAGIC_NUMBER)) {
+            throw new DataConversionException(new IllegalArgumentException("Not a record file"));
+        }
+        int version = input.readInt();
+        if (version > FORMAT_VERSION) {
+            throw new DataConversionException(new IllegalArgumentException("Unsupported record file version "
+                    + version));
+        }
+    }
+
+    private static ByteBuffer encodeTransaction(Map<String, byte[]> changes) throws IOException {
+        ByteArrayOutputStream contentBytes = new ByteArrayOutputStream();
+        DataOutputStream content = new DataOutputStream(contentBytes);
+        content.writeInt(changes.size());
+        for (Map.Entry<String, byte[]> change : changes.entrySet()) {
+            if (change.getValue() == null) {
+                content.writeByte(DELETE);
+                content.writeUTF(change.getKey());
+            } else {
+                content.writeByte(PUT);
+                content.writeUTF(change.getKey());
+                content.writeInt(change.getValue().length);
+                content.write(change.getValue());
+            }
+        }
+        content.flush();
+
+        byte[] contentArray = contentBytes.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(contentArray);
+        ByteBuffer transaction = ByteBuffer.allocate(TRANSACTION_HEADER_LENGTH + contentArray.length)
+                .putInt(contentArray.length)
+                .putInt((int) checksum.getValue())
+                .put(contentArray);
+        transaction.flip();
+        return transaction;
+    }
+
+    /**
+     * Returns the content of the next transaction, or null if the {@code remainingLength} bytes of the file hold
+     * no transaction, or only the remains of an interrupted commit.
+     *
+     * @throws DataConversionException if the transaction is corrupted but followed by more data.
+     */
+    private static byte[] readTransaction(DataInputStream input, long remainingLength)
+            throws DataConversionException, IOException {
+        if (remainingLength < TRANSACTION_HEADER_LENGTH) {
+            return null;
+        }
+        int length = input.readInt();
+        int expectedChecksum = input.readInt();
+        if (length < 0) {
+            throw new DataConversionException(new IllegalArgumentException("Negative transaction length"));
+        }
+        if (length > remainingLength - TRANSACTION_HEADER_LENGTH) {
+            return null;
+        }
+
+        byte[] content = new byte[length];
+        try {
+            input.readFully(content);
+        } catch (EOFException e) {
+            return null;
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(content);
+        if ((int) checksum.getValue() == expectedChecksum) {
+            return content;
+        }
+        if (length < remainingLength - TRANSACTION_HEADER_LENGTH) {
+            throw new DataConversionException(new IllegalArgumentException("Corrupted transaction"));
+        }
+        return null;
+    }
+
+    private void applyTransaction(byte[] content, Map<String, byte[]> records) throws DataConversionException {
+        try {
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(content));
+            int changeCount = input.readInt();
+            for (int i = 0; i < changeCount; i++) {
+                byte type = input.readByte();
+                String key = input.readUTF();
+                if (type == PUT) {
+                    byte[] value = new byte[input.readInt()];
+                    input.readFully(value);
+                    records.put(key, value);
+                    keys.add(key);
+                } else if (type == DELETE) {
+                    records.remove(key);
+                    keys.remove(key);
+                } else {
+                    throw new IllegalArgumentException("Unknown record type " + type);
+                }
+                recordCount++;
+            }
+        } catch (IOException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw new DataConversionException(e);
+        }
+    }
+}
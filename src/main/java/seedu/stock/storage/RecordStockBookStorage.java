@@ -0,0 +1,342 @@
+package seedu.stock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.stock.commons.core.LogsCenter;
+import seedu.stock.commons.exceptions.DataConversionException;
+import seedu.stock.commons.exceptions.IllegalValueException;
+import seedu.stock.commons.util.JsonUtil;
+import seedu.stock.model.ReadOnlySerialNumberSetsBook;
+import seedu.stock.model.ReadOnlyStockBook;
+import seedu.stock.model.SerialNumberSetsBook;
+import seedu.stock.model.StockBook;
+import seedu.stock.model.stock.SerialNumber;
+import seedu.stock.model.stock.SerialNumberSet;
+import seedu.stock.model.stock.Source;
+import seedu.stock.model.stock.Stock;
+
+/**
+ * A class to access both the StockBook and the SerialNumberSetsBook data stored together in a single
+ * {@link RecordFile}, with one record per stock keyed by its serial number and one record per serial number set
+ * keyed by its source.
+ *
+ * Saving compares the books with the ones last saved and commits only the records of the stocks and serial number
+ * sets that were added, updated or deleted, so that the cost of a save does not grow with the size of the stock
+ * book. Changes to both books saved through {@link #saveBooks(ReadOnlyStockBook, ReadOnlySerialNumberSetsBook)}
+ * are committed in the same transaction, so a crash never leaves stocks saved without the serial number counters
+ * that generated their serial numbers. The record file is rewritten when stocks are reordered, and once most of
+ * its records have been replaced.
+ */
+public class RecordStockBookStorage implements BooksStorage {
+
+    public static final String FILE_EXTENSION = ".db";
+
+    private static final Logger logger = LogsCenter.getLogger(RecordStockBookStorage.class);
+    private static final String STOCK_KEY_PREFIX = "stock:";
+    private static final String SERIAL_NUMBER_SET_KEY_PREFIX = "serialNumberSet:";
+
+    private final Path filePath;
+    private final RecordFile recordFile;
+
+    // the stocks and serial number sets as last saved to or read from the record file, or null if they are not known
+    private Map<SerialNumber, Stock> savedStocks;
+    private Map<Source, SerialNumberSet> savedSerialNumberSets;
+
+    public RecordStockBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.recordFile = new RecordFile(filePath);
+    }
+
+    /**
+     * Returns true if {@code filePath} names a record file.
+     */
+    public static boolean isRecordFilePath(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getStockBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Path getSerialNumberSetsBookFilePath() {
+        return filePath;
+    }
+
+    //// stock book
+
+    @Override
+    public Optional<ReadOnlyStockBook> readStockBook() throws DataConversionException, IOException {
+        return readStockBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readStockBook()}.
+     *
+     * @param filePath location of the record file. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyStockBook> readStockBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new RecordStockBookStorage(filePath).readStockBook();
+        }
+        if (!Files.exists(filePath)) {
+            logger.info("Record file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        StockBook stockBook = decodeStockBook(recordFile.read());
+        savedStocks = StockChanges.toStockMap(stockBook.getStockList());
+        return Optional.of(stockBook);
+    }
+
+    @Override
+    public void saveStockBook(ReadOnlyStockBook stockBook) throws IOException {
+        saveStockBook(stockBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveStockBook(ReadOnlyStockBook)}.
+     * Saving to any other file path saves to the record file at that path.
+     *
+     * @param filePath location of the record file. Cannot be null.
+     */
+    @Override
+    public void saveStockBook(ReadOnlyStockBook stockBook, Path filePath) throws IOException {
+        requireNonNull(stockBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new RecordStockBookStorage(filePath).saveStockBook(stockBook);
+            return;
+        }
+        saveBooks(stockBook, null);
+    }
+
+    //// serial number sets book
+
+    @Override
+    public Optional<ReadOnlySerialNumberSetsBook> readSerialNumberSetsBook()
+            throws DataConversionException, IOException {
+        return readSerialNumberSetsBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSerialNumberSetsBook()}.
+     *
+     * @param filePath location of the record file. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlySerialNumberSetsBook> readSerialNumberSetsBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new RecordStockBookStorage(filePath).readSerialNumberSetsBook();
+        }
+        if (!Files.exists(filePath)) {
+            logger.info("Record file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        SerialNumberSetsBook serialNumberSetsBook = decodeSerialNumberSetsBook(recordFile.read());
+        savedSerialNumberSets = toSerialNumberSetMap(serialNumberSetsBook.getSerialNumberSetsList());
+        return Optional.of(serialNumberSetsBook);
+    }
+
+    @Override
+    public void saveSerialNumberSetsBook(ReadOnlySerialNumberSetsBook serialNumberSetsBook) throws IOException {
+        saveSerialNumberSetsBook(serialNumberSetsBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSerialNumberSetsBook(ReadOnlySerialNumberSetsBook)}.
+     * Saving to any other file path saves to the record file at that path.
+     *
+     * @param filePath location of the record file. Cannot be null.
+     */
+    @Override
+    public void saveSerialNumberSetsBook(ReadOnlySerialNumberSetsBook serialNumberSetsBook, Path filePath)
+            throws IOException {
+        requireNonNull(serialNumberSetsBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new RecordStockBookStorage(filePath).saveSerialNumberSetsBook(serialNumberSetsBook);
+            return;
+        }
+        saveBooks(null, serialNumberSetsBook);
+    }
+
+    //// both books
+
+    /**
+     * Saves the changes to {@code stockBook} and {@code serialNumberSetsBook} in a single transaction.
+     * Either book may be null if it has not changed since it was last saved.
+     */
+    @Override
+    public synchronized void saveBooks(ReadOnlyStockBook stockBook, ReadOnlySerialNumberSetsBook serialNumberSetsBook)
+            throws IOException {
+        try {
+            loadUnknownBooks();
+            Map<String, byte[]> changes = new LinkedHashMap<>();
+            boolean isRewriteNeeded = false;
+            if (stockBook != null) {
+                Optional<StockChanges> stockChanges = StockChanges.find(savedStocks, stockBook.getStockList());
+                isRewriteNeeded = !stockChanges.isPresent();
+                stockChanges.ifPresent(presentChanges -> addStockChanges(presentChanges, changes));
+            }
+            if (serialNumberSetsBook != null) {
+                addSerialNumberSetChanges(serialNumberSetsBook.getSerialNumberSetsList(), changes);
+            }
+
+            if (!isRewriteNeeded) {
+                recordFile.commit(changes);
+            }
+            if (stockBook != null) {
+                savedStocks = StockChanges.toStockMap(stockBook.getStockList());
+            }
+            if (serialNumberSetsBook != null) {
+                savedSerialNumberSets = toSerialNumberSetMap(serialNumberSetsBook.getSerialNumberSetsList());
+            }
+            if (isRewriteNeeded || recordFile.isCompactionDue()) {
+                recordFile.rewrite(encodeSavedBooks());
+            }
+        } catch (DataConversionException e) {
+            throw new IOException("Unable to save to the invalid record file " + filePath, e);
+        } catch (IOException e) {
+            // the books may have been partly saved, so they are read again before the next save
+            savedStocks = null;
+            savedSerialNumberSets = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Reads from the record file the books whose saved content is not known.
+     */
+    private void loadUnknownBooks() throws DataConversionException, IOException {
+        if (savedStocks != null && savedSerialNumberSets != null) {
+            return;
+        }
+        Map<String, byte[]> records = recordFile.read();
+        if (savedStocks == null) {
+            savedStocks = StockChanges.toStockMap(decodeStockBook(records).getStockList());
+        }
+        if (savedSerialNumberSets == null) {
+            savedSerialNumberSets = toSerialNumberSetMap(
+                    decodeSerialNumberSetsBook(records).getSerialNumberSetsList());
+        }
+    }
+
+    private void addStockChanges(StockChanges stockChanges, Map<String, byte[]> changes) {
+        for (SerialNumber serialNumber : stockChanges.getDeletedSerialNumbers()) {
+            changes.put(getStockKey(serialNumber), null);
+        }
+        for (Stock stock : stockChanges.getPutStocks()) {
+            changes.put(getStockKey(stock.getSerialNumber()), encode(new JsonAdaptedStock(stock)));
+        }
+    }
+
+    private void addSerialNumberSetChanges(List<SerialNumberSet> serialNumberSets, Map<String, byte[]> changes) {
+        Map<Source, SerialNumberSet> currentSerialNumberSets = toSerialNumberSetMap(serialNumberSets);
+        for (Source source : savedSerialNumberSets.keySet()) {
+            if (!currentSerialNumberSets.containsKey(source)) {
+                changes.put(getSerialNumberSetKey(source), null);
+            }
+        }
+        for (SerialNumberSet serialNumberSet : serialNumberSets) {
+            if (!serialNumberSet.equals(savedSerialNumberSets.get(serialNumberSet.getSource()))) {
+                changes.put(getSerialNumberSetKey(serialNumberSet.getSource()),
+                        encode(new JsonAdaptedSerialNumberSet(serialNumberSet)));
+            }
+        }
+    }
+
+    private Map<String, byte[]> encodeSavedBooks() {
+        Map<String, byte[]> records = new LinkedHashMap<>();
+        savedStocks.values().forEach(stock ->
+                records.put(getStockKey(stock.getSerialNumber()), encode(new JsonAdaptedStock(stock))));
+        savedSerialNumberSets.values().forEach(serialNumberSet ->
+                records.put(getSerialNumberSetKey(serialNumberSet.getSource()),
+                        encode(new JsonAdaptedSerialNumberSet(serialNumberSet))));
+        return records;
+    }
+
+    //// encoding
+
+    private static String getStockKey(SerialNumber serialNumber) {
+        return STOCK_KEY_PREFIX + serialNumber.getSerialNumberAsString();
+    }
+
+    private static String getSerialNumberSetKey(Source source) {
+        return SERIAL_NUMBER_SET_KEY_PREFIX + source.value;
+    }
+
+    private static byte[] encode(Object record) {
+        try {
+            return JsonUtil.toCompactJsonString(record).getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new AssertionError("Records should always be convertible to json", e);
+        }
+    }
+
+    private static StockBook decodeStockBook(Map<String, byte[]> records) throws DataConversionException {
+        try {
+            List<JsonAdaptedStock> adaptedStocks = new ArrayList<>();
+            for (Map.Entry<String, byte[]> record : records.entrySet()) {
+                if (record.getKey().startsWith(STOCK_KEY_PREFIX)) {
+                    adaptedStocks.add(JsonUtil.fromJsonString(new String(record.getValue(), StandardCharsets.UTF_8),
+                            JsonAdaptedStock.class));
+                }
+            }
+            return JsonSerializableStockBook.toStockBook(adaptedStocks);
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static SerialNumberSetsBook decodeSerialNumberSetsBook(Map<String, byte[]> records)
+            throws DataConversionException {
+        try {
+            SerialNumberSetsBook serialNumberSetsBook = new SerialNumberSetsBook();
+            for (Map.Entry<String, byte[]> record : records.entrySet()) {
+                if (!record.getKey().startsWith(SERIAL_NUMBER_SET_KEY_PREFIX)) {
+                    continue;
+                }
+                SerialNumberSet serialNumberSet = JsonUtil.fromJsonString(
+                        new String(record.getValue(), StandardCharsets.UTF_8), JsonAdaptedSerialNumberSet.class)
+                        .toModelType();
+                if (serialNumberSetsBook.hasSerialNumberSet(serialNumberSet)) {
+                    throw new IllegalValueException(
+                            JsonSerializableSerialNumberSetsBook.MESSAGE_DUPLICATE_SERIAL_NUMBER_SET);
+                }
+                serialNumberSetsBook.addSerialNumberSet(serialNumberSet);
+            }
+            return serialNumberSetsBook;
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static Map<Source, SerialNumberSet> toSerialNumberSetMap(List<SerialNumberSet> serialNumberSets) {
+        Map<Source, SerialNumberSet> serialNumberSetMap = new LinkedHashMap<>();
+        serialNumberSets.forEach(serialNumberSet -> serialNumberSetMap.put(serialNumberSet.getSource(),
+                serialNumberSet));
+        return serialNumberSetMap;
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.stock.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.stock.model.stock.SerialNumber;
+import seedu.stock.model.stock.Stock;
+
+/**
+ * The stocks deleted and put since a stock book was last saved, for storages that save only the changed stocks.
+ * Putting a stock replaces the saved stock with the same serial number in its place, or adds it to the end of the
+ * stock book if there is none.
+ */
+final class StockChanges {
+
+    private final List<SerialNumber> deletedSerialNumbers;
+    private final List<Stock> putStocks;
+
+    private StockChanges(List<SerialNumber> deletedSerialNumbers, List<Stock> putStocks) {
+        this.deletedSerialNumbers = deletedSerialNumbers;
+        this.putStocks = putStocks;
+    }
+
+    /**
+     * Returns the changes that turn {@code savedStocks} into {@code stocks}, or an empty {@code Optional} if the
+     * order of {@code stocks} cannot be reproduced by the changes, such as when existing stocks have been
+     * reordered.
+     *
+     * @param savedStocks the stocks as last saved, keyed by serial number in stock book order.
+     */
+    public static Optional<StockChanges> find(Map<SerialNumber, Stock> savedStocks, List<Stock> stocks) {
+        Map<SerialNumber, Stock> currentStocks = toStockMap(stocks);
+        List<SerialNumber> deletedSerialNumbers = new ArrayList<>();
+        for (SerialNumber serialNumber : savedStocks.keySet()) {
+            if (!currentStocks.containsKey(serialNumber)) {
+                deletedSerialNumbers.add(serialNumber);
+            }
+        }
+
+        // put stocks keep the position of existing stocks and add new stocks to the end
+        List<Stock> putStocks = new ArrayList<>();
+        Iterator<SerialNumber> savedOrder = savedStocks.keySet().iterator();
+        boolean hasNewStock = false;
+        for (Stock stock : stocks) {
+            Stock savedStock = savedStocks.get(stock.getSerialNumber());
+            if (savedStock == null) {
+                hasNewStock = true;
+                putStocks.add(stock);
+                continue;
+            }
+            if (hasNewStock || !advanceTo(savedOrder, stock.getSerialNumber(), currentStocks)) {
+                return Optional.empty();
+            }
+            // stocks are immutable, so an unchanged stock is the very same object
+            if (savedStock != stock) {
+                putStocks.add(stock);
+            }
+        }
+        return Optional.of(new StockChanges(deletedSerialNumbers, putStocks));
+    }
+
+    /**
+     * Returns {@code stocks} keyed by serial number in the same order.
+     */
+    public static Map<SerialNumber, Stock> toStockMap(List<Stock> stocks) {
+        Map<SerialNumber, Stock> stockMap = new LinkedHashMap<>();
+        stocks.forEach(stock -> stockMap.put(stock.getSerialNumber(), stock));
+        return stockMap;
+    }
+
+    /**
+     * Advances {@code savedOrder} past {@code serialNumber}, skipping only the serial numbers of deleted stocks.
+     * Returns false if any stock still in {@code currentStocks} had to be skipped.
+     */
+    private static boolean advanceTo(Iterator<SerialNumber> savedOrder, SerialNumber serialNumber,
+                                     Map<SerialNumber, Stock> currentStocks) {
+        while (savedOrder.hasNext()) {
+            SerialNumber next = savedOrder.next();
+            if (next.equals(serialNumber)) {
+                return true;
+            }
+            if (currentStocks.containsKey(next)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    public List<SerialNumber> getDeletedSerialNumbers() {
+        return Collections.unmodifiableList(deletedSerialNumbers);
+    }
+
+    public List<Stock> getPutStocks() {
+        return Collections.unmodifiableList(putStocks);
+    }
+
+    /**
+     * Returns the number of stocks deleted and put.
+     */
+    public int size() {
+        return deletedSerialNumbers.size() + putStocks.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -13,7 +13,7 @@ import seedu.stock.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends StockBookStorage, UserPrefsStorage, SerialNumberSetsBookStorage {
+public interface Storage extends BooksStorage, UserPrefsStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -32,4 +32,7 @@ public interface Storage extends StockBookStorage, UserPrefsStorage, SerialNumbe
 
     @Override
     Optional<ReadOnlySerialNumberSetsBook> readSerialNumberSetsBook() throws DataConversionException, IOException;
+
+    @Override
+    void saveBooks(ReadOnlyStockBook stockBook, ReadOnlySerialNumberSetsBook serialNumberSetsBook) throws IOException;
 }
@@ -22,6 +22,7 @@ public class StorageManager implements Storage {
     private StockBookStorage stockBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private SerialNumberSetsBookStorage serialNumberSetsBookStorage;
+    private BooksStorage booksStorage; // null if the books are kept in separate storages
 
     /**
      * Creates a {@code StorageManager} with the given {@code StockBookStorage} and {@code UserPrefStorage}.
@@ -34,6 +35,15 @@ public class StorageManager implements Storage {
         this.serialNumberSetsBookStorage = serialNumberSetsBook;
     }
 
+    /**
+     * Creates a {@code StorageManager} that keeps both books in the given {@code BooksStorage}, so that changes to
+     * both books are saved together.
+     */
+    public StorageManager(BooksStorage booksStorage, UserPrefsStorage userPrefsStorage) {
+        this(booksStorage, userPrefsStorage, booksStorage);
+        this.booksStorage = booksStorage;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -121,4 +131,23 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         serialNumberSetsBookStorage.saveSerialNumberSetsBook(serialNumberSetsBook, filePath);
     }
+
+    // ================ Combined methods ==============================
+
+    @Override
+    public void saveBooks(ReadOnlyStockBook stockBook, ReadOnlySerialNumberSetsBook serialNumberSetsBook)
+            throws IOException {
+        if (booksStorage != null) {
+            logger.fine("Attempting to write to data file: " + booksStorage.getStockBookFilePath());
+            booksStorage.saveBooks(stockBook, serialNumberSetsBook);
+            return;
+        }
+
+        if (stockBook != null) {
+            saveStockBook(stockBook);
+        }
+        if (serialNumberSetsBook != null) {
+            saveSerialNumberSetsBook(serialNumberSetsBook);
+        }
+    }
 }
@@ -0,0 +1,159 @@
+package seedu.stock.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.stock.commons.core.LogsCenter;
+import seedu.stock.commons.util.StringUtil;
+import seedu.stock.model.ReadOnlySerialNumberSetsBook;
+import seedu.stock.model.ReadOnlyStockBook;
+
+/**
+ * Saves the stock book and the serial number sets book to {@code Storage} on a background thread.
+ * Saves requested while an earlier save is waiting to run are coalesced, so that only the latest data is written.
+ * The data given to be saved must not change afterwards, which is why snapshots of the books should be given.
+ * A failed save is remembered and reported by the next call to {@link #checkFailure()}, and its data is kept
+ * until it is saved again, either together with the next requested save or when the saver is flushed.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final ExecutorService executor;
+
+    // guarded by this
+    private ReadOnlyStockBook pendingStockBook;
+    private ReadOnlySerialNumberSetsBook pendingSerialNumberSetsBook;
+    private boolean isSaveScheduled;
+    private IOException failure;
+
+    /**
+     * Creates a {@code WriteBehindSaver} that saves to {@code storage}.
+     */
+    public WriteBehindSaver(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "StockBook-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests the given data to be saved in the background, together with any data whose save has failed.
+     * Either argument may be null if that data has not changed since it was last saved.
+     */
+    public synchronized void requestSave(ReadOnlyStockBook stockBook,
+                                         ReadOnlySerialNumberSetsBook serialNumberSetsBook) {
+        if (stockBook != null) {
+            pendingStockBook = stockBook;
+        }
+        if (serialNumberSetsBook != null) {
+            pendingSerialNumberSetsBook = serialNumberSetsBook;
+        }
+        if (!isSaveScheduled && (pendingStockBook != null || pendingSerialNumberSetsBook != null)) {
+            isSaveScheduled = true;
+            executor.execute(this::savePending);
+        }
+    }
+
+    /**
+     * Throws the exception of the last failed save, if any save has failed since this method was last called.
+     */
+    public synchronized void checkFailure() throws IOException {
+        IOException lastFailure = failure;
+        failure = null;
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Waits for every requested save to complete, and saves again any data whose save has failed.
+     *
+     * @throws IOException if some data could still not be saved.
+     */
+    public void flush() throws IOException {
+        awaitScheduledSaves();
+        requestSave(null, null);
+        awaitScheduledSaves();
+
+        synchronized (this) {
+            if (pendingStockBook == null && pendingSerialNumberSetsBook == null) {
+                return;
+            }
+            IOException lastFailure = failure != null ? failure : new IOException("Data could not be saved");
+            failure = null;
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Waits for the saves that have been scheduled so far to complete, without saving again any data whose save
+     * has failed.
+     */
+    public void awaitScheduledSaves() throws IOException {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new AssertionError("Waiting for saves should not fail", e);
+        }
+    }
+
+    /**
+     * Waits for every requested save to complete, saves again any data whose save has failed, and stops the
+     * background thread. No more saves can be requested afterwards.
+     *
+     * @throws IOException if some data could still not be saved.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void savePending() {
+        ReadOnlyStockBook stockBook;
+        ReadOnlySerialNumberSetsBook serialNumberSetsBook;
+        synchronized (this) {
+            stockBook = pendingStockBook;
+            serialNumberSetsBook = pendingSerialNumberSetsBook;
+            pendingStockBook = null;
+            pendingSerialNumberSetsBook = null;
+            isSaveScheduled = false;
+        }
+
+        try {
+            storage.saveBooks(stockBook, serialNumberSetsBook);
+            synchronized (this) {
+                // the data of any earlier failed save was saved together with this data
+                failure = null;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save data " + StringUtil.getDetails(e));
+            synchronized (this) {
+                failure = e;
+                // keep the unsaved data so that it is saved again with the next requested save or flush, unless
+                // newer data has been requested since
+                if (pendingStockBook == null) {
+                    pendingStockBook = stockBook;
+                }
+                if (pendingSerialNumberSetsBook == null) {
+                    pendingSerialNumberSetsBook = serialNumberSetsBook;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.stock.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the content of FXML files in memory once they have been read, so that UI parts built many times, such as
+ * the cards of a list, do not read their FXML file every time, and so that the FXML files can be read ahead on
+ * another thread while the application starts.
+ */
+final class FxmlCache {
+
+    private static final Map<String, byte[]> contents = new ConcurrentHashMap<>();
+
+    private FxmlCache() {}
+
+    /**
+     * Returns a stream of the content of the FXML file at {@code location}, reading the file only if it has not
+     * been read before.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    static InputStream open(URL location) throws IOException {
+        requireNonNull(location);
+        try {
+            return new ByteArrayInputStream(contents.computeIfAbsent(location.toExternalForm(), unused -> {
+                try (InputStream input = location.openStream()) {
+                    return input.readAllBytes();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads the FXML file at {@code location} into the cache if it has not been read before.
+     */
+    static void preload(URL location) throws IOException {
+        open(location).close();
+    }
+}
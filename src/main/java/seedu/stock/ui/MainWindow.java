@@ -3,10 +3,12 @@ package seedu.stock.ui;
 import static seedu.stock.logic.commands.statisticsutil.GenerateStatisticsData.generateSourceQuantityDistributionStatisticsData;
 import static seedu.stock.logic.commands.statisticsutil.GenerateStatisticsData.generateSourceStatisticsData;
 
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -18,6 +20,7 @@ import javafx.stage.Stage;
 import seedu.stock.commons.core.GuiSettings;
 import seedu.stock.commons.core.LogsCenter;
 import seedu.stock.logic.Logic;
+import seedu.stock.logic.commands.BackgroundTask;
 import seedu.stock.logic.commands.CommandResult;
 import seedu.stock.logic.commands.SourceQuantityDistributionStatisticsCommand;
 import seedu.stock.logic.commands.SourceStatisticsCommand;
@@ -35,6 +38,7 @@ import seedu.stock.model.stock.Stock;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String NOTES_UNREADABLE_MESSAGE = "(could not be read from the data file)";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -48,6 +52,9 @@ public class MainWindow extends UiPart<Stage> {
     private HelpWindow helpWindow;
     private StatisticsWindow statisticsWindow;
 
+    // the background task of the last command run, whose progress is shown until another command is run
+    private BackgroundTask taskShowingProgress;
+
     @FXML
     private Scene scene;
 
@@ -187,7 +194,13 @@ public class MainWindow extends UiPart<Stage> {
             String quantityString = "Quantity: " + "Quantity left: " + stockToView.getQuantity().quantity
                     + "\nLow Quantity: " + stockToView.getQuantity().lowQuantity;
             String location = "Location: " + stockToView.getLocation().value;
-            String notes = "Notes: " + stockToView.notesToString(stockToView.getNotes());
+            String notes;
+            try {
+                notes = "Notes: " + stockToView.notesToString(stockToView.getNotes());
+            } catch (UncheckedIOException e) {
+                logger.warning("Unable to read the notes of " + stockToView.getSerialNumber() + ": " + e);
+                notes = "Notes: " + NOTES_UNREADABLE_MESSAGE;
+            }
 
             ObservableList<String> fieldList = FXCollections.observableArrayList();
             fieldList.addAll(nameString, serialNumberString, sourceString, quantityString,
@@ -237,6 +250,19 @@ public class MainWindow extends UiPart<Stage> {
         return stockListPanel;
     }
 
+    /**
+     * Shows the progress reported by {@code task} in the result display, until another command is run.
+     */
+    private void showProgress(BackgroundTask task) {
+        taskShowingProgress = task;
+        task.setProgressListener(progress -> Platform.runLater(() -> {
+            // progress reported after another command has run would hide the feedback of that command
+            if (taskShowingProgress == task) {
+                resultDisplay.setFeedbackToUser(progress);
+            }
+        }));
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -245,10 +271,12 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException,
             SourceCompanyNotFoundException, SerialNumberNotFoundException {
+        taskShowingProgress = null;
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getBackgroundTask().ifPresent(this::showProgress);
             stockListPanel = new StockListPanel(logic.getFilteredStockList());
             stockListPanelPlaceholder.getChildren().add(stockListPanel.getRoot());
 
@@ -1,10 +1,20 @@
 package seedu.stock.ui;
 
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.stock.commons.core.LogsCenter;
+import seedu.stock.model.stock.Note;
 import seedu.stock.model.stock.Stock;
 
 /**
@@ -13,6 +23,16 @@ import seedu.stock.model.stock.Stock;
 public class StockCard extends UiPart<Region> {
 
     private static final String FXML = "StockListCard.fxml";
+    private static final String NOTES_UNREADABLE_MESSAGE = "Notes could not be read from the data file.";
+
+    private static final Logger logger = LogsCenter.getLogger(StockCard.class);
+
+    /** Reads notes that are not kept in memory, so that a slow read does not hold up other background work. */
+    private static final ExecutorService noteLoader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "StockBook-note-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -69,13 +89,22 @@ public class StockCard extends UiPart<Region> {
 
         bookmark.setVisible(stock.getIsBookmarked());
 
-        if (stock.getNotes().size() != 0) {
-            StringBuilder notesAppended = new StringBuilder();
-            for (int i = 0; i < stock.getNotes().size(); i++) {
-                notesAppended.append(i + 1).append(". ")
-                        .append(stock.getNotes().get(i)).append("\n");
+        if (stock.isNotesLoadedOnDemand()) {
+            // notes that are not kept in memory are read off the JavaFX application thread
+            CompletableFuture.supplyAsync(stock::getNotes, noteLoader)
+                    .whenComplete((stockNotes, error) -> Platform.runLater(() -> {
+                        if (error == null) {
+                            showNotes(stockNotes);
+                        } else {
+                            showNotesUnreadable(error);
+                        }
+                    }));
+        } else {
+            try {
+                showNotes(stock.getNotes());
+            } catch (UncheckedIOException e) {
+                showNotesUnreadable(e);
             }
-            notes.setText(notesAppended.toString());
         }
 
         // checks if the stock is low in quantity
@@ -133,4 +162,26 @@ public class StockCard extends UiPart<Region> {
 
         return upperCase + lowerCase;
     }
+
+    /**
+     * Shows {@code stockNotes} as a numbered list, if there are any.
+     */
+    private void showNotes(List<Note> stockNotes) {
+        if (stockNotes.size() != 0) {
+            StringBuilder notesAppended = new StringBuilder();
+            for (int i = 0; i < stockNotes.size(); i++) {
+                notesAppended.append(i + 1).append(". ")
+                        .append(stockNotes.get(i)).append("\n");
+            }
+            notes.setText(notesAppended.toString());
+        }
+    }
+
+    /**
+     * Logs why the notes of this card's stock could not be read and shows that on the card instead of the notes.
+     */
+    private void showNotesUnreadable(Throwable error) {
+        logger.warning("Unable to read the notes of " + stock.getSerialNumber() + ": " + error);
+        notes.setText(NOTES_UNREADABLE_MESSAGE);
+    }
 }
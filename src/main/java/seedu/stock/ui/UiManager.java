@@ -1,5 +1,7 @@
 package seedu.stock.ui;
 
+import java.io.IOException;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -21,6 +23,9 @@ public class UiManager implements Ui {
 
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/Warenager-Icon.png";
+    private static final List<String> FXML_FILES = List.of("MainWindow.fxml", "CommandBox.fxml",
+            "ResultDisplay.fxml", "StockListPanel.fxml", "StockListCard.fxml", "StatusBarFooter.fxml",
+            "StatisticsWindow.fxml", "HelpWindow.fxml", "StockViewWindow.fxml", "StockViewCard.fxml");
 
     private Logic logic;
     private MainWindow mainWindow;
@@ -33,6 +38,21 @@ public class UiManager implements Ui {
         this.logic = logic;
     }
 
+    /**
+     * Reads the FXML files of the UI into memory, so that the UI can be built without reading them later.
+     * This can be called on any thread, before the UI is started.
+     */
+    public static void preloadFxmlFiles() {
+        for (String fxmlFile : FXML_FILES) {
+            try {
+                FxmlCache.preload(UiPart.getFxmlFileUrl(fxmlFile));
+            } catch (IOException e) {
+                // the error is reported when the UI part is built
+                logger.warning("Unable to preload " + fxmlFile + ": " + e);
+            }
+        }
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
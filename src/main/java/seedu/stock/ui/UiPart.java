@@ -3,6 +3,7 @@ package seedu.stock.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
@@ -68,8 +69,8 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
+        try (InputStream fxmlInput = FxmlCache.open(location)) {
+            fxmlLoader.load(fxmlInput);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
@@ -78,7 +79,7 @@ public abstract class UiPart<T> {
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
-    private static URL getFxmlFileUrl(String fxmlFileName) {
+    static URL getFxmlFileUrl(String fxmlFileName) {
         requireNonNull(fxmlFileName);
         String fxmlFileNameWithFolder = FXML_FILE_FOLDER + fxmlFileName;
         URL fxmlFileUrl = MainApp.class.getResource(fxmlFileNameWithFolder);
@@ -0,0 +1,41 @@
+package seedu.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimerTest {
+
+    @Test
+    public void time_stagesRecordedInBreakdown() {
+        StartupTimer timer = new StartupTimer();
+        assertEquals("config", timer.time("config", () -> "config"));
+        CompletableFuture<String> stockBookRead = timer.timeAsync("stock book", () -> "stock book", Runnable::run);
+        assertEquals("stock book", stockBookRead.join());
+
+        String breakdown = timer.getBreakdown();
+        assertTrue(breakdown.startsWith("config "), breakdown);
+        assertTrue(breakdown.contains(", stock book "), breakdown);
+        assertTrue(breakdown.contains(" ms, total "), breakdown);
+    }
+
+    @Test
+    public void timeAsync_stageThrows_futureCompletesWithException() {
+        StartupTimer timer = new StartupTimer();
+        IOException exception = new IOException("unreadable");
+        CompletableFuture<String> read = timer.timeAsync("stock book", () -> {
+            throw exception;
+        }, Runnable::run);
+
+        CompletionException thrown = assertThrows(CompletionException.class, read::join);
+        assertSame(exception, thrown.getCause());
+        assertTrue(timer.getBreakdown().startsWith("stock book "));
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.stock.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree(SuggestionUtil::minimumEditDistance);
+
+    @Test
+    public void add_duplicateValue_notAddedAgain() {
+        assertTrue(tree.add("ntuc1"));
+        assertTrue(tree.add("ntuc2"));
+        assertFalse(tree.add("ntuc1"));
+        assertEquals(2, tree.size());
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+    }
+
+    @Test
+    public void findClosest_emptyTree_emptyResult() {
+        assertEquals(Optional.empty(), tree.findClosest("ntuc1", Integer.MAX_VALUE, unused -> true));
+    }
+
+    @Test
+    public void findClosest_withinMaxDistance_closestValueFound() {
+        List.of("list", "find", "findexact", "delete", "update").forEach(tree::add);
+        assertEquals(Optional.of("findexact"), tree.findClosest("findexcat", 6, unused -> true));
+        assertEquals(Optional.of("update"), tree.findClosest("updt", Integer.MAX_VALUE, unused -> true));
+        assertEquals(Optional.empty(), tree.findClosest("updt", 3, unused -> true));
+    }
+
+    @Test
+    public void findClosest_excludedValue_nextClosestFound() {
+        List.of("ntuc1", "ntuc12", "giant1").forEach(tree::add);
+        assertEquals(Optional.of("ntuc12"), tree.findClosest("ntuc1", 6, value -> !value.equals("ntuc1")));
+    }
+
+    @Test
+    public void findClosest_equallyClose_firstAddedFound() {
+        List.of("add", "tab", "bad").forEach(tree::add);
+        // "ad" is one removal from both "add" and "bad"
+        assertEquals(Optional.of("add"), tree.findClosest("ad", Integer.MAX_VALUE, unused -> true));
+    }
+
+    @Test
+    public void findClosest_randomValues_sameAsLinearSearch() {
+        Random random = new Random(2103);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String value = randomString(random);
+            if (tree.add(value)) {
+                values.add(value);
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String query = randomString(random);
+            String closest = null;
+            int closestDistance = 9;
+            for (String value : values) {
+                int distance = SuggestionUtil.minimumEditDistance(query, value);
+                if (distance < closestDistance || closest == null && distance == closestDistance) {
+                    closest = value;
+                    closestDistance = distance;
+                }
+            }
+            assertEquals(Optional.ofNullable(closest), tree.findClosest(query, 9, unused -> true));
+        }
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder value = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            value.append((char) ('a' + random.nextInt(4)));
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.stock.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void isQuotingNeeded() {
+        // plain fields -> returns false
+        assertFalse(CsvWriter.isQuotingNeeded(""));
+        assertFalse(CsvWriter.isQuotingNeeded("Apple juice"));
+
+        // separators, quotes, line breaks and surrounding spaces -> returns true
+        assertTrue(CsvWriter.isQuotingNeeded("Apples, green"));
+        assertTrue(CsvWriter.isQuotingNeeded("5\" pipe"));
+        assertTrue(CsvWriter.isQuotingNeeded("1. fragile\n2. keep cold"));
+        assertTrue(CsvWriter.isQuotingNeeded("line\r"));
+        assertTrue(CsvWriter.isQuotingNeeded(" padded"));
+    }
+
+    @Test
+    public void writeRow_specialCharacters_escaped() throws Exception {
+        StringWriter output = new StringWriter();
+        try (CsvWriter writer = new CsvWriter(output)) {
+            writer.writeRow("ntuc1", "Apples, green", "say \"hi\"", "");
+            writer.writeField("1. fragile\n2. keep cold").endRow();
+        }
+        assertEquals("ntuc1,\"Apples, green\",\"say \"\"hi\"\"\"," + CsvWriter.LINE_SEPARATOR
+                + "\"1. fragile\n2. keep cold\"" + CsvWriter.LINE_SEPARATOR, output.toString());
+    }
+}
@@ -1,13 +1,22 @@
 package seedu.stock.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.stock.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,29 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_replacedWithoutTemporaryFile() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeAtomically(file, output -> {
+            output.write("new".getBytes());
+            output.close();
+        });
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("data.json" + FileUtil.TEMPORARY_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_writeFails_oldContentKept() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, output -> {
+            output.write("partial".getBytes());
+            throw new IOException("disk full");
+        }));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(file.resolveSibling("data.json" + FileUtil.TEMPORARY_FILE_SUFFIX)));
+    }
 }
@@ -2,6 +2,8 @@ package seedu.stock.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.testutil.TypicalSerialNumberSets.getTypicalSerialNumberSetsBook;
+import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -9,6 +11,9 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.stock.model.Model;
+import seedu.stock.model.ModelManager;
+import seedu.stock.model.UserPrefs;
 import seedu.stock.model.stock.Stock;
 import seedu.stock.model.stock.predicates.FieldContainsKeywordsPredicate;
 import seedu.stock.model.stock.predicates.LocationContainsKeywordsPredicate;
@@ -18,8 +23,11 @@ import seedu.stock.testutil.TypicalStocks;
 
 public class FindUtilTest {
 
+    private final Model model = new ModelManager(getTypicalStockBook(), new UserPrefs(),
+            getTypicalSerialNumberSetsBook());
+
     @Test
-    public void getCombinedPredicatesWithOr() {
+    public void getIndexedPredicateWithOr() {
 
         // positive test case
         Stock stockToTest = new StockBuilder(TypicalStocks.APPLE).build();
@@ -28,19 +36,19 @@ public class FindUtilTest {
                 Arrays.asList(new NameContainsKeywordsPredicate(Collections.singletonList("apple")),
                         new LocationContainsKeywordsPredicate(Collections.singletonList("location")));
 
-        assertTrue(FindUtil.getCombinedPredicatesWithOr(predicates).test(stockToTest));
+        assertTrue(FindUtil.getIndexedPredicateWithOr(model, predicates).test(stockToTest));
 
         // negative test case
         List<FieldContainsKeywordsPredicate> predicatesTwo =
                 Arrays.asList(new NameContainsKeywordsPredicate(Arrays.asList("apple", "two")),
                         new LocationContainsKeywordsPredicate(Collections.singletonList("location")));
 
-        assertFalse(FindUtil.getCombinedPredicatesWithOr(predicatesTwo).test(stockToTest));
+        assertFalse(FindUtil.getIndexedPredicateWithOr(model, predicatesTwo).test(stockToTest));
 
     }
 
     @Test
-    public void getCombinedPredicatesWithAnd() {
+    public void getIndexedPredicateWithAnd() {
 
         // positive test case
         Stock stockToTest = new StockBuilder(TypicalStocks.APPLE).build();
@@ -49,14 +57,17 @@ public class FindUtilTest {
                 Arrays.asList(new NameContainsKeywordsPredicate(Collections.singletonList("apple")),
                         new LocationContainsKeywordsPredicate(Collections.singletonList("fruit")));
 
-        assertTrue(FindUtil.getCombinedPredicatesWithAnd(predicates).test(stockToTest));
+        assertTrue(FindUtil.getIndexedPredicateWithAnd(model, predicates).test(stockToTest));
 
         // negative test case
         List<FieldContainsKeywordsPredicate> predicatesTwo =
                 Arrays.asList(new NameContainsKeywordsPredicate(Collections.singletonList("apple")),
                         new LocationContainsKeywordsPredicate(Collections.singletonList("location")));
 
-        assertFalse(FindUtil.getCombinedPredicatesWithAnd(predicatesTwo).test(stockToTest));
+        assertFalse(FindUtil.getIndexedPredicateWithAnd(model, predicatesTwo).test(stockToTest));
+
+        // no predicates, every stock matches
+        assertTrue(FindUtil.getIndexedPredicateWithAnd(model, Collections.emptyList()).test(stockToTest));
 
     }
 }
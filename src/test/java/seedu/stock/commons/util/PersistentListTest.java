@@ -0,0 +1,91 @@
+package seedu.stock.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void of_persistentList_returnsSameList() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertSame(list, PersistentList.of(list));
+    }
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(Collections.emptyList(), PersistentList.empty());
+    }
+
+    @Test
+    public void plusWithMinus_olderVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+        PersistentList<String> appended = original.plus("d");
+        PersistentList<String> replaced = appended.with(1, "x");
+        PersistentList<String> removed = replaced.minus(0);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), appended);
+        assertEquals(Arrays.asList("a", "x", "c", "d"), replaced);
+        assertEquals(Arrays.asList("x", "c", "d"), removed);
+    }
+
+    @Test
+    public void withMinus_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Collections.singletonList("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(1, "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().get(0));
+    }
+
+    @Test
+    public void listMethods_unsupported_throwsUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.of(Collections.singletonList("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                expected.add(i);
+                actual = actual.plus(i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.with(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected, new ArrayList<>(actual));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
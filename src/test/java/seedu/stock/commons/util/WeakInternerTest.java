@@ -0,0 +1,58 @@
+package seedu.stock.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.stock.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<String> interner = new WeakInterner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_firstInstanceReturned() {
+        String first = new String("ntuc");
+        String second = new String("ntuc");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertSame(first, interner.intern(first));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_eachInstanceKept() {
+        String first = new String("ntuc");
+        String second = new String("giant");
+
+        assertSame(first, interner.intern(first));
+        assertSame(second, interner.intern(second));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_equalValuesFromSeveralThreads_oneInstanceEach() {
+        List<String> canonicalValues = IntStream.range(0, 10000)
+                .parallel()
+                .mapToObj(i -> interner.intern(new String("source " + i % 100)))
+                .collect(Collectors.toList());
+
+        Set<String> distinctInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinctInstances.addAll(canonicalValues);
+        assertEquals(100, distinctInstances.size());
+        assertEquals(100, interner.size());
+    }
+}
@@ -1,43 +1,69 @@
 package seedu.stock.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.stock.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.stock.logic.commands.CommandTestUtil.LOCATION_DESC_APPLE;
+import static seedu.stock.logic.commands.CommandTestUtil.LOCATION_DESC_BANANA;
+import static seedu.stock.logic.commands.CommandTestUtil.NAME_DESC_APPLE;
+import static seedu.stock.logic.commands.CommandTestUtil.NAME_DESC_BANANA;
+import static seedu.stock.logic.commands.CommandTestUtil.QUANTITY_DESC_APPLE;
+import static seedu.stock.logic.commands.CommandTestUtil.QUANTITY_DESC_BANANA;
+import static seedu.stock.logic.commands.CommandTestUtil.SOURCE_DESC_APPLE;
+import static seedu.stock.logic.commands.CommandTestUtil.SOURCE_DESC_BANANA;
+import static seedu.stock.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.stock.logic.parser.CliSyntax.PREFIX_SERIAL_NUMBER;
 import static seedu.stock.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.stock.logic.commands.AddCommand;
 import seedu.stock.logic.commands.CommandResult;
+import seedu.stock.logic.commands.DeleteCommand;
 import seedu.stock.logic.commands.HelpCommand;
+import seedu.stock.logic.commands.NoteCommand;
+import seedu.stock.logic.commands.RunCommand;
 import seedu.stock.logic.commands.exceptions.CommandException;
 import seedu.stock.logic.commands.exceptions.SerialNumberNotFoundException;
 import seedu.stock.logic.commands.exceptions.SourceCompanyNotFoundException;
 import seedu.stock.logic.parser.exceptions.ParseException;
 import seedu.stock.model.Model;
 import seedu.stock.model.ModelManager;
+import seedu.stock.model.ReadOnlyStockBook;
 import seedu.stock.model.UserPrefs;
 import seedu.stock.storage.JsonSerialNumberSetsBookStorage;
 import seedu.stock.storage.JsonStockBookStorage;
 import seedu.stock.storage.JsonUserPrefsStorage;
 import seedu.stock.storage.StorageManager;
+import seedu.stock.storage.WriteBehindSaver;
+import seedu.stock.testutil.StockBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final String ADD_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_APPLE + SOURCE_DESC_APPLE
+            + QUANTITY_DESC_APPLE + LOCATION_DESC_APPLE;
+    private static final String OTHER_ADD_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_BANANA + SOURCE_DESC_BANANA
+            + QUANTITY_DESC_BANANA + LOCATION_DESC_BANANA;
 
     @TempDir
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
     private Logic logic;
+    private JsonStockBookStorage stockBookStorage;
 
     @BeforeEach
     public void setUp() {
-        JsonStockBookStorage stockBookStorage =
-                new JsonStockBookStorage(temporaryFolder.resolve("addressBook.json"));
+        stockBookStorage = new JsonStockBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         JsonSerialNumberSetsBookStorage serialNumberSetsBookStorage =
                 new JsonSerialNumberSetsBookStorage(temporaryFolder.resolve("serialNumber.json"));
@@ -59,11 +85,133 @@ public class LogicManagerTest {
     }
 
 
+    @Test
+    public void execute_readOnlyCommand_nothingSaved() throws Exception {
+        logic.execute(HelpCommand.COMMAND_WORD);
+        logic.shutdown();
+        assertFalse(Files.exists(stockBookStorage.getStockBookFilePath()));
+    }
+
+    @Test
+    public void execute_commandChangesStockBook_savedInBackground() throws Exception {
+        logic.execute(ADD_COMMAND);
+        logic.shutdown();
+        assertEquals(model.getStockBook(), stockBookStorage.readStockBook().get());
+    }
+
+    @Test
+    public void shutdown_storageThrowsIoException_throwsIoException() throws Exception {
+        logic = new LogicManager(model, createFailingStorage(Integer.MAX_VALUE));
+
+        // the data of the failed background save is saved again on shutdown, which fails too
+        logic.execute(ADD_COMMAND);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), logic::shutdown);
+    }
+
+    @Test
+    public void execute_previousSaveFailed_throwsCommandException() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(createFailingStorage(Integer.MAX_VALUE));
+        logic = new LogicManager(model, saver);
+
+        logic.execute(ADD_COMMAND);
+        saver.awaitScheduledSaves();
+        assertThrows(CommandException.class, LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, () ->
+                logic.execute(HelpCommand.COMMAND_WORD));
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), logic::shutdown);
+    }
+
+    @Test
+    public void shutdown_previousSaveFailed_savedAgain() throws Exception {
+        StorageManager storage = createFailingStorage(1);
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ADD_COMMAND);
+        logic.shutdown();
+        assertEquals(model.getStockBook(), storage.readStockBook().get());
+    }
+
+    @Test
+    public void execute_previousSaveFailed_savedAgainWithNextCommand() throws Exception {
+        StorageManager storage = createFailingStorage(1);
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+        logic = new LogicManager(model, saver);
+
+        logic.execute(ADD_COMMAND);
+        saver.awaitScheduledSaves();
+        assertThrows(CommandException.class, () -> logic.execute(HelpCommand.COMMAND_WORD));
+        saver.awaitScheduledSaves();
+        assertEquals(model.getStockBook(), storage.readStockBook().get());
+        logic.shutdown();
+    }
+
+    @Test
+    public void execute_script_allCommandsRunAndSavedTogether() throws Exception {
+        CommandResult result = logic.execute("run " + ADD_COMMAND + "; " + OTHER_ADD_COMMAND);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(2, model.getStockBook().getStockList().size());
+
+        logic.shutdown();
+        assertEquals(model.getStockBook(), stockBookStorage.readStockBook().get());
+    }
+
+    @Test
+    public void execute_scriptFile_allCommandsRun() throws Exception {
+        Path scriptFile = temporaryFolder.resolve("receiving.txt");
+        Files.write(scriptFile, List.of(ADD_COMMAND, "", OTHER_ADD_COMMAND));
+
+        CommandResult result = logic.execute("run f/" + scriptFile);
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(2, model.getStockBook().getStockList().size());
+    }
+
+    @Test
+    public void execute_scriptWithInvalidCommand_noCommandRun() {
+        assertThrows(ParseException.class, () -> logic.execute("run " + ADD_COMMAND + "; clea"));
+        assertTrue(model.getStockBook().getStockList().isEmpty());
+    }
+
+    @Test
+    public void execute_scriptWithFailingCommand_changesRolledBack() throws Exception {
+        Model expectedModel = new ModelManager(model.getStockBook(), new UserPrefs(), model.getSerialNumberSetsBook());
+        String failingCommand = DeleteCommand.COMMAND_WORD + " " + PREFIX_SERIAL_NUMBER + "unknown1";
+        assertThrows(CommandException.class, () -> logic.execute("run " + ADD_COMMAND + "; " + failingCommand));
+        assertEquals(expectedModel, model);
+
+        logic.shutdown();
+        assertTrue(stockBookStorage.readStockBook().map(stockBook -> stockBook.getStockList().isEmpty()).orElse(true));
+    }
+
+    @Test
+    public void execute_notesCannotBeRead_throwsCommandException() {
+        IOException readFailure = new IOException("dummy read exception");
+        model.addStock(new StockBuilder().build().withNotesLoadedBy(serialNumber -> {
+            throw new UncheckedIOException(readFailure);
+        }));
+
+        String noteCommand = NoteCommand.COMMAND_WORD + " " + PREFIX_SERIAL_NUMBER
+                + StockBuilder.DEFAULT_SERIALNUMBER + " " + PREFIX_NOTE + "fragile";
+        assertThrows(CommandException.class, LogicManager.FILE_READ_ERROR_MESSAGE + readFailure, () ->
+                logic.execute(noteCommand));
+    }
+
     @Test
     public void getFilteredStockList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredStockList().remove(0));
     }
 
+    /**
+     * Creates a storage whose stock book cannot be saved the first {@code failures} times.
+     */
+    private StorageManager createFailingStorage(int failures) {
+        JsonStockBookStorage stockBookStorage = new JsonStockBookIoExceptionThrowingStub(
+                temporaryFolder.resolve("ioExceptionStockBook.json"), failures);
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        JsonSerialNumberSetsBookStorage serialNumberSetsBookStorage =
+                new JsonSerialNumberSetsBookStorage(temporaryFolder.resolve("ioExceptionSerialNumber.json"));
+        return new StorageManager(stockBookStorage, userPrefsStorage, serialNumberSetsBookStorage);
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -101,4 +249,24 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub class to throw an {@code IOException} the first given number of times the save method is called.
+     */
+    private static class JsonStockBookIoExceptionThrowingStub extends JsonStockBookStorage {
+        private int remainingFailures;
+
+        private JsonStockBookIoExceptionThrowingStub(Path filePath, int failures) {
+            super(filePath);
+            this.remainingFailures = failures;
+        }
+
+        @Override
+        public void saveStockBook(ReadOnlyStockBook stockBook, Path filePath) throws IOException {
+            if (remainingFailures > 0) {
+                remainingFailures--;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveStockBook(stockBook, filePath);
+        }
+    }
 }
@@ -0,0 +1,256 @@
+package seedu.stock.logic;
+
+import static seedu.stock.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.stock.testutil.TypicalSerialNumberSets.getTypicalSerialNumberSetsBook;
+import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.stock.logic.commands.AddCommand;
+import seedu.stock.logic.commands.BookmarkCommand;
+import seedu.stock.logic.commands.ClearCommand;
+import seedu.stock.logic.commands.Command;
+import seedu.stock.logic.commands.DeleteCommand;
+import seedu.stock.logic.commands.ExitCommand;
+import seedu.stock.logic.commands.FindCommand;
+import seedu.stock.logic.commands.FindExactCommand;
+import seedu.stock.logic.commands.HelpCommand;
+import seedu.stock.logic.commands.ListCommand;
+import seedu.stock.logic.commands.NoteCommand;
+import seedu.stock.logic.commands.NoteDeleteCommand;
+import seedu.stock.logic.commands.PrintCommand;
+import seedu.stock.logic.commands.SortCommand;
+import seedu.stock.logic.commands.StatisticsCommand;
+import seedu.stock.logic.commands.StockViewCommand;
+import seedu.stock.logic.commands.TabCommand;
+import seedu.stock.logic.commands.UnbookmarkCommand;
+import seedu.stock.logic.commands.UpdateCommand;
+import seedu.stock.logic.parser.AddCommandParser;
+import seedu.stock.logic.parser.BookmarkCommandParser;
+import seedu.stock.logic.parser.ClearCommandParser;
+import seedu.stock.logic.parser.DeleteCommandParser;
+import seedu.stock.logic.parser.ExitCommandParser;
+import seedu.stock.logic.parser.FindCommandParser;
+import seedu.stock.logic.parser.FindExactCommandParser;
+import seedu.stock.logic.parser.HelpCommandParser;
+import seedu.stock.logic.parser.ListCommandParser;
+import seedu.stock.logic.parser.NoteCommandParser;
+import seedu.stock.logic.parser.NoteDeleteCommandParser;
+import seedu.stock.logic.parser.Parser;
+import seedu.stock.logic.parser.PrintCommandParser;
+import seedu.stock.logic.parser.SortCommandParser;
+import seedu.stock.logic.parser.StatisticsCommandParser;
+import seedu.stock.logic.parser.StockBookParser;
+import seedu.stock.logic.parser.StockViewCommandParser;
+import seedu.stock.logic.parser.SuggestionCommandParser;
+import seedu.stock.logic.parser.TabCommandParser;
+import seedu.stock.logic.parser.UnbookmarkCommandParser;
+import seedu.stock.logic.parser.UpdateCommandParser;
+import seedu.stock.logic.parser.exceptions.ParseException;
+import seedu.stock.model.ModelManager;
+import seedu.stock.model.UserPrefs;
+import seedu.stock.storage.JsonSerialNumberSetsBookStorage;
+import seedu.stock.storage.JsonStockBookStorage;
+import seedu.stock.storage.JsonUserPrefsStorage;
+import seedu.stock.storage.StorageManager;
+
+/**
+ * Measures how many commands of a scripted command stream are parsed per second by {@code StockBookParser}, and
+ * how many are parsed and executed per second through {@code LogicManager}.
+ * As a baseline, the same stream is also parsed by {@link SwitchDispatchParser}, which dispatches the way
+ * {@code StockBookParser} did before it used a {@code CommandRegistry}.
+ * Run it with {@code gradlew benchmark}.
+ */
+public class ParseThroughputBenchmark {
+
+    private static final List<String> SCRIPT = List.of(
+            "find n/apple",
+            "findexact n/apple juice s/ntuc",
+            "list lt/all",
+            "list lt/bookmark",
+            "stockview sn/ntuc1",
+            "update sn/ntuc1 iq/+1",
+            "update sn/fairprice1 sn/cold storage1 iq/-1",
+            "sort o/descending by/quantity",
+            "bookmark sn/ntuc1",
+            "unbookmark sn/ntuc1",
+            "stats st/source",
+            "help",
+            "delete 3",
+            "updt sn/ntuc1 iq/+1",
+            "tab");
+
+    private static final int WARM_UP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("benchmark");
+        try {
+            run(folder);
+        } finally {
+            try (Stream<Path> files = Files.walk(folder)) {
+                // the files are deleted before the folders that contain them
+                for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static void run(Path folder) throws Exception {
+        StorageManager storage = new StorageManager(new JsonStockBookStorage(folder.resolve("stockbook.json")),
+                new JsonUserPrefsStorage(folder.resolve("userPrefs.json")),
+                new JsonSerialNumberSetsBookStorage(folder.resolve("serialNumbers.json")));
+        LogicManager logic = new LogicManager(new ModelManager(getTypicalStockBook(), new UserPrefs(),
+                getTypicalSerialNumberSetsBook()), storage);
+        StockBookParser parser = new StockBookParser();
+        SwitchDispatchParser baselineParser = new SwitchDispatchParser();
+
+        runParser(baselineParser::parseCommand, WARM_UP_ROUNDS);
+        runParser(parser::parseCommand, WARM_UP_ROUNDS);
+        runLogic(logic, WARM_UP_ROUNDS);
+        // the logs are written to the console and a file, which would take most of the measured time
+        Collections.list(LogManager.getLogManager().getLoggerNames())
+                .forEach(name -> Logger.getLogger(name).setLevel(Level.WARNING));
+
+        long baselineParseTime = runParser(baselineParser::parseCommand, MEASURED_ROUNDS);
+        long parseTime = runParser(parser::parseCommand, MEASURED_ROUNDS);
+        long executeTime = runLogic(logic, MEASURED_ROUNDS);
+        logic.shutdown();
+
+        int commandCount = SCRIPT.size() * MEASURED_ROUNDS;
+        long baselineCommandsPerSecond = getCommandsPerSecond(commandCount, baselineParseTime);
+        long commandsPerSecond = getCommandsPerSecond(commandCount, parseTime);
+        System.out.println("Parsed (switch dispatch, baseline): " + baselineCommandsPerSecond + " commands/s");
+        System.out.println("Parsed (command registry): " + commandsPerSecond + " commands/s");
+        System.out.printf("Speedup of the command registry: %.2fx%n",
+                (double) baselineParseTime / Math.max(parseTime, 1));
+        System.out.println("Parsed and executed: " + getCommandsPerSecond(commandCount, executeTime) + " commands/s");
+    }
+
+    private static long runParser(CommandTextParser parser, int rounds) {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            for (String command : SCRIPT) {
+                try {
+                    parser.parseCommand(command);
+                } catch (Exception e) {
+                    // commands that cannot be parsed are part of the stream
+                }
+            }
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    private static long runLogic(LogicManager logic, int rounds) {
+        long startTime = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            for (String command : SCRIPT) {
+                try {
+                    logic.execute(command);
+                } catch (Exception e) {
+                    // commands that fail are part of the stream
+                }
+            }
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    private static long getCommandsPerSecond(int commandCount, long nanos) {
+        return commandCount * TimeUnit.SECONDS.toNanos(1) / Math.max(nanos, 1);
+    }
+
+    /**
+     * Parses the text of a command.
+     */
+    @FunctionalInterface
+    private interface CommandTextParser {
+        Command parseCommand(String commandText) throws ParseException;
+    }
+
+    /**
+     * Parses commands the way {@code StockBookParser} did before it used a {@code CommandRegistry}: the command
+     * word is looked up in a switch, a new parser is created for every command, and the arguments of every command
+     * are lowered before they are parsed.
+     */
+    private static class SwitchDispatchParser {
+        private static final Pattern BASIC_COMMAND_FORMAT =
+                Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+
+        Command parseCommand(String userInput) throws ParseException {
+            Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+            if (!matcher.matches()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+            }
+
+            String commandWord = matcher.group("commandWord");
+            String arguments = matcher.group("arguments");
+            String argumentsToLower = arguments.toLowerCase();
+            Parser<? extends Command> parser = createParser(commandWord);
+            if (parser == null) {
+                return new SuggestionCommandParser(commandWord).parse(argumentsToLower);
+            }
+
+            String argumentsToParse = commandWord.equals(NoteCommand.COMMAND_WORD) ? arguments : argumentsToLower;
+            try {
+                return parser.parse(argumentsToParse);
+            } catch (ParseException ex) {
+                return new SuggestionCommandParser(commandWord, ex.getMessage()).parse(argumentsToParse);
+            }
+        }
+
+        private static Parser<? extends Command> createParser(String commandWord) {
+            switch (commandWord) {
+            case AddCommand.COMMAND_WORD:
+                return new AddCommandParser();
+            case HelpCommand.COMMAND_WORD:
+                return new HelpCommandParser();
+            case UpdateCommand.COMMAND_WORD:
+                return new UpdateCommandParser();
+            case SortCommand.COMMAND_WORD:
+                return new SortCommandParser();
+            case ListCommand.COMMAND_WORD:
+                return new ListCommandParser();
+            case ClearCommand.COMMAND_WORD:
+                return new ClearCommandParser();
+            case DeleteCommand.COMMAND_WORD:
+                return new DeleteCommandParser();
+            case StatisticsCommand.COMMAND_WORD:
+                return new StatisticsCommandParser();
+            case TabCommand.COMMAND_WORD:
+                return new TabCommandParser();
+            case FindCommand.COMMAND_WORD:
+                return new FindCommandParser();
+            case FindExactCommand.COMMAND_WORD:
+                return new FindExactCommandParser();
+            case NoteCommand.COMMAND_WORD:
+                return new NoteCommandParser();
+            case NoteDeleteCommand.COMMAND_WORD:
+                return new NoteDeleteCommandParser();
+            case StockViewCommand.COMMAND_WORD:
+                return new StockViewCommandParser();
+            case PrintCommand.COMMAND_WORD:
+                return new PrintCommandParser();
+            case BookmarkCommand.COMMAND_WORD:
+                return new BookmarkCommandParser();
+            case UnbookmarkCommand.COMMAND_WORD:
+                return new UnbookmarkCommandParser();
+            case ExitCommand.COMMAND_WORD:
+                return new ExitCommandParser();
+            default:
+                return null;
+            }
+        }
+    }
+}
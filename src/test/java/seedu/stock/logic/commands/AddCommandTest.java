@@ -15,7 +15,12 @@ import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -30,10 +35,14 @@ import seedu.stock.model.ReadOnlySerialNumberSetsBook;
 import seedu.stock.model.ReadOnlyStockBook;
 import seedu.stock.model.ReadOnlyUserPrefs;
 import seedu.stock.model.StockBook;
+import seedu.stock.model.StockStatistics;
 import seedu.stock.model.UserPrefs;
+import seedu.stock.model.stock.SerialNumber;
 import seedu.stock.model.stock.SerialNumberSet;
 import seedu.stock.model.stock.Source;
 import seedu.stock.model.stock.Stock;
+import seedu.stock.model.stock.StockSearchIndex;
+import seedu.stock.model.stock.predicates.FieldContainsKeywordsPredicate;
 import seedu.stock.testutil.StockBuilder;
 
 /**
@@ -74,8 +83,11 @@ public class AddCommandTest {
 
         CommandResult commandResult = addCommand.execute(modelStub);
 
-        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, validStock), commandResult.getFeedbackToUser());
-        assertEquals(Arrays.asList(validStock), modelStub.stocksAdded);
+        // the stock is added with the serial number generated by the model, leaving the given stock unchanged
+        Stock addedStock = validStock.withSerialNumber(new SerialNumber("00"));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, addedStock), commandResult.getFeedbackToUser());
+        assertEquals(Arrays.asList(addedStock), modelStub.stocksAdded);
+        assertEquals(new SerialNumber(StockBuilder.DEFAULT_SERIALNUMBER), validStock.getSerialNumber());
     }
 
     @Test
@@ -160,6 +172,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getStockBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyStockBook getStockBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public StockStatistics getStockStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasStock(Stock stock) {
             throw new AssertionError("This method should not be called.");
@@ -175,6 +202,41 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteStocks(Collection<Stock> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addStocks(Collection<Stock> stocks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setStocks(Map<Stock, Stock> replacements) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Stock> findBySerialNumber(SerialNumber serialNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Stock> findAllBySerialNumbers(Collection<SerialNumber> serialNumbers) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<SerialNumber> findMatchingSerialNumbers(FieldContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> findClosestValue(StockSearchIndex.Field field, String value) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Stock> getFilteredStockList() {
             throw new AssertionError("This method should not be called.");
@@ -200,6 +262,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getSerialNumberSetsBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlySerialNumberSetsBook getSerialNumberSetsBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasSerialNumberSet(SerialNumberSet serialNumberSet) {
             throw new AssertionError("This method should not be called.");
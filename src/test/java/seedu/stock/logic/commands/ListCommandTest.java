@@ -5,11 +5,11 @@ import static seedu.stock.logic.commands.CommandTestUtil.showStockAtSerialNumber
 import static seedu.stock.testutil.TypicalSerialNumberSets.getTypicalSerialNumberSetsBook;
 import static seedu.stock.testutil.TypicalStocks.SERIAL_NUMBER_FIRST_STOCK;
 import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
-import static seedu.stock.testutil.TypicalStocks.getTypicalStockBookSortedSerialNumber;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.stock.commons.util.SortUtil;
 import seedu.stock.model.Model;
 import seedu.stock.model.ModelManager;
 import seedu.stock.model.SerialNumberSetsBook;
@@ -26,8 +26,9 @@ public class ListCommandTest {
     @BeforeEach
     public void setUp() {
         model = new ModelManager(getTypicalStockBook(), new UserPrefs(), getTypicalSerialNumberSetsBook());
-        expectedModel = new ModelManager(getTypicalStockBookSortedSerialNumber(), new UserPrefs(),
+        expectedModel = new ModelManager(getTypicalStockBook(), new UserPrefs(),
                 new SerialNumberSetsBook(model.getSerialNumberSetsBook()));
+        expectedModel.sortFilteredStockList(SortUtil.generateGeneralComparator());
     }
 
     @Test
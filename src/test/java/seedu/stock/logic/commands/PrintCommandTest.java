@@ -1,14 +1,23 @@
 package seedu.stock.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.stock.logic.commands.CommandTestUtil.VALID_FILE_NAME;
 import static seedu.stock.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.stock.testutil.TypicalSerialNumberSets.getTypicalSerialNumberSetsBook;
+import static seedu.stock.testutil.TypicalStocks.APPLE;
 import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,7 +37,34 @@ public class PrintCommandTest {
         Model expectedModel = new ModelManager(model.getStockBook(), model.getUserPrefs(),
                 getTypicalSerialNumberSetsBook());
 
-        assertCommandSuccess(new PrintCommand(VALID_FILE_NAME), model, PrintCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandSuccess(new PrintCommand(VALID_FILE_NAME), model, PrintCommand.MESSAGE_STARTED, expectedModel);
+    }
+
+    @Test
+    public void execute_allStocks_csvFileMadeInBackground() throws Exception {
+        CommandResult result = new PrintCommand(VALID_FILE_NAME).execute(model);
+        assertEquals(PrintCommand.MESSAGE_SUCCESS, result.getBackgroundTask().get().getResult().get());
+
+        List<String> lines = Files.readAllLines(csvFilePath(VALID_FILE_NAME + PrintCommand.CSV_TAG));
+        // creation time, empty line, headers and one line per stock
+        assertEquals(3 + model.getStockBook().getStockList().size(), countRows(lines));
+        assertTrue(lines.get(2).startsWith("Serial Number,Name,"));
+    }
+
+    @Test
+    public void execute_shownStocksCompressed_onlyShownStocksCopied() throws Exception {
+        model.updateFilteredStockList(stock -> stock.equals(APPLE));
+        CommandResult result = new PrintCommand(VALID_FILE_NAME, true, true).execute(model);
+        result.getBackgroundTask().get().getResult().get();
+
+        Path filePath = csvFilePath(VALID_FILE_NAME + PrintCommand.CSV_TAG + PrintCommand.COMPRESSED_TAG);
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(filePath)), StandardCharsets.UTF_8))) {
+            lines = reader.lines().collect(Collectors.toList());
+        }
+        assertEquals(4, countRows(lines));
+        assertTrue(lines.get(3).startsWith(APPLE.getSerialNumber().toString() + ","));
     }
 
     @Test
@@ -49,6 +85,33 @@ public class PrintCommandTest {
         PrintCommand otherPrintCommand = new PrintCommand("test2");
         assertFalse(printCommand.equals(otherPrintCommand));
 
+        // different options -> returns false
+        assertFalse(printCommand.equals(new PrintCommand(VALID_FILE_NAME, true, false)));
+        assertFalse(printCommand.equals(new PrintCommand(VALID_FILE_NAME, false, true)));
+
+    }
+
+    private Path csvFilePath(String fileName) {
+        return model.getUserPrefs().getCsvFilePath().resolve(fileName);
+    }
+
+    /**
+     * Returns the number of rows in {@code lines}, where a row may span several lines within a quoted field.
+     */
+    private static int countRows(List<String> lines) {
+        int rows = 0;
+        boolean isInQuotes = false;
+        for (String line : lines) {
+            if (!isInQuotes) {
+                rows++;
+            }
+            for (char c : line.toCharArray()) {
+                if (c == '"') {
+                    isInQuotes = !isInQuotes;
+                }
+            }
+        }
+        return rows;
     }
 
     /**
@@ -1,11 +1,15 @@
 package seedu.stock.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.stock.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.stock.logic.commands.CommandTestUtil.showStockAtSerialNumber;
 import static seedu.stock.logic.commands.SortCommand.MESSAGE_SORT_STOCK_SUCCESS;
 import static seedu.stock.testutil.TypicalSerialNumberSets.getTypicalSerialNumberSetsBook;
+import static seedu.stock.testutil.TypicalStocks.SERIAL_NUMBER_FIRST_STOCK;
 import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
+import static seedu.stock.testutil.TypicalStocks.getTypicalStockBookSortedSerialNumber;
 import static seedu.stock.testutil.TypicalStocks.getTypicalStocks;
 
 import java.util.Comparator;
@@ -17,7 +21,6 @@ import seedu.stock.commons.util.SortUtil;
 import seedu.stock.model.Model;
 import seedu.stock.model.ModelManager;
 import seedu.stock.model.SerialNumberSetsBook;
-import seedu.stock.model.StockBook;
 import seedu.stock.model.UserPrefs;
 import seedu.stock.model.stock.Stock;
 
@@ -32,18 +35,16 @@ public class SortCommandTest {
     @Test
     public void execute_ascendingOrder_success() {
         SortCommand sortCommand = new SortCommand(SortUtil.Field.SERIALNUMBER, false);
-        List<Stock> sortedStocks = getTypicalStocks();
         Comparator<Stock> serialNumberComparator = SortUtil.generateComparator(SortUtil.Field.SERIALNUMBER);
-        sortedStocks.sort(serialNumberComparator);
-        StockBook sortedStockBook = new StockBook();
-        sortedStockBook.setStocks(sortedStocks);
 
         String expectedMessage =
                 String.format(MESSAGE_SORT_STOCK_SUCCESS, SortUtil.getFieldDescription(SortUtil.Field.SERIALNUMBER));
-        Model expectedModel = new ModelManager(sortedStockBook, new UserPrefs(),
+        Model expectedModel = new ModelManager(getTypicalStockBook(), new UserPrefs(),
                 new SerialNumberSetsBook(model.getSerialNumberSetsBook()));
+        expectedModel.sortFilteredStockList(serialNumberComparator);
 
         assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
+        assertEquals(getTypicalStockBookSortedSerialNumber().getStockList(), model.getFilteredStockList());
     }
 
     @Test
@@ -52,15 +53,31 @@ public class SortCommandTest {
         List<Stock> sortedStocks = getTypicalStocks();
         Comparator<Stock> serialNumberComparator = SortUtil.generateReverseComparator(SortUtil.Field.SERIALNUMBER);
         sortedStocks.sort(serialNumberComparator);
-        StockBook sortedStockBook = new StockBook();
-        sortedStockBook.setStocks(sortedStocks);
 
         String expectedMessage =
                 String.format(MESSAGE_SORT_STOCK_SUCCESS, SortUtil.getFieldDescription(SortUtil.Field.SERIALNUMBER));
-        Model expectedModel = new ModelManager(sortedStockBook, new UserPrefs(),
+        Model expectedModel = new ModelManager(getTypicalStockBook(), new UserPrefs(),
+                new SerialNumberSetsBook(model.getSerialNumberSetsBook()));
+        expectedModel.sortFilteredStockList(serialNumberComparator);
+
+        assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
+        assertEquals(sortedStocks, model.getFilteredStockList());
+    }
+
+    @Test
+    public void execute_filteredList_keepsFilterAndStockBookOrder() {
+        showStockAtSerialNumber(model, SERIAL_NUMBER_FIRST_STOCK);
+        SortCommand sortCommand = new SortCommand(SortUtil.Field.NAME, true);
+
+        String expectedMessage =
+                String.format(MESSAGE_SORT_STOCK_SUCCESS, SortUtil.getFieldDescription(SortUtil.Field.NAME));
+        Model expectedModel = new ModelManager(getTypicalStockBook(), new UserPrefs(),
                 new SerialNumberSetsBook(model.getSerialNumberSetsBook()));
+        showStockAtSerialNumber(expectedModel, SERIAL_NUMBER_FIRST_STOCK);
 
         assertCommandSuccess(sortCommand, model, expectedMessage, expectedModel);
+        assertEquals(1, model.getFilteredStockList().size());
+        assertEquals(getTypicalStocks(), model.getStockBook().getStockList());
     }
 
     @Test
@@ -2,6 +2,7 @@ package seedu.stock.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.commons.core.Messages.MESSAGE_DID_YOU_MEAN;
 import static seedu.stock.logic.commands.CommandTestUtil.assertCommandFailureForNote;
 import static seedu.stock.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.stock.logic.commands.CommandTestUtil.isSerialNumberInStockBook;
@@ -87,6 +88,14 @@ public class StockViewCommandTest {
         assertCommandFailureForNote(stockViewCommand, model, StockViewCommand.MESSAGE_SERIAL_NUMBER_NOT_FOUND);
     }
 
+    @Test
+    public void execute_mistypedSerialNumber_closestSerialNumberSuggested() {
+        StockViewCommand stockViewCommand = new StockViewCommand(new SerialNumber("ntcu1"));
+
+        assertCommandFailureForNote(stockViewCommand, model, StockViewCommand.MESSAGE_SERIAL_NUMBER_NOT_FOUND
+                + "\n" + String.format(MESSAGE_DID_YOU_MEAN, "sn/ntuc1"));
+    }
+
     /**
      * Edit filtered list where only shows the first stock of the stock book.
      */
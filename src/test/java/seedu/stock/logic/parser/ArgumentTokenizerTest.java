@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +139,30 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesWithSameStart_longestPrefixRecognized() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "preamble -tt first -t second -ttt third";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTt, "first", "t third");
+        assertArgumentPresent(argMultimap, dashT, "second");
+    }
+
+    @Test
+    public void tokenizeAllPrefixes_manySerialNumbers_allValuesInOrder() {
+        StringBuilder argsString = new StringBuilder();
+        List<String> serialNumbers = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            serialNumbers.add("ntuc" + i);
+            argsString.append(" ").append(CliSyntax.PREFIX_SERIAL_NUMBER).append("ntuc").append(i);
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenizeAllPrefixes(argsString.toString());
+        assertPreambleEmpty(argMultimap);
+        assertEquals(serialNumbers, argMultimap.getAllValues(CliSyntax.PREFIX_SERIAL_NUMBER));
+        assertArgumentAbsent(argMultimap, CliSyntax.PREFIX_SOURCE);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,65 @@
+package seedu.stock.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.stock.logic.commands.CommandWords;
+import seedu.stock.logic.commands.ExitCommand;
+import seedu.stock.logic.commands.NoteCommand;
+import seedu.stock.logic.commands.SuggestionCommand;
+import seedu.stock.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private static final CommandDescriptor EXIT_ALIAS = new CommandDescriptor("quit", unused -> new ExitCommand(),
+            false, (commandWord, errorMessage, arguments) -> new SuggestionCommand(errorMessage));
+
+    @Test
+    public void withBuiltInCommands_allCommandWordsRegistered() {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+        assertEquals(new HashSet<>(CommandWords.getAllCommandWords()), registry.getCommandWords());
+        assertFalse(registry.find(NoteCommand.COMMAND_WORD.toUpperCase()).isPresent());
+        assertTrue(registry.find(NoteCommand.COMMAND_WORD).get().isCaseSensitive());
+    }
+
+    @Test
+    public void withBuiltInCommands_parsersShared() {
+        assertSame(CommandRegistry.withBuiltInCommands().find(ExitCommand.COMMAND_WORD).get().getParser(),
+                CommandRegistry.withBuiltInCommands().find(ExitCommand.COMMAND_WORD).get().getParser());
+    }
+
+    @Test
+    public void register_newCommandWord_found() {
+        CommandRegistry registry = new CommandRegistry();
+        assertFalse(registry.find("quit").isPresent());
+        registry.register(EXIT_ALIAS);
+        assertSame(EXIT_ALIAS, registry.find("quit").get());
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        CommandRegistry registry = CommandRegistry.withBuiltInCommands();
+        assertThrows(IllegalArgumentException.class, () -> registry.register(new CommandDescriptor(
+                ExitCommand.COMMAND_WORD, unused -> new ExitCommand(), false, EXIT_ALIAS.getSuggestionGenerator())));
+        assertThrows(NullPointerException.class, () -> registry.register(null));
+    }
+
+    @Test
+    public void parse_invalidArguments_suggestionGenerated() throws Exception {
+        CommandDescriptor descriptor = new CommandDescriptor("quit", arguments -> {
+            if (!arguments.isEmpty()) {
+                throw new ParseException("No arguments expected");
+            }
+            return new ExitCommand();
+        }, false, EXIT_ALIAS.getSuggestionGenerator());
+        assertTrue(descriptor.parse("") instanceof ExitCommand);
+        assertEquals(new SuggestionCommand("No arguments expected"), descriptor.parse(" NOW"));
+    }
+}
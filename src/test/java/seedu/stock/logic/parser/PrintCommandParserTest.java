@@ -7,6 +7,7 @@ import static seedu.stock.logic.commands.CommandTestUtil.INVALID_FILE_NAME_DESC;
 import static seedu.stock.logic.commands.CommandTestUtil.NAME_DESC_BANANA;
 import static seedu.stock.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
 import static seedu.stock.logic.commands.CommandTestUtil.VALID_FILE_NAME;
+import static seedu.stock.logic.parser.CliSyntax.PREFIX_PRINT_OPTION;
 import static seedu.stock.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.stock.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -54,6 +55,20 @@ public class PrintCommandParserTest {
         assertParseSuccess(parser, PREAMBLE_WHITESPACE + FILE_NAME_DESC, new PrintCommand(VALID_FILE_NAME));
     }
 
+    @Test
+    public void parse_printOptions_success() {
+        assertParseSuccess(parser, FILE_NAME_DESC + " " + PREFIX_PRINT_OPTION + PrintCommand.OPTION_SHOWN,
+                new PrintCommand(VALID_FILE_NAME, true, false));
+        assertParseSuccess(parser, FILE_NAME_DESC + " " + PREFIX_PRINT_OPTION + PrintCommand.OPTION_COMPRESSED
+                + " " + PREFIX_PRINT_OPTION + PrintCommand.OPTION_SHOWN, new PrintCommand(VALID_FILE_NAME, true, true));
+    }
+
+    @Test
+    public void parse_invalidPrintOption_failure() {
+        assertParseFailure(parser, FILE_NAME_DESC + " " + PREFIX_PRINT_OPTION + "zip",
+                PrintCommandParser.INVALID_PRINT_OPTION);
+    }
+
     @Test
     public void parse_invalidPrefixes_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, PrintCommand.MESSAGE_USAGE);
@@ -0,0 +1,93 @@
+package seedu.stock.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.logic.parser.RunCommandParser.MESSAGE_CANNOT_READ_FILE;
+import static seedu.stock.logic.parser.RunCommandParser.MESSAGE_COMMAND_INVALID;
+import static seedu.stock.logic.parser.RunCommandParser.MESSAGE_COMMAND_NOT_ALLOWED;
+import static seedu.stock.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.stock.logic.commands.DeleteCommand;
+import seedu.stock.logic.commands.RunCommand;
+import seedu.stock.logic.parser.exceptions.ParseException;
+import seedu.stock.model.stock.SerialNumber;
+
+public class RunCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final StockBookParser stockBookParser = new StockBookParser();
+    private final RunCommandParser parser = new RunCommandParser(stockBookParser);
+
+    @Test
+    public void parseCommand_runCommandWord_runCommand() throws Exception {
+        assertTrue(stockBookParser.parseCommand("run delete sn/ntuc1; delete sn/ntuc2") instanceof RunCommand);
+        assertFalse(stockBookParser.parseCommand("runner") instanceof RunCommand);
+        assertFalse(stockBookParser.parseCommand("rnu list lt/all") instanceof RunCommand);
+    }
+
+    @Test
+    public void parseScript_commandsSeparatedBySemicolons_commandsInOrder() throws Exception {
+        assertEquals(List.of("list lt/all", "update sn/ntuc1 iq/+1", "help"),
+                RunCommandParser.parseScript(" list lt/all;  update sn/ntuc1 iq/+1 ;; help;"));
+    }
+
+    @Test
+    public void parseScript_scriptFile_nonBlankLinesInOrder() throws Exception {
+        Path scriptFile = temporaryFolder.resolve("receiving.txt");
+        Files.write(scriptFile, List.of("update sn/ntuc1 iq/+1", "", "  note sn/ntuc1 nt/check; then shelve  "));
+
+        assertEquals(List.of("update sn/ntuc1 iq/+1", "note sn/ntuc1 nt/check; then shelve"),
+                RunCommandParser.parseScript(" f/" + scriptFile));
+        assertEquals(List.of("update sn/ntuc1 iq/+1", "note sn/ntuc1 nt/check; then shelve"),
+                RunCommandParser.parseScript(" f/ " + scriptFile + " "));
+    }
+
+    @Test
+    public void parse_missingScriptFile_throwsParseException() {
+        Path scriptFile = temporaryFolder.resolve("missing.txt");
+        assertThrows(ParseException.class, String.format(MESSAGE_CANNOT_READ_FILE, scriptFile), () ->
+                parser.parse(" f/" + scriptFile));
+    }
+
+    @Test
+    public void parse_noCommands_throwsParseException() {
+        assertThrows(ParseException.class, RunCommand.MESSAGE_USAGE, () -> parser.parse(""));
+        assertThrows(ParseException.class, RunCommand.MESSAGE_USAGE, () -> parser.parse(" ; ;"));
+        assertThrows(ParseException.class, RunCommand.MESSAGE_USAGE, () -> parser.parse(" f/"));
+    }
+
+    @Test
+    public void parse_validScript_runCommandOfAllCommands() throws Exception {
+        DeleteCommand deleteFirst = new DeleteCommand(Set.of(new SerialNumber("ntuc1")));
+        DeleteCommand deleteSecond = new DeleteCommand(Set.of(new SerialNumber("ntuc2")));
+        assertEquals(new RunCommand(List.of("delete sn/ntuc1", "delete sn/ntuc2"),
+                        List.of(deleteFirst, deleteSecond)),
+                parser.parse(" delete sn/ntuc1; delete sn/ntuc2"));
+    }
+
+    @Test
+    public void parse_commandNotAllowedInScript_throwsParseException() {
+        for (String commandText : List.of("help", "exit", "tab", "stockview sn/ntuc1", "print fn/stocks",
+                "stats st/source", "run delete sn/ntuc1", "list lt/all", "find n/apple", "findexact n/apple",
+                "sort o/ascending by/name")) {
+            assertThrows(ParseException.class, String.format(MESSAGE_COMMAND_INVALID, 2, commandText,
+                    MESSAGE_COMMAND_NOT_ALLOWED), () -> parser.parse(" delete sn/ntuc1; " + commandText));
+        }
+    }
+
+    @Test
+    public void parse_invalidCommand_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse(" delete sn/ntuc1; clea"));
+    }
+}
@@ -209,4 +209,15 @@ public class StockBookParserTest {
         assertTrue(parser.parseCommand("31231") instanceof SuggestionCommand);
         assertTrue(parser.parseCommand("#*das") instanceof SuggestionCommand);
     }
+
+    @Test
+    public void parseCommand_registeredCommand_parsedByItsParser() throws Exception {
+        StockBookParser customParser = new StockBookParser();
+        customParser.getCommandRegistry().register(new CommandDescriptor("bye", unused -> new ExitCommand(),
+                false, (commandWord, errorMessage, arguments) -> {
+                    throw new ParseException(errorMessage);
+                }));
+        assertTrue(customParser.parseCommand("bye") instanceof ExitCommand);
+        assertTrue(parser.parseCommand("bye") instanceof SuggestionCommand);
+    }
 }
@@ -36,6 +36,7 @@ import seedu.stock.logic.commands.ListCommand;
 import seedu.stock.logic.commands.NoteCommand;
 import seedu.stock.logic.commands.NoteDeleteCommand;
 import seedu.stock.logic.commands.PrintCommand;
+import seedu.stock.logic.commands.RunCommand;
 import seedu.stock.logic.commands.SortCommand;
 import seedu.stock.logic.commands.StatisticsCommand;
 import seedu.stock.logic.commands.StockViewCommand;
@@ -129,6 +130,25 @@ public class SuggestionCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_runCommandSuggestion_success() {
+        // EP: incorrect command word with a script
+        String userInput = " f/receiving.txt";
+        SuggestionCommandParser parser = new SuggestionCommandParser("rnu");
+        String expectedSuggestionMessage = MESSAGE_UNKNOWN_COMMAND + "\n"
+                + MESSAGE_SUGGESTION + CommandWords.RUN_COMMAND_WORD + " f/receiving.txt\n"
+                + RunCommand.MESSAGE_USAGE;
+        SuggestionCommand expectedCommand = new SuggestionCommand(expectedSuggestionMessage);
+        assertParseSuccess(parser, userInput, expectedCommand);
+
+        // EP: incorrect command word without a script
+        parser = new SuggestionCommandParser("rn");
+        expectedSuggestionMessage = MESSAGE_UNKNOWN_COMMAND + "\n"
+                + MESSAGE_SUGGESTION + CommandWords.RUN_COMMAND_WORD + "\n" + RunCommand.MESSAGE_USAGE;
+        expectedCommand = new SuggestionCommand(expectedSuggestionMessage);
+        assertParseSuccess(parser, "", expectedCommand);
+    }
+
     @Test
     public void parse_helpCommandSuggestion_success() {
         // EP: incorrect command word with valid prefixes
@@ -2,6 +2,7 @@ package seedu.stock.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.stock.model.Model.PREDICATE_SHOW_ALL_STOCKS;
 import static seedu.stock.testutil.Assert.assertThrows;
@@ -36,6 +37,23 @@ public class ModelManagerTest {
                 new SerialNumberSetsBook(modelManager.getSerialNumberSetsBook()));
     }
 
+    @Test
+    public void ofOwnedBooks_booksNotCopied() {
+        StockBook stockBook = new StockBookBuilder().withStock(APPLE).build();
+        SerialNumberSetsBook serialNumberSetsBook = new SerialNumberSetsBook();
+        ModelManager ownerModelManager = ModelManager.ofOwnedBooks(stockBook, new UserPrefs(), serialNumberSetsBook);
+
+        assertSame(stockBook, ownerModelManager.getStockBook());
+        assertSame(serialNumberSetsBook, ownerModelManager.getSerialNumberSetsBook());
+        ownerModelManager.addStock(BANANA);
+        assertTrue(stockBook.hasStock(BANANA));
+
+        // the books given to the constructor are still copied
+        StockBook copiedStockBook = new StockBookBuilder().withStock(APPLE).build();
+        new ModelManager(copiedStockBook, new UserPrefs(), new SerialNumberSetsBook()).addStock(BANANA);
+        assertFalse(copiedStockBook.hasStock(BANANA));
+    }
+
     @Test
     public void setStockBook() {
         StockBook newStockBook = new StockBook();
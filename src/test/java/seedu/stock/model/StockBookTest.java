@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.stock.logic.commands.CommandTestUtil.VALID_SOURCE_BANANA;
 import static seedu.stock.testutil.Assert.assertThrows;
 import static seedu.stock.testutil.TypicalStocks.APPLE;
+import static seedu.stock.testutil.TypicalStocks.BANANA;
 import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
 
 import java.util.Arrays;
@@ -80,6 +81,34 @@ public class StockBookTest {
         assertThrows(UnsupportedOperationException.class, () -> stockBook.getStockList().remove(0));
     }
 
+    @Test
+    public void getVersion_stockBookModified_versionIncreases() {
+        long initialVersion = stockBook.getVersion();
+        stockBook.addStock(APPLE);
+        long versionAfterAdd = stockBook.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        stockBook.hasStock(APPLE);
+        stockBook.getStockList();
+        assertEquals(versionAfterAdd, stockBook.getVersion());
+
+        stockBook.removeStock(APPLE);
+        assertTrue(stockBook.getVersion() > versionAfterAdd);
+    }
+
+    @Test
+    public void snapshot_stockBookModified_snapshotUnchanged() {
+        stockBook.addStock(APPLE);
+        ReadOnlyStockBook snapshot = stockBook.snapshot();
+
+        stockBook.addStock(BANANA);
+        stockBook.setStock(APPLE, new StockBuilder(APPLE).withQuantity("1").build());
+
+        assertEquals(Collections.singletonList(APPLE), snapshot.getStockList());
+        assertEquals(APPLE.getQuantity(), snapshot.getStockList().get(0).getQuantity());
+        assertEquals(stockBook.getStockList(), stockBook.snapshot().getStockList());
+    }
+
     /**
      * A stub ReadOnlyStockBook whose stocks list can violate interface constraints.
      */
@@ -0,0 +1,67 @@
+package seedu.stock.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.testutil.TypicalStocks.APPLE;
+import static seedu.stock.testutil.TypicalStocks.BANANA;
+import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.stock.model.stock.Stock;
+import seedu.stock.testutil.StockBuilder;
+
+public class StockStatisticsTest {
+
+    private final StockBook stockBook = getTypicalStockBook();
+
+    @Test
+    public void getSourceCounts_typicalStockBook_matchesStockList() {
+        assertEquals(countSources(stockBook), stockBook.getStatistics().getSourceCounts());
+    }
+
+    @Test
+    public void addStock_sameSource_updatesAggregates() {
+        Stock appleCider = new StockBuilder(APPLE).withName("apple cider").withSerialNumber("ntuc2")
+                .withQuantity("5").build();
+        stockBook.addStock(appleCider);
+
+        StockStatistics statistics = stockBook.getStatistics();
+        assertEquals(countSources(stockBook), statistics.getSourceCounts());
+        assertEquals(APPLE.getQuantity().getQuantityAsInt() + 5L, statistics.getTotalQuantity("ntuc"));
+
+        Map<String, Integer> expectedTable = new HashMap<>();
+        expectedTable.put(APPLE.getName().fullName, APPLE.getQuantity().getQuantityAsInt());
+        expectedTable.put("apple cider", 5);
+        assertEquals(expectedTable, statistics.getNameQuantityTable("ntuc"));
+    }
+
+    @Test
+    public void setStock_quantityChanged_updatesAggregates() {
+        Stock editedBanana = new StockBuilder(BANANA).withQuantity("7").build();
+        stockBook.setStock(BANANA, editedBanana);
+
+        StockStatistics statistics = stockBook.getStatistics();
+        assertEquals(7L, statistics.getTotalQuantity("fairprice"));
+        assertEquals(Map.of(BANANA.getName().fullName, 7), statistics.getNameQuantityTable("fairprice"));
+    }
+
+    @Test
+    public void removeStock_lastStockOfSource_removesSource() {
+        stockBook.removeStock(APPLE);
+
+        StockStatistics statistics = stockBook.getStatistics();
+        assertEquals(countSources(stockBook), statistics.getSourceCounts());
+        assertEquals(0L, statistics.getTotalQuantity("ntuc"));
+        assertTrue(statistics.getNameQuantityTable("ntuc").isEmpty());
+    }
+
+    private static Map<String, Integer> countSources(StockBook stockBook) {
+        Map<String, Integer> sourceCounts = new HashMap<>();
+        stockBook.getStockList().forEach(stock -> sourceCounts.merge(stock.getSource().value, 1, Integer::sum));
+        return sourceCounts;
+    }
+}
@@ -33,6 +33,12 @@ public class AccumulatedQuantityTest {
         assertEquals(incrementedAccumulatedQuantity, expectedIncrementedAccumulatedQuantity);
     }
 
+    @Test
+    public void getIncrementedAccumulatedQuantity_maxValue_wrapsToZero() {
+        AccumulatedQuantity accumulatedQuantity = new AccumulatedQuantity(Integer.toString(Integer.MAX_VALUE));
+        assertEquals(new AccumulatedQuantity("0"), accumulatedQuantity.getIncrementedAccumulatedQuantity());
+    }
+
     @Test
     public void invalidAccumulatedQuantityFormats() {
         // null accumulated quantity
@@ -1,6 +1,9 @@
 package seedu.stock.model.stock;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.stock.testutil.Assert.assertThrows;
 
@@ -19,6 +22,15 @@ public class LocationTest {
         assertThrows(IllegalArgumentException.class, () -> new Location(invalidLocation));
     }
 
+    @Test
+    public void of_equalValues_sameInstance() {
+        Location first = Location.of("Section A");
+        assertSame(first, Location.of("Section A"));
+        assertEquals(new Location("Section A"), first);
+        assertNotEquals(first, Location.of("Section B"));
+        assertThrows(IllegalArgumentException.class, () -> Location.of(""));
+    }
+
     @Test
     public void isValidLocation() {
         // null location
@@ -1,5 +1,6 @@
 package seedu.stock.model.stock;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.stock.testutil.Assert.assertThrows;
@@ -58,6 +59,16 @@ public class QuantityTest {
         assertFalse(notLowQuantity.isLowOnQuantity()); // comparing after changing low quantity value
     }
 
+    @Test
+    public void getQuantityAsInt_leadingZeros_stringFormUnchanged() {
+        Quantity quantity = new Quantity("0100", "020");
+
+        assertEquals(100, quantity.getQuantityAsInt());
+        assertEquals(20, quantity.getLowQuantityAsInt());
+        assertEquals("0100", quantity.toString());
+        assertEquals("020", quantity.getLowQuantity());
+    }
+
     @Test
     public void equals() {
         Quantity quantity = new Quantity("100");
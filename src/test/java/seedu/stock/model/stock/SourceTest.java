@@ -1,6 +1,9 @@
 package seedu.stock.model.stock;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.stock.testutil.Assert.assertThrows;
 
@@ -19,6 +22,15 @@ public class SourceTest {
         assertThrows(IllegalArgumentException.class, () -> new Source(invalidSource));
     }
 
+    @Test
+    public void of_equalValues_sameInstance() {
+        Source first = Source.of("Kc Company");
+        assertSame(first, Source.of("Kc Company"));
+        assertEquals(new Source("Kc Company"), first);
+        assertNotEquals(first, Source.of("Ntuc"));
+        assertThrows(IllegalArgumentException.class, () -> Source.of(""));
+    }
+
     @Test
     public void isValidSource() {
         // null source
@@ -0,0 +1,155 @@
+package seedu.stock.model.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.testutil.Assert.assertThrows;
+import static seedu.stock.testutil.TypicalStocks.ALMOND;
+import static seedu.stock.testutil.TypicalStocks.APPLE;
+import static seedu.stock.testutil.TypicalStocks.BANANA;
+import static seedu.stock.testutil.TypicalStocks.PINEAPPLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.stock.model.stock.StockSearchIndex.Field;
+import seedu.stock.testutil.StockBuilder;
+
+public class StockSearchIndexTest {
+
+    private final StockSearchIndex searchIndex = new StockSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        searchIndex.setStocks(Arrays.asList(ALMOND, APPLE, BANANA, PINEAPPLE));
+    }
+
+    @Test
+    public void add_nullStock_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> searchIndex.add(null));
+    }
+
+    @Test
+    public void findContainingAll_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> searchIndex.findContainingAll(Field.NAME, null));
+    }
+
+    @Test
+    public void findContainingAll_noKeywordsOrEmptyKeyword_returnsEmptySet() {
+        assertTrue(searchIndex.findContainingAll(Field.NAME, Collections.emptyList()).isEmpty());
+        assertTrue(searchIndex.findContainingAll(Field.NAME, Arrays.asList("apple", "")).isEmpty());
+    }
+
+    @Test
+    public void findContainingAll_partialKeywordsMixedCase_returnsMatchingSerialNumbers() {
+        assertEquals(serialNumbersOf(APPLE, PINEAPPLE),
+                searchIndex.findContainingAll(Field.NAME, Collections.singletonList("aPpL")));
+        assertEquals(serialNumbersOf(ALMOND, APPLE, BANANA),
+                searchIndex.findContainingAll(Field.LOCATION, Collections.singletonList("fruit")));
+        assertEquals(serialNumbersOf(ALMOND),
+                searchIndex.findContainingAll(Field.SOURCE, Arrays.asList("cold", "stor")));
+        assertEquals(serialNumbersOf(APPLE),
+                searchIndex.findContainingAll(Field.SERIALNUMBER, Collections.singletonList("ntuc")));
+    }
+
+    @Test
+    public void findContainingAll_keywordInMiddleOfWord_returnsMatchingSerialNumbers() {
+        assertEquals(serialNumbersOf(BANANA),
+                searchIndex.findContainingAll(Field.NAME, Collections.singletonList("anan")));
+        assertEquals(serialNumbersOf(APPLE, PINEAPPLE),
+                searchIndex.findContainingAll(Field.NAME, Collections.singletonList("pple")));
+    }
+
+    @Test
+    public void findContainingAll_keywordsInDifferentStocks_returnsEmptySet() {
+        assertTrue(searchIndex.findContainingAll(Field.NAME, Arrays.asList("juice", "tart")).isEmpty());
+    }
+
+    @Test
+    public void findContainingAll_matchesLinearSearch() {
+        List<List<String>> keywordLists = Arrays.asList(Collections.singletonList("a"),
+                Arrays.asList("section", "c"), Arrays.asList("subsection", "section,"),
+                Collections.singletonList("n c"), Arrays.asList("ubs", "on,"),
+                Collections.singletonList("zzz"));
+        List<Stock> stocks = Arrays.asList(ALMOND, APPLE, BANANA, PINEAPPLE);
+
+        for (List<String> keywords : keywordLists) {
+            Set<SerialNumber> expected = new HashSet<>();
+            for (Stock stock : stocks) {
+                String location = stock.getLocation().value.toLowerCase();
+                if (keywords.stream().allMatch(location::contains)) {
+                    expected.add(stock.getSerialNumber());
+                }
+            }
+            assertEquals(expected, searchIndex.findContainingAll(Field.LOCATION, keywords));
+        }
+    }
+
+    @Test
+    public void remove_stock_noLongerFound() {
+        searchIndex.remove(APPLE);
+        assertEquals(serialNumbersOf(PINEAPPLE),
+                searchIndex.findContainingAll(Field.NAME, Collections.singletonList("apple")));
+    }
+
+    @Test
+    public void remove_editedStockWithSameSerialNumber_removesOriginalTokens() {
+        Stock editedApple = new StockBuilder(APPLE).withName("orange juice").build();
+        searchIndex.remove(editedApple);
+        searchIndex.add(editedApple);
+        assertEquals(serialNumbersOf(PINEAPPLE),
+                searchIndex.findContainingAll(Field.NAME, Collections.singletonList("apple")));
+        assertEquals(serialNumbersOf(APPLE),
+                searchIndex.findContainingAll(Field.NAME, Collections.singletonList("orange")));
+    }
+
+    @Test
+    public void clear_removesAllStocks() {
+        searchIndex.clear();
+        assertTrue(searchIndex.findContainingAll(Field.NAME, Collections.singletonList("a")).isEmpty());
+    }
+
+    @Test
+    public void findClosestValue_mistypedValues_closestValueSuggested() {
+        assertEquals(Optional.of("ntuc1"), searchIndex.findClosestValue(Field.SERIALNUMBER, "NTCU1"));
+        assertEquals(Optional.of("fairprice"), searchIndex.findClosestValue(Field.SOURCE, "fairprise"));
+        assertEquals(Optional.of("fruits section, subsection b"),
+                searchIndex.findClosestValue(Field.LOCATION, "fruits section subsection b"));
+    }
+
+    @Test
+    public void findClosestValue_noCloseValueOrUnsuggestedField_emptyResult() {
+        assertTrue(searchIndex.findClosestValue(Field.SERIALNUMBER, "giant123").isEmpty());
+        assertTrue(searchIndex.findClosestValue(Field.NAME, "apple juice").isEmpty());
+    }
+
+    @Test
+    public void findClosestValue_stockRemoved_valueNotSuggested() {
+        searchIndex.remove(APPLE);
+        assertTrue(searchIndex.findClosestValue(Field.SERIALNUMBER, "ntuc1").isEmpty());
+
+        searchIndex.add(APPLE);
+        assertEquals(Optional.of("ntuc1"), searchIndex.findClosestValue(Field.SERIALNUMBER, "ntuc1"));
+    }
+
+    @Test
+    public void findClosestValue_manySerialNumbers_closestValueSuggested() {
+        for (int i = 2; i <= 100000; i++) {
+            searchIndex.add(new StockBuilder(APPLE).withSerialNumber("ntuc" + i).build());
+        }
+        assertEquals(Optional.of("ntuc12345"), searchIndex.findClosestValue(Field.SERIALNUMBER, "ntuc12345"));
+        assertEquals(Optional.of("ntuc9876"), searchIndex.findClosestValue(Field.SERIALNUMBER, "ntcu9876"));
+    }
+
+    private static Set<SerialNumber> serialNumbersOf(Stock... stocks) {
+        Set<SerialNumber> serialNumbers = new HashSet<>();
+        Arrays.stream(stocks).forEach(stock -> serialNumbers.add(stock.getSerialNumber()));
+        return serialNumbers;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.stock.model.stock;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.stock.logic.commands.CommandTestUtil.VALID_LOCATION_BANANA;
@@ -10,6 +11,10 @@ import static seedu.stock.logic.commands.CommandTestUtil.VALID_SOURCE_BANANA;
 import static seedu.stock.testutil.TypicalStocks.APPLE;
 import static seedu.stock.testutil.TypicalStocks.BANANA;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.stock.testutil.StockBuilder;
@@ -92,4 +97,77 @@ public class StockTest {
         editedApple = new StockBuilder(APPLE).withLocation(VALID_LOCATION_BANANA).build();
         assertTrue(APPLE.equals(editedApple));
     }
+
+    @Test
+    public void addNoteDeleteNote_originalStockUnchanged() {
+        Stock original = new StockBuilder(APPLE).build();
+        int noteCount = original.getNotes().size();
+
+        Stock withAddedNote = original.addNote(new Note("fragile"));
+        assertEquals(noteCount, original.getNotes().size());
+        assertEquals(noteCount + 1, withAddedNote.getNotes().size());
+
+        Stock withDeletedNote = withAddedNote.deleteNote(new NoteIndex("1"));
+        assertEquals(noteCount + 1, withAddedNote.getNotes().size());
+        assertEquals(noteCount, withDeletedNote.getNotes().size());
+    }
+
+    @Test
+    public void withBookmark_originalStockUnchanged() {
+        Stock original = new StockBuilder(APPLE).withBookmark(false).build();
+        assertTrue(original.withBookmark(true).getIsBookmarked());
+        assertFalse(original.getIsBookmarked());
+    }
+
+    @Test
+    public void withNotesLoadedBy_notesLoadedOnlyWhenNeeded() {
+        List<SerialNumber> loadedSerialNumbers = new ArrayList<>();
+        NoteLoader noteLoader = serialNumber -> {
+            loadedSerialNumbers.add(serialNumber);
+            return APPLE.getNotes();
+        };
+        Stock stock = new StockBuilder(APPLE).withNotes().withBookmark(true).build().withNotesLoadedBy(noteLoader);
+        Stock unbookmarkedStock = stock.withBookmark(false);
+        assertTrue(stock.getIsBookmarked());
+        assertTrue(unbookmarkedStock.isNotesLoadedOnDemand());
+        assertTrue(loadedSerialNumbers.isEmpty());
+
+        assertEquals(APPLE.getNotes(), stock.getNotes());
+        Stock stockWithAddedNote = stock.addNote(new Note("fragile"));
+        assertFalse(stockWithAddedNote.isNotesLoadedOnDemand());
+        assertEquals(APPLE.getNotes().size() + 1, stockWithAddedNote.getNotes().size());
+        assertEquals(Arrays.asList(APPLE.getSerialNumber(), APPLE.getSerialNumber()), loadedSerialNumbers);
+    }
+
+    @Test
+    public void withDetailsToString_notesLoadedOnDemand_notesNotLoaded() {
+        List<SerialNumber> loadedSerialNumbers = new ArrayList<>();
+        NoteLoader noteLoader = serialNumber -> {
+            loadedSerialNumbers.add(serialNumber);
+            return APPLE.getNotes();
+        };
+        Stock stock = new StockBuilder(APPLE).withNotes().withBookmark(true).build().withNotesLoadedBy(noteLoader);
+        Stock updatedStock = stock.withDetails(new Name(VALID_NAME_BANANA), new Quantity(VALID_QUANTITY_BANANA),
+                new Location(VALID_LOCATION_BANANA));
+        assertTrue(updatedStock.isNotesLoadedOnDemand());
+        assertTrue(updatedStock.getIsBookmarked());
+        assertEquals(new Name(VALID_NAME_BANANA), updatedStock.getName());
+        assertEquals(APPLE.getSerialNumber(), updatedStock.getSerialNumber());
+        updatedStock.toString();
+        assertTrue(loadedSerialNumbers.isEmpty());
+
+        assertEquals(APPLE.getNotes(), updatedStock.getNotes());
+    }
+
+    @Test
+    public void withSerialNumber_bookmarkedStockWithNotes_newStockKeepsNotesAndBookmark() {
+        Stock stock = new StockBuilder(APPLE).withBookmark(true).build();
+        SerialNumber serialNumber = new SerialNumber(VALID_SERIAL_NUMBER_BANANA);
+        Stock updatedStock = stock.withSerialNumber(serialNumber);
+
+        assertEquals(serialNumber, updatedStock.getSerialNumber());
+        assertEquals(APPLE.getNotes(), updatedStock.getNotes());
+        assertTrue(updatedStock.getIsBookmarked());
+        assertEquals(APPLE.getSerialNumber(), stock.getSerialNumber());
+    }
 }
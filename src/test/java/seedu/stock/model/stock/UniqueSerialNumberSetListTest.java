@@ -10,6 +10,7 @@ import static seedu.stock.testutil.TypicalSerialNumberSets.NTUC;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -157,6 +158,32 @@ public class UniqueSerialNumberSetListTest {
                 uniqueSerialNumberSetList.setSerialNumberSets(listWithDuplicateSerialNumberSets));
     }
 
+    @Test
+    public void incrementSerialNumberSet_sourceNotInList_addsSerialNumberSetWithOne() {
+        SerialNumberSet added = uniqueSerialNumberSetList.incrementSerialNumberSet(NTUC.getSource());
+        assertEquals(NTUC, added);
+        assertEquals(Optional.of(NTUC), uniqueSerialNumberSetList.getSerialNumberSet(NTUC.getSource()));
+    }
+
+    @Test
+    public void incrementSerialNumberSet_sourceInList_incrementsInPlace() {
+        uniqueSerialNumberSetList.add(NTUC);
+        uniqueSerialNumberSetList.add(FAIRPRICE);
+        SerialNumberSet expected = new SerialNumberSetBuilder(NTUC).withAccumulatedQuantity("2").build();
+
+        assertEquals(expected, uniqueSerialNumberSetList.incrementSerialNumberSet(NTUC.getSource()));
+        assertEquals(Arrays.asList(expected, FAIRPRICE), uniqueSerialNumberSetList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getSerialNumberSet_afterRemove_indexInSync() {
+        uniqueSerialNumberSetList.add(NTUC);
+        uniqueSerialNumberSetList.add(FAIRPRICE);
+        uniqueSerialNumberSetList.remove(NTUC);
+        assertEquals(Optional.empty(), uniqueSerialNumberSetList.getSerialNumberSet(NTUC.getSource()));
+        assertEquals(Optional.of(FAIRPRICE), uniqueSerialNumberSetList.getSerialNumberSet(FAIRPRICE.getSource()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, (
@@ -6,17 +6,27 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.stock.logic.commands.CommandTestUtil.VALID_LOCATION_BANANA;
 import static seedu.stock.logic.commands.CommandTestUtil.VALID_QUANTITY_BANANA;
 import static seedu.stock.testutil.Assert.assertThrows;
+import static seedu.stock.testutil.TypicalStocks.ALMOND;
 import static seedu.stock.testutil.TypicalStocks.APPLE;
 import static seedu.stock.testutil.TypicalStocks.BANANA;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+
 import seedu.stock.model.stock.exceptions.DuplicateStockException;
 import seedu.stock.model.stock.exceptions.StockNotFoundException;
+import seedu.stock.model.stock.predicates.NameContainsKeywordsPredicate;
 import seedu.stock.testutil.StockBuilder;
 
 public class UniqueStockListTest {
@@ -48,6 +58,23 @@ public class UniqueStockListTest {
         assertTrue(uniqueStockList.contains(editedApple));
     }
 
+    @Test
+    public void contains_stockWithSameSerialNumberInList_returnsTrue() {
+        uniqueStockList.add(APPLE);
+        Stock differentIdentityApple = new StockBuilder(BANANA).withSerialNumber(APPLE.getSerialNumber().toString())
+                .build();
+        assertTrue(uniqueStockList.contains(differentIdentityApple));
+    }
+
+    @Test
+    public void contains_removedStock_returnsFalse() {
+        uniqueStockList.add(APPLE);
+        uniqueStockList.add(BANANA);
+        uniqueStockList.remove(APPLE);
+        assertFalse(uniqueStockList.contains(APPLE));
+        assertTrue(uniqueStockList.contains(BANANA));
+    }
+
     @Test
     public void add_nullStock_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStockList.add(null));
@@ -164,6 +191,248 @@ public class UniqueStockListTest {
         assertThrows(DuplicateStockException.class, () -> uniqueStockList.setStocks(listWithDuplicateStocks));
     }
 
+    @Test
+    public void findBySerialNumber_nullSerialNumber_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueStockList.findBySerialNumber(null));
+    }
+
+    @Test
+    public void findBySerialNumber_serialNumberInList_returnsStock() {
+        uniqueStockList.add(APPLE);
+        uniqueStockList.add(BANANA);
+        assertEquals(Optional.of(BANANA), uniqueStockList.findBySerialNumber(BANANA.getSerialNumber()));
+    }
+
+    @Test
+    public void findBySerialNumber_serialNumberNotInList_returnsEmpty() {
+        uniqueStockList.add(APPLE);
+        assertEquals(Optional.empty(), uniqueStockList.findBySerialNumber(BANANA.getSerialNumber()));
+    }
+
+    @Test
+    public void findBySerialNumber_afterRemoveAndSetStock_indexStaysInSync() {
+        uniqueStockList.add(APPLE);
+        uniqueStockList.add(BANANA);
+        Stock editedBanana = new StockBuilder(BANANA).withQuantity(VALID_QUANTITY_BANANA).build();
+        uniqueStockList.remove(APPLE);
+        uniqueStockList.setStock(BANANA, editedBanana);
+        assertEquals(Optional.empty(), uniqueStockList.findBySerialNumber(APPLE.getSerialNumber()));
+        assertEquals(Optional.of(editedBanana), uniqueStockList.findBySerialNumber(BANANA.getSerialNumber()));
+    }
+
+    @Test
+    public void findAllBySerialNumbers_someSerialNumbersNotInList_returnsFoundStocksInGivenOrder() {
+        uniqueStockList.add(APPLE);
+        uniqueStockList.add(BANANA);
+        List<SerialNumber> serialNumbers = Arrays.asList(BANANA.getSerialNumber(),
+                new SerialNumber("unknown1"), APPLE.getSerialNumber(), BANANA.getSerialNumber());
+        assertEquals(Arrays.asList(BANANA, APPLE), uniqueStockList.findAllBySerialNumbers(serialNumbers));
+    }
+
+    @Test
+    public void findMatchingSerialNumbers_afterMutations_searchIndexInSync() {
+        uniqueStockList.add(APPLE);
+        uniqueStockList.add(BANANA);
+        Stock editedBanana = new StockBuilder(BANANA).withName("apple pie").build();
+        uniqueStockList.setStock(BANANA, editedBanana);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("ppl"));
+        assertEquals(new HashSet<>(Arrays.asList(APPLE.getSerialNumber(), BANANA.getSerialNumber())),
+                uniqueStockList.findMatchingSerialNumbers(predicate));
+
+        uniqueStockList.remove(APPLE);
+        assertEquals(Collections.singleton(BANANA.getSerialNumber()),
+                uniqueStockList.findMatchingSerialNumbers(predicate));
+    }
+
+    @Test
+    public void setStocks_listWithDuplicateSerialNumbers_throwsDuplicateStockException() {
+        Stock bananaWithAppleSerialNumber = new StockBuilder(BANANA)
+                .withSerialNumber(APPLE.getSerialNumber().toString()).build();
+        List<Stock> listWithDuplicateStocks = Arrays.asList(APPLE, bananaWithAppleSerialNumber);
+        assertThrows(DuplicateStockException.class, () -> uniqueStockList.setStocks(listWithDuplicateStocks));
+    }
+
+    @Test
+    public void addStocks_duplicateStocks_throwsDuplicateStockExceptionAndLeavesListUnchanged() {
+        uniqueStockList.add(APPLE);
+        assertThrows(DuplicateStockException.class, () -> uniqueStockList.addStocks(Arrays.asList(BANANA, APPLE)));
+        assertEquals(Collections.singletonList(APPLE), uniqueStockList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addStocks_uniqueStocks_singleListChange() {
+        uniqueStockList.add(APPLE);
+        List<Change> changes = new ArrayList<>();
+        uniqueStockList.asUnmodifiableObservableList().addListener((ListChangeListener<Stock>) changes::add);
+
+        uniqueStockList.addStocks(Arrays.asList(BANANA, ALMOND));
+        assertEquals(Arrays.asList(APPLE, BANANA, ALMOND), uniqueStockList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(ALMOND), uniqueStockList.findBySerialNumber(ALMOND.getSerialNumber()));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void setStocksMap_validReplacements_replacesStocks() {
+        uniqueStockList.addStocks(Arrays.asList(APPLE, BANANA, ALMOND));
+        Stock editedApple = new StockBuilder(APPLE).withQuantity("1").build();
+        Stock editedAlmond = new StockBuilder(ALMOND).withName("almond butter").build();
+        Map<Stock, Stock> replacements = new LinkedHashMap<>();
+        replacements.put(APPLE, editedApple);
+        replacements.put(ALMOND, editedAlmond);
+
+        assertEquals(Arrays.asList(APPLE, ALMOND), uniqueStockList.setStocks(replacements));
+        assertEquals(Arrays.asList(editedApple, BANANA, editedAlmond),
+                uniqueStockList.asUnmodifiableObservableList());
+        assertTrue(uniqueStockList.contains(editedAlmond));
+        assertFalse(uniqueStockList.contains(new StockBuilder(ALMOND).withSerialNumber("other1").build()));
+    }
+
+    @Test
+    public void setStocksMap_replacementsBecomeDuplicates_throwsDuplicateStockExceptionAndLeavesListUnchanged() {
+        uniqueStockList.addStocks(Arrays.asList(APPLE, BANANA));
+        Map<Stock, Stock> replacements = new LinkedHashMap<>();
+        replacements.put(APPLE, new StockBuilder(APPLE).withName("same name").build());
+        replacements.put(BANANA, new StockBuilder(BANANA).withName("same name").withSource("ntuc").build());
+
+        assertThrows(DuplicateStockException.class, () -> uniqueStockList.setStocks(replacements));
+        assertEquals(Arrays.asList(APPLE, BANANA), uniqueStockList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeStocks_stockNotInList_throwsStockNotFoundExceptionAndLeavesListUnchanged() {
+        uniqueStockList.add(APPLE);
+        assertThrows(StockNotFoundException.class, () -> uniqueStockList.removeStocks(Arrays.asList(APPLE, BANANA)));
+        assertEquals(Collections.singletonList(APPLE), uniqueStockList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeStocks_stocksInList_removesStocksAndReindexes() {
+        uniqueStockList.addStocks(Arrays.asList(APPLE, BANANA, ALMOND));
+        assertEquals(Arrays.asList(APPLE, BANANA), uniqueStockList.removeStocks(Arrays.asList(APPLE, BANANA)));
+        assertEquals(Collections.singletonList(ALMOND), uniqueStockList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(ALMOND), uniqueStockList.findBySerialNumber(ALMOND.getSerialNumber()));
+    }
+
+    @Test
+    public void setStocksMap_singleReplacement_singleListChange() {
+        uniqueStockList.addStocks(Arrays.asList(APPLE, BANANA, ALMOND));
+        Stock editedBanana = new StockBuilder(BANANA).withQuantity("1").build();
+        List<Change> changes = new ArrayList<>();
+        uniqueStockList.asUnmodifiableObservableList().addListener((ListChangeListener<Stock>) changes::add);
+
+        assertEquals(Collections.singletonList(BANANA),
+                uniqueStockList.setStocks(Collections.singletonMap(BANANA, editedBanana)));
+        assertEquals(Arrays.asList(APPLE, editedBanana, ALMOND), uniqueStockList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(editedBanana), uniqueStockList.findBySerialNumber(BANANA.getSerialNumber()));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void setStocksMap_fewReplacements_singleListChange() {
+        List<Stock> stocks = numberedStocks(10);
+        uniqueStockList.addStocks(stocks);
+        Map<Stock, Stock> replacements = new LinkedHashMap<>();
+        List<Stock> expectedStocks = new ArrayList<>(stocks);
+        for (int i : new int[] {7, 1, 4}) {
+            Stock editedStock = new StockBuilder(stocks.get(i)).withQuantity("1").build();
+            replacements.put(stocks.get(i), editedStock);
+            expectedStocks.set(i, editedStock);
+        }
+        List<Change> changes = new ArrayList<>();
+        uniqueStockList.asUnmodifiableObservableList().addListener((ListChangeListener<Stock>) changes::add);
+
+        uniqueStockList.setStocks(replacements);
+        assertEquals(expectedStocks, uniqueStockList.asUnmodifiableObservableList());
+        assertEquals(expectedStocks, uniqueStockList.snapshot());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void setStocksMap_replacementsSwapIdentities_replacesStocks() {
+        uniqueStockList.addStocks(Arrays.asList(APPLE, BANANA));
+        Stock appleAsBanana = new StockBuilder(BANANA).withSerialNumber(APPLE.getSerialNumber().toString()).build();
+        Stock bananaAsApple = new StockBuilder(APPLE).withSerialNumber(BANANA.getSerialNumber().toString()).build();
+        Map<Stock, Stock> replacements = new LinkedHashMap<>();
+        replacements.put(APPLE, appleAsBanana);
+        replacements.put(BANANA, bananaAsApple);
+
+        uniqueStockList.setStocks(replacements);
+        assertEquals(Arrays.asList(appleAsBanana, bananaAsApple), uniqueStockList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(appleAsBanana), uniqueStockList.findBySerialNumber(APPLE.getSerialNumber()));
+        assertTrue(uniqueStockList.contains(new StockBuilder(APPLE).withSerialNumber("other1").build()));
+    }
+
+    @Test
+    public void setStocksMap_manyReplacements_replacesStocks() {
+        List<Stock> stocks = numberedStocks(40);
+        uniqueStockList.addStocks(stocks);
+        Map<Stock, Stock> replacements = new LinkedHashMap<>();
+        List<Stock> expectedStocks = new ArrayList<>(stocks);
+        for (int i = 0; i < stocks.size(); i += 2) {
+            Stock editedStock = new StockBuilder(stocks.get(i)).withQuantity("1").build();
+            replacements.put(stocks.get(i), editedStock);
+            expectedStocks.set(i, editedStock);
+        }
+
+        uniqueStockList.setStocks(replacements);
+        assertEquals(expectedStocks, uniqueStockList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(expectedStocks.get(38)),
+                uniqueStockList.findBySerialNumber(stocks.get(38).getSerialNumber()));
+    }
+
+    @Test
+    public void removeStocks_singleStock_singleListChange() {
+        uniqueStockList.addStocks(Arrays.asList(APPLE, BANANA, ALMOND));
+        List<Change> changes = new ArrayList<>();
+        uniqueStockList.asUnmodifiableObservableList().addListener((ListChangeListener<Stock>) changes::add);
+
+        assertEquals(Collections.singletonList(APPLE), uniqueStockList.removeStocks(Collections.singletonList(APPLE)));
+        assertEquals(Arrays.asList(BANANA, ALMOND), uniqueStockList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(ALMOND), uniqueStockList.findBySerialNumber(ALMOND.getSerialNumber()));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void removeStocks_fewStocks_singleListChange() {
+        List<Stock> stocks = numberedStocks(10);
+        uniqueStockList.addStocks(stocks);
+        List<Stock> expectedStocks = new ArrayList<>(stocks);
+        List<Stock> toRemove = Arrays.asList(stocks.get(6), stocks.get(2), stocks.get(3));
+        expectedStocks.removeAll(toRemove);
+        List<Change> changes = new ArrayList<>();
+        uniqueStockList.asUnmodifiableObservableList().addListener((ListChangeListener<Stock>) changes::add);
+
+        assertEquals(toRemove, uniqueStockList.removeStocks(toRemove));
+        assertEquals(expectedStocks, uniqueStockList.asUnmodifiableObservableList());
+        assertEquals(expectedStocks, uniqueStockList.snapshot());
+        assertEquals(Optional.of(stocks.get(9)), uniqueStockList.findBySerialNumber(stocks.get(9).getSerialNumber()));
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void removeStocks_manyStocks_removesStocksAndReindexes() {
+        List<Stock> stocks = numberedStocks(40);
+        uniqueStockList.addStocks(stocks);
+        List<Stock> toRemove = new ArrayList<>();
+        List<Stock> expectedStocks = new ArrayList<>();
+        for (int i = 0; i < stocks.size(); i++) {
+            (i % 2 == 0 ? toRemove : expectedStocks).add(stocks.get(i));
+        }
+
+        assertEquals(toRemove, uniqueStockList.removeStocks(toRemove));
+        assertEquals(expectedStocks, uniqueStockList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(stocks.get(39)), uniqueStockList.findBySerialNumber(stocks.get(39).getSerialNumber()));
+        assertFalse(uniqueStockList.contains(stocks.get(0)));
+    }
+
+    private static List<Stock> numberedStocks(int count) {
+        List<Stock> stocks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            stocks.add(new StockBuilder(APPLE).withName("apple " + i).withSerialNumber("ntuc" + (i + 1)).build());
+        }
+        return stocks;
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, (
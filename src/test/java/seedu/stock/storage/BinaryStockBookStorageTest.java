@@ -0,0 +1,140 @@
+package seedu.stock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.testutil.Assert.assertThrows;
+import static seedu.stock.testutil.TypicalStocks.APPLE;
+import static seedu.stock.testutil.TypicalStocks.PINEAPPLE;
+import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.stock.commons.exceptions.DataConversionException;
+import seedu.stock.model.StockBook;
+import seedu.stock.model.stock.Quantity;
+import seedu.stock.model.stock.Stock;
+import seedu.stock.testutil.StockBuilder;
+
+public class BinaryStockBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readStockBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryStockBookStorage(testFolder.resolve("missing.bin")).readStockBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveStockBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("stockbook.bin");
+        StockBook original = getTypicalStockBook();
+        original.addStock(PINEAPPLE);
+        BinaryStockBookStorage storage = new BinaryStockBookStorage(filePath);
+
+        storage.saveStockBook(original);
+        StockBook readBack = new StockBook(storage.readStockBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getStockList().get(0).getNotes(), readBack.getStockList().get(0).getNotes());
+        assertEquals(original.getStockList().get(0).getIsBookmarked(),
+                readBack.getStockList().get(0).getIsBookmarked());
+    }
+
+    @Test
+    public void readAndSaveStockBook_quantitiesWithLeadingZerosAndLargeValues_readBackExactly() throws Exception {
+        Path filePath = testFolder.resolve("stockbook.bin");
+        Stock leadingZeros = new StockBuilder(APPLE).withQuantity("007").build();
+        Stock largeQuantity = new Stock(PINEAPPLE.getName(), PINEAPPLE.getSerialNumber(), PINEAPPLE.getSource(),
+                new Quantity(String.valueOf(Integer.MAX_VALUE), "128"), PINEAPPLE.getLocation());
+        StockBook original = new StockBook();
+        original.setStocks(Arrays.asList(leadingZeros, largeQuantity));
+
+        BinaryStockBookStorage storage = new BinaryStockBookStorage(filePath);
+        storage.saveStockBook(original);
+        StockBook readBack = new StockBook(storage.readStockBook().get());
+        assertEquals("007", readBack.getStockList().get(0).getQuantity().quantity);
+        assertEquals(largeQuantity.getQuantity(), readBack.getStockList().get(1).getQuantity());
+    }
+
+    @Test
+    public void saveStockBook_typicalStockBook_smallerThanJson() throws Exception {
+        StockBook original = getTypicalStockBook();
+        Path binaryFilePath = testFolder.resolve("stockbook.bin");
+        Path jsonFilePath = testFolder.resolve("compact.json");
+        new BinaryStockBookStorage(binaryFilePath).saveStockBook(original);
+        new JsonStockBookStorage(jsonFilePath, true).saveStockBook(original);
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readStockBook_onlyJsonFileExists_migratesJsonFile() throws Exception {
+        StockBook original = getTypicalStockBook();
+        new JsonStockBookStorage(testFolder.resolve("stockbook.json")).saveStockBook(original);
+
+        BinaryStockBookStorage storage = new BinaryStockBookStorage(testFolder.resolve("stockbook.bin"));
+        StockBook readBack = new StockBook(storage.readStockBook().get());
+        assertEquals(original, readBack);
+
+        // the binary file takes over once it is saved, and can be exported back to json
+        readBack.removeStock(APPLE);
+        storage.saveStockBook(readBack);
+        assertEquals(readBack, new StockBook(storage.readStockBook().get()));
+        Path exportFilePath = testFolder.resolve("export.json");
+        new JsonStockBookStorage(exportFilePath).saveStockBook(storage.readStockBook().get());
+        assertEquals(readBack, new StockBook(new JsonStockBookStorage(exportFilePath).readStockBook().get()));
+    }
+
+    @Test
+    public void readStockBook_jsonFileWithJournalAndNotes_migratesAllData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("stockbook.json");
+        JournaledStockBookStorage jsonStorage = new JournaledStockBookStorage(jsonFilePath,
+                new JsonNoteStore(JsonNoteStore.getNoteFilePath(jsonFilePath)));
+        StockBook original = getTypicalStockBook();
+        jsonStorage.saveStockBook(original);
+        original.addStock(PINEAPPLE);
+        jsonStorage.saveStockBook(original);
+
+        BinaryStockBookStorage storage = new BinaryStockBookStorage(testFolder.resolve("stockbook.bin"));
+        storage.saveStockBook(storage.readStockBook().get());
+        Files.delete(jsonFilePath);
+        Files.delete(JournaledStockBookStorage.getJournalFilePath(jsonFilePath));
+        Files.delete(JsonNoteStore.getNoteFilePath(jsonFilePath));
+
+        StockBook readBack = new StockBook(storage.readStockBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getStockList().get(0).getNotes(), readBack.getStockList().get(0).getNotes());
+        assertEquals(PINEAPPLE.getNotes(), readBack.getStockList().get(readBack.getStockList().size() - 1).getNotes());
+    }
+
+    @Test
+    public void readStockBook_notBinaryFormatOrTruncated_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("stockbook.bin");
+        BinaryStockBookStorage storage = new BinaryStockBookStorage(filePath);
+
+        Files.writeString(filePath, "{\"stocks\": []}");
+        assertThrows(DataConversionException.class, () -> storage.readStockBook());
+
+        storage.saveStockBook(getTypicalStockBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 5));
+        assertThrows(DataConversionException.class, () -> storage.readStockBook());
+    }
+
+    @Test
+    public void readStockBook_negativeLength_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("stockbook.bin");
+        BinaryStockBookStorage storage = new BinaryStockBookStorage(filePath);
+
+        // magic number and version, then a dictionary size whose highest bit is set
+        byte[] content = {'S', 'T', 'K', 'B', 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+        Files.write(filePath, content);
+        assertThrows(DataConversionException.class, () -> storage.readStockBook());
+    }
+}
@@ -0,0 +1,245 @@
+package seedu.stock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.testutil.Assert.assertThrows;
+import static seedu.stock.testutil.TypicalStocks.APPLE;
+import static seedu.stock.testutil.TypicalStocks.BANANA;
+import static seedu.stock.testutil.TypicalStocks.PINEAPPLE;
+import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.stock.commons.exceptions.DataConversionException;
+import seedu.stock.model.ReadOnlyStockBook;
+import seedu.stock.model.StockBook;
+import seedu.stock.model.stock.Note;
+import seedu.stock.model.stock.Stock;
+import seedu.stock.testutil.StockBuilder;
+
+public class JournaledStockBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private JournaledStockBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("stockbook.json");
+        journalFilePath = JournaledStockBookStorage.getJournalFilePath(filePath);
+        storage = new JournaledStockBookStorage(filePath, 10);
+    }
+
+    @Test
+    public void readStockBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(storage.readStockBook().isPresent());
+    }
+
+    @Test
+    public void saveStockBook_firstSave_writesSnapshotOnly() throws Exception {
+        StockBook original = getTypicalStockBook();
+        storage.saveStockBook(original);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new JsonStockBookStorage(filePath).readStockBook().get());
+    }
+
+    @Test
+    public void saveStockBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        StockBook stockBook = getTypicalStockBook();
+        storage.saveStockBook(stockBook);
+        String snapshot = Files.readString(filePath);
+
+        Stock editedApple = new StockBuilder(APPLE).withQuantity("1").build().addNote(new Note("fragile"));
+        stockBook.setStock(APPLE, editedApple);
+        stockBook.removeStock(BANANA);
+        stockBook.addStock(PINEAPPLE);
+        storage.saveStockBook(stockBook.snapshot());
+
+        // the generation of the snapshot, then one record each for the deleted, updated and added stocks
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+        assertEquals(stockBook, new JournaledStockBookStorage(filePath).readStockBook().get());
+    }
+
+    @Test
+    public void saveStockBook_unchangedStockBook_nothingWritten() throws Exception {
+        StockBook stockBook = getTypicalStockBook();
+        storage.saveStockBook(stockBook);
+        storage.saveStockBook(stockBook.snapshot());
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveStockBook_reorderedStocks_writesSnapshot() throws Exception {
+        StockBook stockBook = new StockBook();
+        stockBook.setStocks(Arrays.asList(APPLE, BANANA));
+        storage.saveStockBook(stockBook);
+
+        stockBook.setStocks(Arrays.asList(BANANA, APPLE));
+        storage.saveStockBook(stockBook);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(stockBook, new JournaledStockBookStorage(filePath).readStockBook().get());
+    }
+
+    @Test
+    public void saveStockBook_journalReachesCompactionSize_compacted() throws Exception {
+        StockBook stockBook = new StockBook();
+        storage.saveStockBook(stockBook);
+
+        for (int i = 1; i < 10; i++) {
+            stockBook.addStock(new StockBuilder().withSerialNumber("test" + i).withName("stock " + i).build());
+            storage.saveStockBook(stockBook.snapshot());
+        }
+        assertEquals(1 + 9, Files.readAllLines(journalFilePath).size());
+
+        stockBook.addStock(new StockBuilder().withSerialNumber("test10").withName("stock 10").build());
+        storage.saveStockBook(stockBook.snapshot());
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(stockBook, new JournaledStockBookStorage(filePath).readStockBook().get());
+    }
+
+    @Test
+    public void readStockBook_incompleteLastRecord_ignoredAndCompactedOnNextSave() throws Exception {
+        StockBook stockBook = getTypicalStockBook();
+        storage.saveStockBook(stockBook);
+        stockBook.removeStock(APPLE);
+        storage.saveStockBook(stockBook.snapshot());
+        Files.write(journalFilePath, "{\"type\":\"put\",\"sto".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledStockBookStorage reopenedStorage = new JournaledStockBookStorage(filePath, 10);
+        assertEquals(stockBook, reopenedStorage.readStockBook().get());
+
+        stockBook.addStock(PINEAPPLE);
+        reopenedStorage.saveStockBook(stockBook.snapshot());
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(stockBook, new JournaledStockBookStorage(filePath).readStockBook().get());
+    }
+
+    @Test
+    public void readStockBook_invalidRecordBeforeLastRecord_throwsDataConversionException() throws Exception {
+        StockBook stockBook = getTypicalStockBook();
+        storage.saveStockBook(stockBook);
+        stockBook.removeStock(APPLE);
+        storage.saveStockBook(stockBook.snapshot());
+        Files.write(journalFilePath, "not a record\n{\"type\":\"delete\",\"serialNumber\":\"ntuc1\"}\n"
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () -> new JournaledStockBookStorage(filePath).readStockBook());
+    }
+
+    @Test
+    public void readStockBook_journalLeftBehindByCompaction_ignored() throws Exception {
+        StockBook stockBook = new StockBook();
+        storage.saveStockBook(stockBook);
+        for (int i = 1; i < 10; i++) {
+            stockBook.addStock(new StockBuilder().withSerialNumber("test" + i).withName("stock " + i).build());
+            storage.saveStockBook(stockBook.snapshot());
+        }
+        byte[] journalBeforeCompaction = Files.readAllBytes(journalFilePath);
+
+        // the compaction is cut off after the new snapshot is in place, so the old journal is left behind
+        stockBook.removeStock(stockBook.getStockList().get(0));
+        storage.saveStockBook(stockBook.snapshot());
+        assertFalse(Files.exists(journalFilePath));
+        Files.write(journalFilePath, journalBeforeCompaction);
+
+        JournaledStockBookStorage reopenedStorage = new JournaledStockBookStorage(filePath, 10);
+        assertEquals(stockBook, reopenedStorage.readStockBook().get());
+
+        // the stale journal is replaced on the next save
+        stockBook.addStock(PINEAPPLE);
+        reopenedStorage.saveStockBook(stockBook.snapshot());
+        assertEquals(stockBook, new JournaledStockBookStorage(filePath).readStockBook().get());
+    }
+
+    @Test
+    public void readStockBook_journalWithoutGeneration_replayedOnSnapshotWithoutGeneration() throws Exception {
+        new JsonStockBookStorage(filePath).saveStockBook(getTypicalStockBook());
+        Files.write(journalFilePath, "{\"type\":\"delete\",\"serialNumber\":\"ntuc1\"}\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        StockBook expected = getTypicalStockBook();
+        expected.removeStock(APPLE);
+        assertEquals(expected, storage.readStockBook().get());
+    }
+
+    @Test
+    public void saveStockBook_nullStockBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveStockBook(null));
+    }
+
+    @Test
+    public void saveStockBook_withNoteStore_notesOnlyInNoteStore() throws Exception {
+        JsonNoteStore noteStore = new JsonNoteStore(JsonNoteStore.getNoteFilePath(filePath));
+        new JournaledStockBookStorage(filePath, noteStore).saveStockBook(getTypicalStockBook());
+
+        // one record each for the stocks with notes
+        assertFalse(Files.readString(filePath).contains(APPLE.getNotes().get(0).value));
+        assertEquals(3, Files.readAllLines(noteStore.getNoteFilePath()).size());
+
+        JournaledStockBookStorage reopenedStorage = new JournaledStockBookStorage(filePath,
+                new JsonNoteStore(noteStore.getNoteFilePath()));
+        StockBook stockBook = new StockBook(reopenedStorage.readStockBook().get());
+        Stock readApple = stockBook.getStockList().get(1);
+        assertTrue(readApple.isNotesLoadedOnDemand());
+        assertEquals(APPLE.getNotes(), readApple.getNotes());
+
+        // only changed notes are written
+        Stock editedApple = readApple.addNote(new Note("keep cold"));
+        stockBook.setStock(readApple, editedApple);
+        stockBook.setStock(BANANA, stockBook.getStockList().get(2).withBookmark(true));
+        reopenedStorage.saveStockBook(stockBook.snapshot());
+        assertEquals(4, Files.readAllLines(noteStore.getNoteFilePath()).size());
+        assertFalse(Files.readString(journalFilePath).contains("keep cold"));
+
+        // notes of deleted stocks are removed
+        stockBook.removeStock(editedApple);
+        reopenedStorage.saveStockBook(stockBook.snapshot());
+        assertEquals(5, Files.readAllLines(noteStore.getNoteFilePath()).size());
+        assertTrue(new JsonNoteStore(noteStore.getNoteFilePath()).loadNotes(APPLE.getSerialNumber()).isEmpty());
+        assertEquals(stockBook, new JournaledStockBookStorage(filePath).readStockBook().get());
+    }
+
+    @Test
+    public void readStockBook_notesInSnapshotWithNoteStore_movedToNoteStoreOnNextSave() throws Exception {
+        new JsonStockBookStorage(filePath).saveStockBook(getTypicalStockBook());
+
+        JsonNoteStore noteStore = new JsonNoteStore(JsonNoteStore.getNoteFilePath(filePath));
+        JournaledStockBookStorage storageWithNoteStore = new JournaledStockBookStorage(filePath, noteStore);
+        StockBook stockBook = new StockBook(storageWithNoteStore.readStockBook().get());
+        assertEquals(APPLE.getNotes(), stockBook.getStockList().get(1).getNotes());
+
+        stockBook.removeStock(BANANA);
+        storageWithNoteStore.saveStockBook(stockBook.snapshot());
+        assertFalse(Files.exists(journalFilePath));
+        assertFalse(Files.readString(filePath).contains(APPLE.getNotes().get(0).value));
+        assertEquals(2, Files.readAllLines(noteStore.getNoteFilePath()).size());
+        ReadOnlyStockBook readBack = new JournaledStockBookStorage(filePath,
+                new JsonNoteStore(noteStore.getNoteFilePath())).readStockBook().get();
+        assertEquals(APPLE.getNotes(), readBack.getStockList().get(1).getNotes());
+    }
+
+    @Test
+    public void saveStockBook_withNoteStoreToOtherFile_notesIncluded() throws Exception {
+        JournaledStockBookStorage storageWithNoteStore = new JournaledStockBookStorage(filePath,
+                new JsonNoteStore(JsonNoteStore.getNoteFilePath(filePath)));
+        Path exportFilePath = testFolder.resolve("export.json");
+        storageWithNoteStore.saveStockBook(getTypicalStockBook(), exportFilePath);
+        assertTrue(Files.readString(exportFilePath).contains(APPLE.getNotes().get(0).value));
+    }
+}
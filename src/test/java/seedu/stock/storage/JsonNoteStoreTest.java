@@ -0,0 +1,161 @@
+package seedu.stock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.testutil.Assert.assertThrows;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.stock.model.stock.Note;
+import seedu.stock.model.stock.SerialNumber;
+
+public class JsonNoteStoreTest {
+
+    private static final SerialNumber SERIAL_NUMBER_A = new SerialNumber("ntuc1");
+    private static final SerialNumber SERIAL_NUMBER_B = new SerialNumber("ntuc2");
+    private static final List<Note> NOTES_A = Arrays.asList(new Note("fragile"), new Note("keep cold"));
+    private static final List<Note> NOTES_B = Collections.singletonList(new Note("received 10"));
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonNoteStore noteStore;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("stockbook.json.notes");
+        noteStore = new JsonNoteStore(filePath);
+    }
+
+    @Test
+    public void loadNotes_missingFile_noNotes() {
+        assertTrue(noteStore.loadNotes(SERIAL_NUMBER_A).isEmpty());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void loadNotes_unreadableRecord_throwsUncheckedIoException() throws Exception {
+        noteStore.saveNotes(Collections.singletonMap(SERIAL_NUMBER_A, NOTES_A));
+        JsonNoteStore reopenedNoteStore = new JsonNoteStore(filePath, 0);
+        reopenedNoteStore.loadNotes(SERIAL_NUMBER_A);
+
+        // the record is corrupted after it has been indexed, keeping its length
+        String record = Files.readAllLines(filePath).get(0);
+        Files.write(filePath, List.of("x".repeat(record.length())));
+        assertThrows(UncheckedIOException.class, () -> reopenedNoteStore.loadNotes(SERIAL_NUMBER_A));
+    }
+
+    @Test
+    public void retainNotes_unreadableRecord_recordKept() throws Exception {
+        noteStore.saveNotes(Collections.singletonMap(SERIAL_NUMBER_A, NOTES_A));
+        List<String> lines = new ArrayList<>(Files.readAllLines(filePath));
+        lines.add(0, "{\"serialNumber\":\"ntuc2\",\"notes\":[{");
+        Files.write(filePath, lines);
+
+        JsonNoteStore reopenedNoteStore = new JsonNoteStore(filePath);
+        assertEquals(NOTES_A, reopenedNoteStore.loadNotes(SERIAL_NUMBER_A));
+        reopenedNoteStore.retainNotes(new HashSet<>(List.of(SERIAL_NUMBER_B)));
+        assertEquals(lines, Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void saveNotes_thenLoadedByNewStore_sameNotes() throws Exception {
+        noteStore.saveNotes(notes(SERIAL_NUMBER_A, NOTES_A, SERIAL_NUMBER_B, NOTES_B));
+
+        JsonNoteStore reopenedNoteStore = new JsonNoteStore(filePath, 1);
+        assertEquals(NOTES_A, reopenedNoteStore.loadNotes(SERIAL_NUMBER_A));
+        assertEquals(NOTES_B, reopenedNoteStore.loadNotes(SERIAL_NUMBER_B));
+        assertEquals(NOTES_A, reopenedNoteStore.loadNotes(SERIAL_NUMBER_A));
+    }
+
+    @Test
+    public void saveNotes_unchangedNotes_nothingWritten() throws Exception {
+        noteStore.saveNotes(notes(SERIAL_NUMBER_A, NOTES_A, SERIAL_NUMBER_B, Collections.emptyList()));
+        List<Note> loadedNotes = noteStore.loadNotes(SERIAL_NUMBER_A);
+        long size = Files.size(filePath);
+
+        noteStore.saveNotes(notes(SERIAL_NUMBER_A, loadedNotes, SERIAL_NUMBER_B, Collections.emptyList()));
+        assertSame(loadedNotes, noteStore.loadNotes(SERIAL_NUMBER_A));
+        assertEquals(size, Files.size(filePath));
+    }
+
+    @Test
+    public void saveNotes_emptyNotes_notesRemoved() throws Exception {
+        noteStore.saveNotes(notes(SERIAL_NUMBER_A, NOTES_A, SERIAL_NUMBER_B, NOTES_B));
+        noteStore.saveNotes(notes(SERIAL_NUMBER_A, Collections.emptyList(), SERIAL_NUMBER_B, NOTES_A));
+
+        JsonNoteStore reopenedNoteStore = new JsonNoteStore(filePath);
+        assertTrue(reopenedNoteStore.loadNotes(SERIAL_NUMBER_A).isEmpty());
+        assertEquals(NOTES_A, reopenedNoteStore.loadNotes(SERIAL_NUMBER_B));
+    }
+
+    @Test
+    public void retainNotes_otherStocks_removedAndCompacted() throws Exception {
+        noteStore.saveNotes(notes(SERIAL_NUMBER_A, NOTES_A, SERIAL_NUMBER_B, NOTES_B));
+        noteStore.saveNotes(notes(SERIAL_NUMBER_B, NOTES_A, SERIAL_NUMBER_A, NOTES_A));
+        noteStore.retainNotes(new HashSet<>(Collections.singletonList(SERIAL_NUMBER_B)));
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertTrue(noteStore.loadNotes(SERIAL_NUMBER_A).isEmpty());
+        JsonNoteStore reopenedNoteStore = new JsonNoteStore(filePath);
+        assertTrue(reopenedNoteStore.loadNotes(SERIAL_NUMBER_A).isEmpty());
+        assertEquals(NOTES_A, reopenedNoteStore.loadNotes(SERIAL_NUMBER_B));
+    }
+
+    @Test
+    public void retainNotes_multiByteNotes_readBackAfterCompaction() throws Exception {
+        List<Note> multiByteNotes = Arrays.asList(new Note("caf\u00e9 \u2615"), new Note("\u51b7\u85cf"));
+        noteStore.saveNotes(notes(SERIAL_NUMBER_A, multiByteNotes, SERIAL_NUMBER_B, NOTES_B));
+        noteStore.saveNotes(Collections.singletonMap(SERIAL_NUMBER_B, NOTES_A));
+        noteStore.retainNotes(new HashSet<>(Arrays.asList(SERIAL_NUMBER_A, SERIAL_NUMBER_B)));
+
+        assertEquals(2, Files.readAllLines(filePath).size());
+        JsonNoteStore reopenedNoteStore = new JsonNoteStore(filePath, 0);
+        reopenedNoteStore.saveNotes(Collections.singletonMap(SERIAL_NUMBER_B, NOTES_B));
+        assertEquals(multiByteNotes, reopenedNoteStore.loadNotes(SERIAL_NUMBER_A));
+        assertEquals(NOTES_B, reopenedNoteStore.loadNotes(SERIAL_NUMBER_B));
+        reopenedNoteStore.retainNotes(new HashSet<>(Arrays.asList(SERIAL_NUMBER_A, SERIAL_NUMBER_B)));
+        assertEquals(multiByteNotes, reopenedNoteStore.loadNotes(SERIAL_NUMBER_A));
+        assertEquals(NOTES_B, reopenedNoteStore.loadNotes(SERIAL_NUMBER_B));
+    }
+
+    @Test
+    public void saveNotes_incompleteLastRecord_overwritten() throws Exception {
+        noteStore.saveNotes(notes(SERIAL_NUMBER_A, NOTES_A, SERIAL_NUMBER_B, Collections.emptyList()));
+        Files.write(filePath, "{\"serialNumber\":\"ntuc2\",\"no".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JsonNoteStore reopenedNoteStore = new JsonNoteStore(filePath);
+        assertTrue(reopenedNoteStore.loadNotes(SERIAL_NUMBER_B).isEmpty());
+        reopenedNoteStore.saveNotes(Collections.singletonMap(SERIAL_NUMBER_B, NOTES_B));
+
+        assertEquals(2, Files.readAllLines(filePath).size());
+        assertEquals(NOTES_B, new JsonNoteStore(filePath).loadNotes(SERIAL_NUMBER_B));
+    }
+
+    private static Map<SerialNumber, List<Note>> notes(SerialNumber firstSerialNumber, List<Note> firstNotes,
+                                                      SerialNumber secondSerialNumber, List<Note> secondNotes) {
+        Map<SerialNumber, List<Note>> notes = new HashMap<>();
+        notes.put(firstSerialNumber, firstNotes);
+        notes.put(secondSerialNumber, secondNotes);
+        return notes;
+    }
+}
@@ -3,14 +3,26 @@ package seedu.stock.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.stock.testutil.Assert.assertThrows;
 
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.stock.commons.exceptions.IllegalValueException;
 import seedu.stock.commons.util.JsonUtil;
 import seedu.stock.model.StockBook;
+import seedu.stock.model.stock.Name;
+import seedu.stock.model.stock.Quantity;
+import seedu.stock.model.stock.Stock;
+import seedu.stock.testutil.StockBuilder;
 import seedu.stock.testutil.TypicalStocks;
 
 public class JsonSerializableStockBookTest {
@@ -20,6 +32,9 @@ public class JsonSerializableStockBookTest {
     private static final Path INVALID_STOCK_FILE = TEST_DATA_FOLDER.resolve("invalidStockStockBook.json");
     private static final Path DUPLICATE_STOCK_FILE = TEST_DATA_FOLDER.resolve("duplicateStockStockBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalStocksFile_success() throws Exception {
         JsonSerializableStockBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_STOCKS_FILE,
@@ -44,4 +59,57 @@ public class JsonSerializableStockBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toStockBook_manyStocks_convertedInOrder() throws Exception {
+        List<Stock> stocks = new ArrayList<>();
+        List<JsonAdaptedStock> adaptedStocks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Stock stock = new StockBuilder().withName("stock " + i).withSerialNumber("test" + i).build();
+            stocks.add(stock);
+            adaptedStocks.add(new JsonAdaptedStock(stock));
+        }
+
+        StockBook expectedStockBook = new StockBook();
+        expectedStockBook.setStocks(stocks);
+        assertEquals(expectedStockBook.getStockList(),
+                JsonSerializableStockBook.toStockBook(adaptedStocks).getStockList());
+    }
+
+    @Test
+    public void toStockBook_severalInvalidStocks_firstInvalidStockReported() {
+        List<JsonAdaptedStock> adaptedStocks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String name = i == 700 ? "invalid*name" : "stock " + i;
+            String quantity = i == 900 ? "-1" : "10";
+            adaptedStocks.add(new JsonAdaptedStock(name, "test" + i, "source", quantity, "0", "location",
+                    new ArrayList<>(), false));
+        }
+        adaptedStocks.add(adaptedStocks.get(0));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                JsonSerializableStockBook.toStockBook(adaptedStocks));
+        adaptedStocks.remove(700);
+        assertThrows(IllegalValueException.class, Quantity.MESSAGE_CONSTRAINTS, () ->
+                JsonSerializableStockBook.toStockBook(adaptedStocks));
+        adaptedStocks.remove(899);
+        assertThrows(IllegalValueException.class, JsonSerializableStockBook.MESSAGE_DUPLICATE_STOCK, () ->
+                JsonSerializableStockBook.toStockBook(adaptedStocks));
+    }
+
+    @Test
+    public void readStockBook_manyStocks_convertedInOrder() throws Exception {
+        StockBook stockBook = new StockBook();
+        for (int i = 0; i < 10000; i++) {
+            stockBook.addStock(new StockBuilder().withName("stock " + i).withSerialNumber("test" + i).build());
+        }
+        Path filePath = testFolder.resolve("manyStocks.json");
+        try (OutputStream output = Files.newOutputStream(filePath);
+             JsonGenerator generator = JsonUtil.createGenerator(output, true)) {
+            JsonSerializableStockBook.writeStockBook(stockBook, generator);
+        }
+
+        try (JsonParser parser = JsonUtil.createFileParser(filePath)) {
+            assertEquals(stockBook.getStockList(), JsonSerializableStockBook.readStockBook(parser).getStockList());
+        }
+    }
 }
@@ -8,6 +8,7 @@ import static seedu.stock.testutil.TypicalStocks.PINEAPPLE;
 import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -85,6 +86,33 @@ public class JsonStockBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveStockBook_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempCompactStockBook.json");
+        StockBook original = getTypicalStockBook();
+        JsonStockBookStorage jsonStockBookStorage = new JsonStockBookStorage(filePath, true);
+
+        jsonStockBookStorage.saveStockBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new StockBook(jsonStockBookStorage.readStockBook().get()));
+    }
+
+    @Test
+    public void readStockBook_unknownFieldsAndTruncatedFile() throws Exception {
+        Path filePath = testFolder.resolve("TempUnknownFieldStockBook.json");
+        JsonStockBookStorage jsonStockBookStorage = new JsonStockBookStorage(filePath);
+        jsonStockBookStorage.saveStockBook(getTypicalStockBook());
+        String content = Files.readString(filePath).trim();
+
+        // unknown fields are skipped
+        Files.writeString(filePath, "{\"version\": {\"major\": 1}," + content.substring(1));
+        assertEquals(getTypicalStockBook(), new StockBook(jsonStockBookStorage.readStockBook().get()));
+
+        // a file cut off in the middle of the stocks is not in the correct format
+        Files.writeString(filePath, content.substring(0, content.length() / 2));
+        assertThrows(DataConversionException.class, () -> jsonStockBookStorage.readStockBook());
+    }
+
     @Test
     public void saveStockBook_nullStockBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveStockBook(null, "SomeFile.json"));
@@ -0,0 +1,134 @@
+package seedu.stock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.stock.commons.exceptions.DataConversionException;
+
+public class RecordFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("stockbook.db");
+    }
+
+    @Test
+    public void read_missingFile_noRecords() throws Exception {
+        assertTrue(new RecordFile(filePath).read().isEmpty());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void read_notRecordFile_throwsDataConversionException() throws Exception {
+        Files.write(filePath, "{\"stocks\":[]}".getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> new RecordFile(filePath).read());
+    }
+
+    @Test
+    public void commit_putsAndDeletes_readBackInOrder() throws Exception {
+        RecordFile recordFile = new RecordFile(filePath);
+        recordFile.commit(records("a", "1", "b", "2"));
+        recordFile.commit(records("a", null, "c", "3"));
+        recordFile.commit(records("b", "4"));
+
+        Map<String, byte[]> readBack = new RecordFile(filePath).read();
+        assertEquals(Arrays.asList("b", "c"), Arrays.asList(readBack.keySet().toArray()));
+        assertArrayEquals(bytes("4"), readBack.get("b"));
+        assertArrayEquals(bytes("3"), readBack.get("c"));
+    }
+
+    @Test
+    public void commit_incompleteLastTransaction_ignoredAndOverwritten() throws Exception {
+        new RecordFile(filePath).commit(records("a", "1"));
+        long length = Files.size(filePath);
+        Files.write(filePath, new byte[] {0, 0, 0, 20, 1, 2}, StandardOpenOption.APPEND);
+
+        RecordFile recordFile = new RecordFile(filePath);
+        assertEquals(Collections.singleton("a"), recordFile.read().keySet());
+        recordFile.commit(records("b", "2"));
+
+        assertEquals(Arrays.asList("a", "b"), Arrays.asList(new RecordFile(filePath).read().keySet().toArray()));
+        assertTrue(Files.size(filePath) < length * 2);
+    }
+
+    @Test
+    public void commit_corruptedLastTransaction_ignored() throws Exception {
+        RecordFile recordFile = new RecordFile(filePath);
+        recordFile.commit(records("a", "1"));
+        recordFile.commit(records("a", "2"));
+        byte[] content = Files.readAllBytes(filePath);
+        content[content.length - 1] = '3';
+        Files.write(filePath, content);
+
+        assertArrayEquals(bytes("1"), new RecordFile(filePath).read().get("a"));
+    }
+
+    @Test
+    public void commit_corruptedTransactionBeforeLast_throwsDataConversionException() throws Exception {
+        RecordFile recordFile = new RecordFile(filePath);
+        recordFile.commit(records("a", "1"));
+        recordFile.commit(records("a", "2"));
+        byte[] corruptedContent = Files.readAllBytes(filePath);
+        corruptedContent[corruptedContent.length - 1] = '3';
+        recordFile.commit(records("a", "4"));
+        long length = Files.size(filePath);
+        byte[] content = Files.readAllBytes(filePath);
+        System.arraycopy(corruptedContent, 0, content, 0, corruptedContent.length);
+        Files.write(filePath, content);
+
+        RecordFile corruptedFile = new RecordFile(filePath);
+        assertThrows(DataConversionException.class, corruptedFile::read);
+        assertThrows(DataConversionException.class, () -> corruptedFile.commit(records("b", "5")));
+        assertEquals(length, Files.size(filePath));
+    }
+
+    @Test
+    public void rewrite_replacedRecords_onlyLatestRecordsKept() throws Exception {
+        RecordFile recordFile = new RecordFile(filePath);
+        recordFile.commit(records("a", "1", "b", "2"));
+        recordFile.commit(records("a", "3"));
+        long length = Files.size(filePath);
+
+        recordFile.rewrite(new RecordFile(filePath).read());
+        assertTrue(Files.size(filePath) < length);
+        assertFalse(recordFile.isCompactionDue());
+        recordFile.commit(records("c", "4"));
+
+        Map<String, byte[]> readBack = new RecordFile(filePath).read();
+        assertEquals(Arrays.asList("a", "b", "c"), Arrays.asList(readBack.keySet().toArray()));
+        assertArrayEquals(bytes("3"), readBack.get("a"));
+    }
+
+    private static Map<String, byte[]> records(String... keysAndValues) {
+        Map<String, byte[]> records = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            records.put(keysAndValues[i], keysAndValues[i + 1] == null ? null : bytes(keysAndValues[i + 1]));
+        }
+        return records;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.stock.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.stock.testutil.TypicalSerialNumberSets.getTypicalSerialNumberSetsBook;
+import static seedu.stock.testutil.TypicalStocks.APPLE;
+import static seedu.stock.testutil.TypicalStocks.PINEAPPLE;
+import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.stock.model.SerialNumberSetsBook;
+import seedu.stock.model.StockBook;
+import seedu.stock.model.stock.Stock;
+import seedu.stock.testutil.SerialNumberSetBuilder;
+import seedu.stock.testutil.StockBuilder;
+
+public class RecordStockBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private RecordStockBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("stockbook.db");
+        storage = new RecordStockBookStorage(filePath);
+    }
+
+    @Test
+    public void isRecordFilePath() {
+        assertTrue(RecordStockBookStorage.isRecordFilePath(filePath));
+        assertFalse(RecordStockBookStorage.isRecordFilePath(testFolder.resolve("stockbook.json")));
+    }
+
+    @Test
+    public void readBooks_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readStockBook().isPresent());
+        assertFalse(storage.readSerialNumberSetsBook().isPresent());
+    }
+
+    @Test
+    public void saveBooks_thenReadByNewStorage_sameBooks() throws Exception {
+        StockBook stockBook = getTypicalStockBook();
+        SerialNumberSetsBook serialNumberSetsBook = getTypicalSerialNumberSetsBook();
+        storage.saveBooks(stockBook, serialNumberSetsBook);
+
+        RecordStockBookStorage reopenedStorage = new RecordStockBookStorage(filePath);
+        StockBook readBack = new StockBook(reopenedStorage.readStockBook().get());
+        assertEquals(stockBook, readBack);
+        assertEquals(stockBook.getStockList().get(1).getNotes(), readBack.getStockList().get(1).getNotes());
+        assertEquals(serialNumberSetsBook, reopenedStorage.readSerialNumberSetsBook().get());
+    }
+
+    @Test
+    public void saveBooks_oneChangedStock_onlyChangedRecordsAppended() throws Exception {
+        StockBook stockBook = getTypicalStockBook();
+        SerialNumberSetsBook serialNumberSetsBook = getTypicalSerialNumberSetsBook();
+        storage.saveBooks(stockBook, serialNumberSetsBook);
+        long length = Files.size(filePath);
+
+        Stock updatedApple = new StockBuilder(APPLE).withQuantity("1").build();
+        stockBook.setStock(APPLE, updatedApple);
+        storage.saveBooks(stockBook, serialNumberSetsBook);
+        long appendedLength = Files.size(filePath) - length;
+        assertTrue(appendedLength > 0 && appendedLength < length / 2);
+
+        StockBook readBack = new StockBook(new RecordStockBookStorage(filePath).readStockBook().get());
+        assertEquals(stockBook.getStockList(), readBack.getStockList());
+        assertEquals(updatedApple.getQuantity(), readBack.getStockList().get(1).getQuantity());
+    }
+
+    @Test
+    public void saveBooks_addedStockAndSerialNumberSet_savedTogether() throws Exception {
+        StockBook stockBook = getTypicalStockBook();
+        SerialNumberSetsBook serialNumberSetsBook = getTypicalSerialNumberSetsBook();
+        storage.saveBooks(stockBook, serialNumberSetsBook);
+
+        stockBook.addStock(PINEAPPLE);
+        serialNumberSetsBook.generateAndIncrementSerialNumber(PINEAPPLE.getSource());
+        serialNumberSetsBook.addSerialNumberSet(new SerialNumberSetBuilder().withSource("sheng siong").build());
+        storage.saveBooks(stockBook, serialNumberSetsBook);
+
+        RecordStockBookStorage reopenedStorage = new RecordStockBookStorage(filePath);
+        assertEquals(stockBook, reopenedStorage.readStockBook().get());
+        assertEquals(serialNumberSetsBook, reopenedStorage.readSerialNumberSetsBook().get());
+    }
+
+    @Test
+    public void saveStockBook_deletedAndReorderedStocks_savedInOrder() throws Exception {
+        StockBook stockBook = getTypicalStockBook();
+        storage.saveStockBook(stockBook);
+
+        List<Stock> stocks = new ArrayList<>(stockBook.getStockList());
+        stocks.remove(0);
+        Collections.reverse(stocks);
+        stockBook.setStocks(stocks);
+        storage.saveStockBook(stockBook);
+
+        RecordStockBookStorage reopenedStorage = new RecordStockBookStorage(filePath);
+        assertEquals(stocks, reopenedStorage.readStockBook().get().getStockList());
+        assertTrue(reopenedStorage.readSerialNumberSetsBook().get().getSerialNumberSetsList().isEmpty());
+    }
+}
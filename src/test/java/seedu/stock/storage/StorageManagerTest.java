@@ -2,6 +2,7 @@ package seedu.stock.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.stock.testutil.TypicalSerialNumberSets.getTypicalSerialNumberSetsBook;
 import static seedu.stock.testutil.TypicalStocks.getTypicalStockBook;
 
 import java.nio.file.Path;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.stock.commons.core.GuiSettings;
 import seedu.stock.model.ReadOnlyStockBook;
+import seedu.stock.model.SerialNumberSetsBook;
 import seedu.stock.model.StockBook;
 import seedu.stock.model.UserPrefs;
 
@@ -62,6 +64,20 @@ public class StorageManagerTest {
         assertEquals(original, new StockBook(retrieved));
     }
 
+    @Test
+    public void saveBooks_booksStorage_bothBooksSavedTogether() throws Exception {
+        Path filePath = getTempFilePath("stockbook.rec");
+        StorageManager recordStorageManager = new StorageManager(new RecordStockBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        StockBook stockBook = getTypicalStockBook();
+        SerialNumberSetsBook serialNumberSetsBook = getTypicalSerialNumberSetsBook();
+        recordStorageManager.saveBooks(stockBook, serialNumberSetsBook);
+
+        RecordStockBookStorage reopenedStorage = new RecordStockBookStorage(filePath);
+        assertEquals(stockBook, new StockBook(reopenedStorage.readStockBook().get()));
+        assertEquals(serialNumberSetsBook, reopenedStorage.readSerialNumberSetsBook().get());
+    }
+
     @Test
     public void getStockBookFilePath() {
         assertNotNull(storageManager.getStockBookFilePath());
@@ -237,11 +237,7 @@ public class StockBuilder {
      * @return a stock built from the given parameters
      */
     public Stock build() {
-        Stock result = new Stock(name, serialNumber, source, quantity, location, notes);
-        if (isBookmarked) {
-            result.setBookmarked();
-        }
-        return result;
+        return new Stock(name, serialNumber, source, quantity, location, notes).withBookmark(isBookmarked);
     }
 
 }